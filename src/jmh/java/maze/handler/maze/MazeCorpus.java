@@ -0,0 +1,99 @@
+package maze.handler.maze;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import maze.model.Maze;
+import maze.model.MazeGeneration;
+
+public class MazeCorpus {
+
+    public static final int       CORPUS_SIZE = 16;
+
+    private final List<Maze>      _mazeList;
+    private final List<MazeGrid>  _gridList;
+    private final List<MazePoint> _entranceList;
+    private final List<MazePoint> _exitList;
+
+    private MazeCorpus() {
+
+        _mazeList = new ArrayList<Maze>();
+        _gridList = new ArrayList<MazeGrid>();
+        _entranceList = new ArrayList<MazePoint>();
+        _exitList = new ArrayList<MazePoint>();
+    }
+
+    public int size() {
+
+        return _mazeList.size();
+    }
+
+    public Maze maze(int index) {
+
+        return _mazeList.get(index);
+    }
+
+    public Maze[] mazeArray() {
+
+        return _mazeList.toArray(new Maze[0]);
+    }
+
+    protected MazeGrid grid(int index) {
+
+        return _gridList.get(index);
+    }
+
+    protected MazePoint entrance(int index) {
+
+        return _entranceList.get(index);
+    }
+
+    protected MazePoint exit(int index) {
+
+        return _exitList.get(index);
+    }
+
+    public static MazeCorpus with(String gridSize, double loopDensity, long seed) {
+
+        MazeCorpus mazeCorpus;
+        MazeGenerator mazeGenerator;
+        MazeGrid grid;
+        MazePoint mazePoint;
+        String[] gridArray;
+        int colMax;
+        int rowMax;
+
+        gridArray = gridSize.split("x");
+        colMax = Integer.parseInt(gridArray[0]);
+        rowMax = Integer.parseInt(gridArray[1]);
+
+        // Same seed, same corpus
+        mazeGenerator = MazeGenerator.with(new MazeGeneration(gridSize, seed, loopDensity, CORPUS_SIZE)).output();
+        mazeCorpus = new MazeCorpus();
+
+        for (Maze maze : mazeGenerator.generateMazes()) {
+
+            grid = MazeGrid.with(colMax, rowMax);
+            for (String wall : maze.getWalls()) {
+                mazePoint = MazePoint.with(wall);
+                grid.setWall(mazePoint.col(), mazePoint.row());
+            }
+
+            mazeCorpus._mazeList.add(maze);
+            mazeCorpus._gridList.add(grid);
+            mazeCorpus._entranceList.add(MazePoint.with(maze.getEntrance()));
+            for (int col = 1; col <= colMax; col++) {
+                if (grid.isWall(col, rowMax) == false) {
+                    mazeCorpus._exitList.add(new MazePoint(col, rowMax));
+                }
+            }
+        }
+
+        return mazeCorpus;
+    }
+
+    @Override
+    public String toString() {
+        return "MazeCorpus [_mazeList=" + _mazeList.size() + "]";
+    }
+}
@@ -0,0 +1,65 @@
+package maze.handler.maze;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import maze.base.RestOutput;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MazeHandlerBenchmark {
+
+    @Param({ "8x8", "16x16", "26x30" })
+    public String      gridSize;
+
+    @Param({ "0.05", "0.2" })
+    public double      loopDensity;
+
+    private MazeCorpus _mazeCorpus;
+    private int        _index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        _mazeCorpus = MazeCorpus.with(gridSize, loopDensity, 1L);
+        _index = 0;
+    }
+
+    private int nextIndex() {
+
+        // Go through the whole corpus
+        _index = (_index + 1) % _mazeCorpus.size();
+        return _index;
+    }
+
+    @Benchmark
+    public RestOutput<MazeHandler> with() {
+
+        return MazeHandler.with(_mazeCorpus.maze(nextIndex()), () -> 0, new AtomicReference<String>());
+    }
+
+    @Benchmark
+    public Optional<MazePoint> findEmptyArea() {
+
+        return MazeHandler.findEmptyArea(new AtomicInteger(0), _mazeCorpus.grid(nextIndex()));
+    }
+}
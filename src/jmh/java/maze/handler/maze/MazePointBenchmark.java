@@ -0,0 +1,42 @@
+package maze.handler.maze;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MazePointBenchmark {
+
+    private String[] _wallArray;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        // Every wall of the largest mazes in the corpus
+        _wallArray = MazeCorpus.with("26x30", 0.2, 1L).maze(0).getWalls();
+    }
+
+    @Benchmark
+    public void with(Blackhole blackhole) {
+
+        for (String wall : _wallArray) {
+            blackhole.consume(MazePoint.with(wall));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package maze.handler.maze;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MazeSolverBenchmark {
+
+    @State(Scope.Thread)
+    public static class MinState {
+
+        @Param({ "8x8", "16x16", "26x30" })
+        public String gridSize;
+
+        @Param({ "0.05", "0.2" })
+        public double loopDensity;
+
+        private MazeCorpus _mazeCorpus;
+        private int        _index;
+
+        @Setup(Level.Trial)
+        public void setup() {
+
+            _mazeCorpus = MazeCorpus.with(gridSize, loopDensity, 1L);
+            _index = 0;
+        }
+
+        protected int nextIndex() {
+
+            // Go through the whole corpus
+            _index = (_index + 1) % _mazeCorpus.size();
+            return _index;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class MaxState {
+
+        // Enumerating every path does not scale much further
+        @Param({ "5x5", "7x7", "9x9" })
+        public String gridSize;
+
+        @Param({ "0.05", "0.2" })
+        public double loopDensity;
+
+        private MazeCorpus _mazeCorpus;
+        private int        _index;
+
+        @Setup(Level.Trial)
+        public void setup() {
+
+            _mazeCorpus = MazeCorpus.with(gridSize, loopDensity, 1L);
+            _index = 0;
+        }
+
+        protected int nextIndex() {
+
+            // Go through the whole corpus
+            _index = (_index + 1) % _mazeCorpus.size();
+            return _index;
+        }
+    }
+
+    @Benchmark
+    public MazePath minMazeSolver(MinState minState) {
+
+        int index;
+
+        index = minState.nextIndex();
+
+        return new MinMazeSolver(minState._mazeCorpus.entrance(index),
+                                 minState._mazeCorpus.exit(index),
+                                 minState._mazeCorpus.grid(index)).solve();
+    }
+
+    @Benchmark
+    public MazePath breadthFirstSolver(MinState minState) {
+
+        int index;
+
+        index = minState.nextIndex();
+
+        return new BreadthFirstSolver(minState._mazeCorpus.entrance(index),
+                                      minState._mazeCorpus.exit(index),
+                                      minState._mazeCorpus.grid(index)).solve();
+    }
+
+    @Benchmark
+    public MazePath junctionMinSolver(MinState minState) {
+
+        int index;
+
+        index = minState.nextIndex();
+
+        // Building the graph is part of the cost of a first solve
+        return new JunctionMinSolver(new JunctionGraph(minState._mazeCorpus.entrance(index),
+                                                       minState._mazeCorpus.exit(index),
+                                                       minState._mazeCorpus.grid(index))).solve();
+    }
+
+    @Benchmark
+    public MazePath maxMazeSolver(MaxState maxState) {
+
+        int index;
+
+        index = maxState.nextIndex();
+
+        return new MaxMazeSolver(maxState._mazeCorpus.entrance(index),
+                                 maxState._mazeCorpus.exit(index),
+                                 maxState._mazeCorpus.grid(index)).solve();
+    }
+
+    @Benchmark
+    public MazePath boundedMaxMazeSolver(MaxState maxState) {
+
+        int index;
+
+        index = maxState.nextIndex();
+
+        return new BoundedMaxMazeSolver(maxState._mazeCorpus.entrance(index),
+                                        maxState._mazeCorpus.exit(index),
+                                        maxState._mazeCorpus.grid(index)).solve();
+    }
+
+    @Benchmark
+    public MazePath junctionMaxSolver(MaxState maxState) {
+
+        int index;
+
+        index = maxState.nextIndex();
+
+        // Building the graph is part of the cost of a first solve
+        return new JunctionMaxSolver(new JunctionGraph(maxState._mazeCorpus.entrance(index),
+                                                       maxState._mazeCorpus.exit(index),
+                                                       maxState._mazeCorpus.grid(index)),
+                                     new SolverContext()).solve();
+    }
+}
@@ -0,0 +1,59 @@
+package maze.rest;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import maze.handler.maze.MazeCorpus;
+import maze.model.Maze;
+import maze.model.MazeSolution;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RestCallBenchmark {
+
+    private Maze[]       _mazeArray;
+    private MazeSolution _mazeSolution;
+
+    @Setup(Level.Trial)
+    public void setup() {
+
+        String[] path;
+
+        // Mazes of a user as returned by GET /mazes
+        _mazeArray = MazeCorpus.with("26x30", 0.2, 1L).mazeArray();
+
+        // Long path as returned by GET /maze/{mazeId}/solution
+        path = new String[26 * 30];
+        for (int i = 0; i < path.length; i++) {
+            path[i] = Character.toString('A' + i % 26) + (1 + i / 26);
+        }
+        _mazeSolution = new MazeSolution(path, Boolean.TRUE);
+    }
+
+    @Benchmark
+    public String mazeArray() throws Exception {
+
+        return RestCall.jsonText(_mazeArray);
+    }
+
+    @Benchmark
+    public String mazeSolution() throws Exception {
+
+        return RestCall.jsonText(_mazeSolution);
+    }
+}
@@ -3,7 +3,6 @@ package maze;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.regex.Pattern;
-import java.util.stream.IntStream;
 
 public class Setup {
 
@@ -24,6 +23,8 @@ public class Setup {
     public static final String   HTML_MEDIA_TYPE          = "text/html";
     public static final String   CSS_MEDIA_TYPE           = "text/css";
     public static final String   JSON_MEDIA_TYPE          = "application/json";
+    public static final String   EVENT_STREAM_MEDIA_TYPE  = "text/event-stream";
+    public static final String   NDJSON_MEDIA_TYPE        = "application/x-ndjson";
 
     public static final Path     WEB_PATH                 = Path.of("web");
     public static final Path     LOGIN_PAGE               = WEB_PATH.resolve("login.html");
@@ -49,13 +50,93 @@ public class Setup {
     public static final Pattern  USER_PASSWORD_PATTERN    = Pattern.compile("^(?=.*[a-z])(?=.*[A-Z])(?=.*[0-9])(?=.*[!@#$%&])(?=.{8,})");
 
     // Set limits for the grid size of a maze (not necessarily a square)
-    public static final String[] MAZE_COLUMNS             = IntStream.rangeClosed(65, 90)
-                                                                     .mapToObj(Character::toString)
-                                                                     .toArray(String[]::new);
-
-    public static final int      MAZE_ROW_MAX             = 30;
+    public static final int      MAZE_COL_MAX             = 4096;
+    public static final int      MAZE_ROW_MAX             = 4096;
 
     // Set maximum amount of empty space to actually end up with a maze
     public static final int      MAZE_EMPTY_AREA_MAX      = 4;
 
+    // Fill the dead ends of a maze once before running any solver on it
+    public static final boolean  MAZE_DEAD_END_FILLING    = true;
+
+    // Solve the Min Path over the corridors between junctions rather than cell by cell
+    public static final boolean  MAZE_JUNCTION_GRAPH      = true;
+
+    // Compute the Min Path with a breadth first search rather than the backtracking solver
+    public static final boolean  MAZE_MIN_PATH_BFS        = true;
+
+    // Compute the Max Path with branch and bound pruning rather than enumerating every path
+    public static final boolean  MAZE_MAX_PATH_BOUNDED    = true;
+
+    // Solve the Max Path separately in each block between articulation points of the maze
+    public static final boolean  MAZE_MAX_PATH_BLOCKS     = true;
+
+    // Pick the engine searching the Max Path of each block, as only one of them runs.
+    // Over the corridors between junctions, a block is searched on its solver thread with far fewer steps per path.
+    // Cell by cell, a block is searched by the bounded solver, or split across fork/join workers once large enough.
+    public static final boolean  MAZE_MAX_PATH_JUNCTION   = true;
+
+    // Split the cell by cell Max Path search of large blocks into fork/join tasks
+    public static final boolean  MAZE_MAX_PATH_PARALLEL   = true;
+
+    // Fork/join workers only run for the cell by cell Max Path search
+    public static final boolean  MAZE_MAX_PATH_FORK_JOIN  = (MAZE_MAX_PATH_JUNCTION == false) && MAZE_MAX_PATH_PARALLEL;
+
+    // Set the workers searching the Max Path in parallel, sharing the processors with the solver threads
+    public static final int      MAZE_SOLVER_PARALLELISM  = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    // Set the least amount of grid cells for a block to be searched in parallel
+    public static final int      MAZE_PARALLEL_CELL_MIN   = 64;
+
+    // Set the default solver wall time to answer with the best path found before the REST call times out
+    public static final Duration MAZE_SOLVER_TIME_OUT     = REST_CALL_TIME_OUT.minusSeconds(15);
+
+    // Set the threads solving mazes, apart from the threads handling the requests.
+    // Processors are set aside for the parallel search workers only when they run.
+    public static final int      MAZE_SOLVER_THREADS      = MAZE_MAX_PATH_FORK_JOIN
+                    ? Math.max(1, Runtime.getRuntime().availableProcessors() - MAZE_SOLVER_PARALLELISM)
+                    : Runtime.getRuntime().availableProcessors();
+
+    // Set the most solves waiting for a solver thread before new ones are rejected as not available
+    public static final int      MAZE_SOLVER_QUEUE_SIZE   = 64;
+
+    // Set the most mazes whose paths are kept, shared by identical mazes of every user
+    public static final int      MAZE_SOLUTION_CACHE_SIZE = 10000;
+
+    // Set the most cells of the distance fields kept for the hints, as much as two of the largest grids
+    public static final long     MAZE_DISTANCE_CELL_MAX   = 2L * (MAZE_COL_MAX + 2) * (MAZE_ROW_MAX + 2);
+
+    // Solve new and restored mazes in the background before their first solution request
+    public static final boolean  MAZE_PRESOLVE            = true;
+
+    // Set the low priority workers solving mazes in the background
+    public static final int      MAZE_PRESOLVE_THREADS    = 1;
+
+    // Set the most mazes waiting to be solved in the background, dropping the least recent ones
+    public static final int      MAZE_PRESOLVE_QUEUE_SIZE = 1000;
+
+    // Set the budget of each solve in the background
+    public static final Duration MAZE_PRESOLVE_TIME_OUT   = Duration.ofSeconds(10);
+
+    // Set the most mazes solved by a single batch request
+    public static final int      MAZE_BATCH_SIZE_MAX      = 1000;
+
+    // Set the solves of a batch request running at once, leaving solver threads to the other requests
+    public static final int      MAZE_BATCH_PARALLELISM   = Math.max(1, MAZE_SOLVER_THREADS / 2);
+
+    // Set the mazes of an import validated at once
+    public static final int      MAZE_IMPORT_PARALLELISM  = Runtime.getRuntime().availableProcessors();
+
+    // Set the most mazes of an import stored by a single INSERT
+    public static final int      MAZE_IMPORT_BATCH_SIZE   = 100;
+
+    // Set the least time between two progress events streamed to the watchers of a solve
+    public static final Duration MAZE_PROGRESS_INTERVAL   = Duration.ofMillis(250);
+
+    // Set the most mazes generated by a single request
+    public static final int      MAZE_GENERATION_MAX      = 1000;
+
+    // Set the most cells generated by a single request, as much as the largest grid
+    public static final long     MAZE_GENERATION_CELL_MAX = (long) MAZE_COL_MAX * MAZE_ROW_MAX;
+
 }
@@ -213,6 +213,18 @@ public class Api {
         return Executors.newCachedThreadPool(new BaseThreadFactory(poolName));
     }
 
+    public static ExecutorService fixedExecutorService(String poolName, int threadCount) {
+
+        // At most this many tasks run at once, the others wait in line
+        return Executors.newFixedThreadPool(threadCount, new BaseThreadFactory(poolName));
+    }
+
+    public static ExecutorService singleExecutorService(String poolName) {
+
+        // Tasks run one after the other in submission order
+        return Executors.newSingleThreadExecutor(new BaseThreadFactory(poolName));
+    }
+
     public static URI URI(String uri) {
 
         try {
@@ -1,26 +1,43 @@
 package maze.handler.core;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import maze.Setup;
 import maze.base.Api;
 import maze.base.RestOutput;
 import maze.base.Result;
+import maze.handler.maze.MazeGenerator;
 import maze.handler.maze.MazeHandler;
+import maze.handler.maze.SolverBudget;
 import maze.handler.session.SessionHandler;
 import maze.handler.user.UserHandler;
 import maze.http.HttpService;
 import maze.http.servlet.DashboardServlet;
 import maze.http.servlet.LoginServlet;
 import maze.model.Maze;
+import maze.model.MazeBatch;
+import maze.model.MazeBatchSolution;
 import maze.model.MazeCreation;
+import maze.model.MazeDistance;
+import maze.model.MazeGeneration;
+import maze.model.MazeHint;
+import maze.model.MazeImport;
+import maze.model.MazeProgress;
 import maze.model.MazeSolution;
+import maze.model.SolverMetrics;
 import maze.model.User;
 import maze.model.UserToken;
 import maze.rest.RestService;
@@ -30,12 +47,18 @@ import maze.store.user.UserRecord;
 
 public class CoreHandler {
 
+    // Writes the solved paths one after the other, so that the latest ones are stored last
+    private static final ExecutorService                       StoreExecutor = Api.singleExecutorService("store");
+
     private final ConcurrentHashMap<String, UserHandler>       _userHandlerMap;
     private final ConcurrentHashMap<UserToken, SessionHandler> _sessionHandlerMap;
     private final StoreService                                 _storeService;
     private final RestService                                  _restService;
     private final HttpService                                  _httpService;
 
+    // Validates the mazes of an import in parallel
+    private final ExecutorService                              _importExecutor;
+
     private CoreHandler(URI databaseURI, Optional<String> webPathOptional, Optional<Integer> webPortOptional) {
 
         _userHandlerMap = new ConcurrentHashMap<String, UserHandler>();
@@ -47,6 +70,12 @@ public class CoreHandler {
                                        restService(),
                                        List.of(new LoginServlet(this), new DashboardServlet(this)),
                                        Setup.WEB_PATH);
+        _importExecutor = Api.fixedExecutorService("import", Setup.MAZE_IMPORT_PARALLELISM);
+    }
+
+    private ExecutorService importExecutor() {
+
+        return _importExecutor;
     }
 
     private ConcurrentHashMap<String, UserHandler> userHandlerMap() {
@@ -89,6 +118,76 @@ public class CoreHandler {
         return storeService().storeMazeRecord(mazeRecord);
     }
 
+    private RestOutput<Result> storeMazePaths(String userId, MazeHandler mazeHandler) {
+
+        RestOutput<MazeRecord> mazeRecordOutput;
+        MazeRecord mazeRecord;
+        RestOutput<Result> resultOutput;
+
+        // Build the MazeRecord with the paths solved by now, leaving out the walls stored with the maze
+        mazeRecordOutput = mazeHandler.buildPathRecord(userId);
+        if (RestOutput.isNOK(mazeRecordOutput)) {
+            Api.error("buildPathRecord to storeMazePaths is NOT OK", mazeRecordOutput, userId, mazeHandler, this);
+            return RestOutput.of(mazeRecordOutput);
+        }
+        mazeRecord = mazeRecordOutput.output();
+
+        resultOutput = storeService().storeMazePaths(mazeRecord);
+        if (RestOutput.isNOK(resultOutput)) {
+            Api.error("storeMazePaths is NOT OK", resultOutput, mazeRecord, this);
+            return RestOutput.of(resultOutput);
+        }
+
+        return RestOutput.OK;
+    }
+
+    private void scheduleMazePaths(String userId, MazeHandler mazeHandler) {
+
+        // Keep the solver thread free of any store access
+        StoreExecutor.execute(() -> storeMazePaths(userId, mazeHandler));
+    }
+
+    private RestOutput<Result> storeMazeWalls(UserHandler userHandler, Integer mazeId) {
+
+        RestOutput<Maze> mazeOutput;
+        Maze maze;
+        MazeRecord mazeRecord;
+        RestOutput<Result> resultOutput;
+
+        // Rewrite the list of walls of a maze stored before the wall bitmap into the bitmap
+        mazeOutput = userHandler.retrieveMaze(mazeId, Boolean.TRUE);
+        if (RestOutput.isNOK(mazeOutput)) {
+            Api.error("retrieveMaze to storeMazeWalls is NOT OK", mazeOutput, userHandler, mazeId, this);
+            return RestOutput.of(mazeOutput);
+        }
+        maze = mazeOutput.output();
+
+        mazeRecord = new MazeRecord(userHandler.userId(),
+                                    maze.getMazeId(),
+                                    maze.getEntrance(),
+                                    maze.getGridSize(),
+                                    new String[0],
+                                    maze.getWallBitmap(),
+                                    MazeRecord.PATH_UNSOLVED,
+                                    new String[0],
+                                    MazeRecord.PATH_UNSOLVED,
+                                    new String[0]);
+
+        resultOutput = storeService().storeMazeWalls(mazeRecord);
+        if (RestOutput.isNOK(resultOutput)) {
+            Api.error("storeMazeWalls is NOT OK", resultOutput, mazeRecord, this);
+            return RestOutput.of(resultOutput);
+        }
+
+        return RestOutput.OK;
+    }
+
+    private void scheduleMazeWalls(UserHandler userHandler, Integer mazeId) {
+
+        // Keep the restart free of any rewrite
+        StoreExecutor.execute(() -> storeMazeWalls(userHandler, mazeId));
+    }
+
     private RestOutput<List<MazeRecord>> loadMazeRecords() {
 
         return storeService().loadMazeRecords();
@@ -124,6 +223,13 @@ public class CoreHandler {
         // Remove any session which has timed out
         sessionHandlerMap().values().removeIf(SessionHandler::hasTimedOut);
 
+        // Report how well identical mazes share their paths, and how much the hints hold
+        Api.info("Solution caches", MazeHandler.minPathCache(), MazeHandler.maxPathCache(), MazeHandler.presolvePool());
+        Api.info("Distance fields", MazeHandler.distanceFieldCache());
+
+        // Report how busy the solver threads are
+        Api.info("Solver scheduler", MazeHandler.solverScheduler().metrics());
+
         // Reschedule the monitoring later on
         CompletableFuture.runAsync(this::monitorSessionHandlers,
                                    CompletableFuture.delayedExecutor(Setup.SESSION_TIME_OUT.toMillis(),
@@ -298,13 +404,16 @@ public class CoreHandler {
         RestOutput<MazeRecord> mazeRecordOutput;
         MazeRecord mazeRecord;
 
-        if (Api.isNull(userHandler, maze.getEntrance(), maze.getGridSize(), maze.getWalls(), addToStore)) {
+        if (Api.isNull(userHandler, maze.getEntrance(), maze.getGridSize(), addToStore)) {
+            return RestOutput.ok(new MazeCreation("Attributes to create the maze are missing."));
+        }
+        if ((maze.getWalls() == null) && (maze.getWallBitmap() == null)) {
             return RestOutput.ok(new MazeCreation("Attributes to create the maze are missing."));
         }
 
         errorReference = new AtomicReference<String>(null);
 
-        mazeHandlerOutput = userHandler.addMaze(maze, errorReference);
+        mazeHandlerOutput = userHandler.createMaze(maze, errorReference);
         if (RestOutput.isBadRequest(mazeHandlerOutput)) {
             error = errorReference.get();
             if (error == null) {
@@ -314,7 +423,7 @@ public class CoreHandler {
             return RestOutput.ok(new MazeCreation(error));
         }
         if (RestOutput.isNOK(mazeHandlerOutput)) {
-            Api.error("addMaze is NOT OK", mazeHandlerOutput, userHandler, maze, errorReference, this);
+            Api.error("createMaze to addMaze is NOT OK", mazeHandlerOutput, userHandler, maze, errorReference, this);
             return RestOutput.of(mazeHandlerOutput);
         }
         mazeHandler = mazeHandlerOutput.output();
@@ -337,6 +446,16 @@ public class CoreHandler {
             }
         }
 
+        // Only a stored maze is added to the user, so that every maze solved is also persisted
+        resultOutput = userHandler.registerMaze(mazeHandler);
+        if (RestOutput.isNOK(resultOutput)) {
+            Api.error("registerMaze to addMaze is NOT OK", resultOutput, userHandler, maze, this);
+            return RestOutput.ok(new MazeCreation("Created maze could not be added."));
+        }
+
+        // Store each path once solved. The record exists by now.
+        mazeHandler.listenPaths(solvedHandler -> scheduleMazePaths(userHandler.userId(), solvedHandler));
+
         // Return a successful maze creation
         return RestOutput.ok(new MazeCreation(mazeHandler.mazeId()));
     }
@@ -346,7 +465,7 @@ public class CoreHandler {
         RestOutput<UserHandler> userHandlerOutput;
         UserHandler userHandler;
 
-        if (Api.isNull(userToken, maze.getEntrance(), maze.getGridSize(), maze.getWalls())) {
+        if (Api.isNull(userToken, maze.getEntrance(), maze.getGridSize())) {
             return RestOutput.badRequest();
         }
 
@@ -361,12 +480,224 @@ public class CoreHandler {
         return addMaze(userHandler, maze, Boolean.TRUE);
     }
 
-    public RestOutput<Maze> retrieveMaze(UserToken userToken, Integer mazeId) {
+    private RestOutput<MazeHandler> importMaze(UserHandler userHandler,
+                                               RestOutput<Maze> mazeOutput,
+                                               AtomicReference<String> errorReference) {
+
+        Maze maze;
+
+        if (RestOutput.isNOK(mazeOutput)) {
+            errorReference.set("Maze is not a well formed JSON maze.");
+            return RestOutput.badRequest();
+        }
+        maze = mazeOutput.output();
+
+        if ((maze.getEntrance() == null)
+            || (maze.getGridSize() == null)
+            || ((maze.getWalls() == null) && (maze.getWallBitmap() == null))) {
+            errorReference.set("Attributes to create the maze are missing.");
+            return RestOutput.badRequest();
+        }
+
+        // Validated only. The maze is added to the user once stored.
+        return userHandler.createMaze(maze, errorReference);
+    }
+
+    private CompletableFuture<RestOutput<MazeHandler>> importMazeAsync(UserHandler userHandler,
+                                                                       RestOutput<Maze> mazeOutput,
+                                                                       AtomicReference<String> errorReference) {
+
+        Supplier<RestOutput<MazeHandler>> importer;
+
+        importer = () -> importMaze(userHandler, mazeOutput, errorReference);
+
+        return CompletableFuture.supplyAsync(importer, importExecutor())
+                                .exceptionally(throwable -> {
+                                    Api.error(throwable, "importMaze failed. INTERNAL FAILURE", userHandler, this);
+                                    return RestOutput.internalFailure();
+                                });
+    }
+
+    private boolean[] storeMazeRecords(List<MazeRecord> mazeRecordList) {
+
+        boolean[] storedArray;
+        RestOutput<Result> resultOutput;
+
+        storedArray = new boolean[mazeRecordList.size()];
+        if (mazeRecordList.isEmpty()) {
+            return storedArray;
+        }
+
+        // Store every record at once
+        resultOutput = storeService().storeMazeRecords(mazeRecordList);
+        if (RestOutput.isOK(resultOutput)) {
+            Arrays.fill(storedArray, true);
+            return storedArray;
+        }
+        Api.error("storeMazeRecords is NOT OK. Records stored one by one", resultOutput, mazeRecordList.size(), this);
+
+        // A single record failing rejects them all at once. Store each one on its own to keep the others.
+        for (int i = 0; i < storedArray.length; i++) {
+            storedArray[i] = RestOutput.isOK(storeMazeRecord(mazeRecordList.get(i)));
+        }
+        return storedArray;
+    }
+
+    private List<MazeImport> importBatch(UserHandler userHandler,
+                                         int firstIndex,
+                                         List<RestOutput<Maze>> mazeOutputList) {
+
+        List<AtomicReference<String>> errorReferenceList;
+        List<CompletableFuture<RestOutput<MazeHandler>>> futureList;
+        AtomicReference<String> errorReference;
+        MazeImport[] mazeImportArray;
+        List<Integer> rowList;
+        List<MazeHandler> mazeHandlerList;
+        RestOutput<MazeHandler> mazeHandlerOutput;
+        List<MazeRecord> mazeRecordList;
+        RestOutput<MazeRecord> mazeRecordOutput;
+        boolean[] storedArray;
+        RestOutput<Result> resultOutput;
+        MazeHandler mazeHandler;
+        int row;
+        String error;
+
+        // Validate the mazes of this batch in parallel
+        errorReferenceList = new ArrayList<AtomicReference<String>>();
+        futureList = new ArrayList<CompletableFuture<RestOutput<MazeHandler>>>();
+        for (int i = 0; i < mazeOutputList.size(); i++) {
+
+            errorReference = new AtomicReference<String>(null);
+            errorReferenceList.add(errorReference);
+            futureList.add(importMazeAsync(userHandler, mazeOutputList.get(i), errorReference));
+        }
+
+        // Outcome of each maze of this batch, in the order of the payload
+        mazeImportArray = new MazeImport[mazeOutputList.size()];
+
+        rowList = new ArrayList<Integer>();
+        mazeHandlerList = new ArrayList<MazeHandler>();
+        mazeRecordList = new ArrayList<MazeRecord>();
+        for (int i = 0; i < futureList.size(); i++) {
+
+            mazeHandlerOutput = futureList.get(i).join();
+            if (RestOutput.isNOK(mazeHandlerOutput)) {
+                error = errorReferenceList.get(i).get();
+                if (error == null) {
+                    error = "Maze could not be imported.";
+                }
+                mazeImportArray[i] = new MazeImport(firstIndex + i, error);
+                continue;
+            }
+
+            mazeRecordOutput = mazeHandlerOutput.output().buildMazeRecord(userHandler.userId());
+            if (RestOutput.isNOK(mazeRecordOutput)) {
+                Api.error("buildMazeRecord to importBatch is NOT OK", mazeRecordOutput, userHandler, this);
+                error = "Imported maze could not be converted into a record.";
+                mazeImportArray[i] = new MazeImport(firstIndex + i, error);
+                continue;
+            }
+
+            rowList.add(i);
+            mazeHandlerList.add(mazeHandlerOutput.output());
+            mazeRecordList.add(mazeRecordOutput.output());
+        }
+
+        storedArray = storeMazeRecords(mazeRecordList);
+
+        for (int i = 0; i < rowList.size(); i++) {
+
+            row = rowList.get(i);
+            mazeHandler = mazeHandlerList.get(i);
+
+            if (storedArray[i] == false) {
+                mazeImportArray[row] = new MazeImport(firstIndex + row, "Imported maze could not be stored.");
+                continue;
+            }
+
+            // Only a stored maze is added to the user, so that every maze solved is also persisted
+            resultOutput = userHandler.registerMaze(mazeHandler);
+            if (RestOutput.isNOK(resultOutput)) {
+                Api.error("registerMaze to importBatch is NOT OK", resultOutput, mazeHandler, userHandler, this);
+                mazeImportArray[row] = new MazeImport(firstIndex + row, "Imported maze could not be added.");
+                continue;
+            }
+
+            // Store each path once solved. The record exists by now.
+            mazeHandler.listenPaths(solvedHandler -> scheduleMazePaths(userHandler.userId(), solvedHandler));
+
+            mazeImportArray[row] = new MazeImport(firstIndex + row, mazeHandler.mazeId());
+        }
+
+        return Arrays.asList(mazeImportArray);
+    }
+
+    public RestOutput<MazeImport> importMazes(UserToken userToken,
+                                              Iterator<RestOutput<Maze>> mazeIterator,
+                                              Predicate<MazeImport> watcher) {
 
         RestOutput<UserHandler> userHandlerOutput;
         UserHandler userHandler;
+        List<RestOutput<Maze>> mazeOutputList;
+        List<MazeImport> mazeImportList;
+        int index;
+        int accepted;
+        int rejected;
 
-        if (Api.isNull(userToken, mazeId)) {
+        if (Api.isNull(userToken, mazeIterator, watcher)) {
+            return RestOutput.badRequest();
+        }
+
+        // Find the UserHandler from the UserToken once for the whole import
+        userHandlerOutput = findUserHandler(userToken);
+        if (RestOutput.isNOK(userHandlerOutput)) {
+            Api.error("SessionHandler to importMazes is NOT OK", userHandlerOutput, userToken, this);
+            return RestOutput.of(userHandlerOutput);
+        }
+        userHandler = userHandlerOutput.output();
+
+        index = 0;
+        accepted = 0;
+        rejected = 0;
+        while (mazeIterator.hasNext()) {
+
+            // Read a batch of mazes only, the rest of the payload is not read yet
+            mazeOutputList = new ArrayList<RestOutput<Maze>>();
+            while ((mazeOutputList.size() < Setup.MAZE_IMPORT_BATCH_SIZE) && mazeIterator.hasNext()) {
+                mazeOutputList.add(mazeIterator.next());
+            }
+
+            mazeImportList = importBatch(userHandler, index, mazeOutputList);
+            index += mazeOutputList.size();
+
+            for (MazeImport mazeImport : mazeImportList) {
+                if (mazeImport.getError() == null) {
+                    accepted++;
+                } else {
+                    rejected++;
+                }
+            }
+
+            for (MazeImport mazeImport : mazeImportList) {
+                if (watcher.test(mazeImport) == false) {
+                    // Nobody is told any more. Leave the rest of the payload unread.
+                    Api.info("Mazes import stopped for " + userHandler.userId(), index, accepted, rejected, this);
+                    return RestOutput.ok(new MazeImport(accepted, rejected, "Import stopped before its end."));
+                }
+            }
+        }
+
+        Api.info("Mazes imported for " + userHandler.userId(), accepted, rejected, this);
+
+        return RestOutput.ok(new MazeImport(accepted, rejected, null));
+    }
+
+    public RestOutput<Maze> retrieveMaze(UserToken userToken, Integer mazeId, Boolean wallBitmap) {
+
+        RestOutput<UserHandler> userHandlerOutput;
+        UserHandler userHandler;
+
+        if (Api.isNull(userToken, mazeId, wallBitmap)) {
             return RestOutput.badRequest();
         }
 
@@ -378,15 +709,57 @@ public class CoreHandler {
         }
         userHandler = userHandlerOutput.output();
 
-        return userHandler.retrieveMaze(mazeId);
+        return userHandler.retrieveMaze(mazeId, wallBitmap);
     }
 
-    public RestOutput<Maze[]> retrieveMazes(UserToken userToken) {
+    public RestOutput<CompletableFuture<MazeDistance>> retrieveDistance(UserToken userToken,
+                                                                        Integer mazeId,
+                                                                        String cell) {
 
         RestOutput<UserHandler> userHandlerOutput;
         UserHandler userHandler;
 
-        if (Api.isNull(userToken)) {
+        if (Api.isNull(userToken, mazeId, cell)) {
+            return RestOutput.badRequest();
+        }
+
+        // Find the UserHandler from the UserToken
+        userHandlerOutput = findUserHandler(userToken);
+        if (RestOutput.isNOK(userHandlerOutput)) {
+            Api.error("SessionHandler to retrieveDistance is NOT OK", userHandlerOutput, userToken, mazeId, this);
+            return RestOutput.of(userHandlerOutput);
+        }
+        userHandler = userHandlerOutput.output();
+
+        return userHandler.retrieveDistance(mazeId, cell);
+    }
+
+    public RestOutput<CompletableFuture<MazeHint>> retrieveHint(UserToken userToken, Integer mazeId, String cell) {
+
+        RestOutput<UserHandler> userHandlerOutput;
+        UserHandler userHandler;
+
+        if (Api.isNull(userToken, mazeId, cell)) {
+            return RestOutput.badRequest();
+        }
+
+        // Find the UserHandler from the UserToken
+        userHandlerOutput = findUserHandler(userToken);
+        if (RestOutput.isNOK(userHandlerOutput)) {
+            Api.error("SessionHandler to retrieveHint is NOT OK", userHandlerOutput, userToken, mazeId, this);
+            return RestOutput.of(userHandlerOutput);
+        }
+        userHandler = userHandlerOutput.output();
+
+        return userHandler.retrieveHint(mazeId, cell);
+    }
+
+    public RestOutput<Maze[]> retrieveMazes(UserToken userToken, Boolean wallBitmap) {
+
+        RestOutput<UserHandler> userHandlerOutput;
+        UserHandler userHandler;
+
+        if (Api.isNull(userToken, wallBitmap)) {
             return RestOutput.badRequest();
         }
 
@@ -398,15 +771,62 @@ public class CoreHandler {
         }
         userHandler = userHandlerOutput.output();
 
-        return userHandler.retrieveMazes();
+        return userHandler.retrieveMazes(wallBitmap);
     }
 
-    public RestOutput<MazeSolution> solveMinPath(UserToken userToken, Integer mazeId) {
+    public RestOutput<Maze[]> generateMazes(UserToken userToken, MazeGeneration mazeGeneration) {
+
+        RestOutput<UserHandler> userHandlerOutput;
+        RestOutput<MazeGenerator> mazeGeneratorOutput;
+
+        if (Api.isNull(userToken, mazeGeneration)) {
+            return RestOutput.badRequest();
+        }
+
+        // Only a logged in user may generate mazes
+        userHandlerOutput = findUserHandler(userToken);
+        if (RestOutput.isNOK(userHandlerOutput)) {
+            Api.error("SessionHandler to generateMazes is NOT OK", userHandlerOutput, userToken, mazeGeneration, this);
+            return RestOutput.of(userHandlerOutput);
+        }
+
+        mazeGeneratorOutput = MazeGenerator.with(mazeGeneration);
+        if (RestOutput.isNOK(mazeGeneratorOutput)) {
+            Api.error("MazeGenerator to generateMazes is NOT OK", mazeGeneratorOutput, mazeGeneration, this);
+            return RestOutput.of(mazeGeneratorOutput);
+        }
+
+        return RestOutput.ok(mazeGeneratorOutput.output().generateMazes());
+    }
+
+    public RestOutput<SolverMetrics> solverMetrics(UserToken userToken) {
+
+        RestOutput<UserHandler> userHandlerOutput;
+
+        if (Api.isNull(userToken)) {
+            return RestOutput.badRequest();
+        }
+
+        // Only a logged in user may read the metrics
+        userHandlerOutput = findUserHandler(userToken);
+        if (RestOutput.isNOK(userHandlerOutput)) {
+            Api.error("SessionHandler to solverMetrics is NOT OK", userHandlerOutput, userToken, this);
+            return RestOutput.of(userHandlerOutput);
+        }
+
+        return RestOutput.ok(MazeHandler.solverScheduler().metrics());
+    }
+
+    public RestOutput<CompletableFuture<MazeSolution>> solveMinPath(UserToken userToken,
+                                                                    Integer mazeId,
+                                                                    SolverBudget solverBudget,
+                                                                    Boolean moves,
+                                                                    Executor executor) {
 
         RestOutput<UserHandler> userHandlerOutput;
         UserHandler userHandler;
 
-        if (Api.isNull(userToken, mazeId)) {
+        if (Api.isNull(userToken, mazeId, solverBudget, moves, executor)) {
             return RestOutput.badRequest();
         }
 
@@ -418,15 +838,19 @@ public class CoreHandler {
         }
         userHandler = userHandlerOutput.output();
 
-        return userHandler.solveMinPath(mazeId);
+        return userHandler.solveMinPath(mazeId, solverBudget, moves, executor);
     }
 
-    public RestOutput<MazeSolution> solveMaxPath(UserToken userToken, Integer mazeId) {
+    public RestOutput<CompletableFuture<MazeSolution>> solveMaxPath(UserToken userToken,
+                                                                    Integer mazeId,
+                                                                    SolverBudget solverBudget,
+                                                                    Boolean moves,
+                                                                    Executor executor) {
 
         RestOutput<UserHandler> userHandlerOutput;
         UserHandler userHandler;
 
-        if (Api.isNull(userToken, mazeId)) {
+        if (Api.isNull(userToken, mazeId, solverBudget, moves, executor)) {
             return RestOutput.badRequest();
         }
 
@@ -438,7 +862,78 @@ public class CoreHandler {
         }
         userHandler = userHandlerOutput.output();
 
-        return userHandler.solveMaxPath(mazeId);
+        return userHandler.solveMaxPath(mazeId, solverBudget, moves, executor);
+    }
+
+    public RestOutput<Result> solveMazes(UserToken userToken,
+                                         MazeBatch mazeBatch,
+                                         SolverBudget solverBudget,
+                                         Boolean moves,
+                                         Predicate<MazeBatchSolution> watcher,
+                                         Executor executor) {
+
+        RestOutput<UserHandler> userHandlerOutput;
+        UserHandler userHandler;
+
+        if (Api.isNull(userToken, mazeBatch, solverBudget, moves, watcher, executor)) {
+            return RestOutput.badRequest();
+        }
+
+        // Find the UserHandler from the UserToken once for the whole batch
+        userHandlerOutput = findUserHandler(userToken);
+        if (RestOutput.isNOK(userHandlerOutput)) {
+            Api.error("SessionHandler to solveMazes is NOT OK", userHandlerOutput, userToken, mazeBatch, this);
+            return RestOutput.of(userHandlerOutput);
+        }
+        userHandler = userHandlerOutput.output();
+
+        return userHandler.solveMazes(mazeBatch, solverBudget, moves, watcher, executor);
+    }
+
+    public RestOutput<Result> watchMinPath(UserToken userToken,
+                                          Integer mazeId,
+                                          SolverBudget solverBudget,
+                                          Predicate<MazeProgress> watcher) {
+
+        RestOutput<UserHandler> userHandlerOutput;
+        UserHandler userHandler;
+
+        if (Api.isNull(userToken, mazeId, solverBudget, watcher)) {
+            return RestOutput.badRequest();
+        }
+
+        // Find the UserHandler from the UserToken
+        userHandlerOutput = findUserHandler(userToken);
+        if (RestOutput.isNOK(userHandlerOutput)) {
+            Api.error("SessionHandler to watchMinPath is NOT OK", userHandlerOutput, userToken, mazeId, this);
+            return RestOutput.of(userHandlerOutput);
+        }
+        userHandler = userHandlerOutput.output();
+
+        return userHandler.watchMinPath(mazeId, solverBudget, watcher);
+    }
+
+    public RestOutput<Result> watchMaxPath(UserToken userToken,
+                                          Integer mazeId,
+                                          SolverBudget solverBudget,
+                                          Predicate<MazeProgress> watcher) {
+
+        RestOutput<UserHandler> userHandlerOutput;
+        UserHandler userHandler;
+
+        if (Api.isNull(userToken, mazeId, solverBudget, watcher)) {
+            return RestOutput.badRequest();
+        }
+
+        // Find the UserHandler from the UserToken
+        userHandlerOutput = findUserHandler(userToken);
+        if (RestOutput.isNOK(userHandlerOutput)) {
+            Api.error("SessionHandler to watchMaxPath is NOT OK", userHandlerOutput, userToken, mazeId, this);
+            return RestOutput.of(userHandlerOutput);
+        }
+        userHandler = userHandlerOutput.output();
+
+        return userHandler.watchMaxPath(mazeId, solverBudget, watcher);
     }
 
     public RestOutput<Result> run() {
@@ -497,7 +992,16 @@ public class CoreHandler {
                 continue;
             }
 
-            maze = new Maze(mazeRecord.mazeId(), mazeRecord.entrance(), mazeRecord.gridSize(), mazeRecord.walls());
+            // Mazes stored before the wall bitmap still have their list of walls
+            if (mazeRecord.wallBitmap().isEmpty()) {
+                maze = new Maze(mazeRecord.mazeId(), mazeRecord.entrance(), mazeRecord.gridSize(), mazeRecord.walls());
+            } else {
+                maze = new Maze(mazeRecord.mazeId(),
+                                mazeRecord.entrance(),
+                                mazeRecord.gridSize(),
+                                null,
+                                mazeRecord.wallBitmap());
+            }
 
             // Add each maze for its respective user
             mazeCreationOutput = addMaze(userHandler, maze, Boolean.FALSE);
@@ -516,6 +1020,14 @@ public class CoreHandler {
                 Api.error("addMaze to run failed. Maze skipped", mazeCreation, maze, mazeRecord, userHandler, this);
                 continue;
             }
+
+            // Start from the paths solved before the restart
+            userHandler.restorePaths(mazeRecord);
+
+            if (mazeRecord.wallBitmap().isEmpty()) {
+                // Store the walls of this maze as a bitmap from now on
+                scheduleMazeWalls(userHandler, mazeRecord.mazeId());
+            }
         }
 
         // Start the HttpService
@@ -525,6 +1037,9 @@ public class CoreHandler {
             return RestOutput.of(resultOutput);
         }
 
+        // Solve the mazes in the background from the most recently restored, once the service is up
+        MazeHandler.startPresolve();
+
         // Monitor periodically the sessionHandlers
         monitorSessionHandlers();
 
@@ -0,0 +1,190 @@
+package maze.handler.maze;
+
+public class BoundedMaxMazeSolver extends MaxMazeSolver {
+
+    private static final int NO_BOUND = -1;
+
+    // Flood fill state reused for every bound. A cell is marked when it holds the current stamp.
+    private final int[]      _markArray;
+    private final int[]      _queue;
+    private int              _stamp;
+
+    private final int        _rootBound;
+
+    public BoundedMaxMazeSolver(MazePoint entrance, MazePoint exit, MazeGrid grid) {
+        this(entrance, exit, grid, new SolverContext());
+    }
+
+    public BoundedMaxMazeSolver(MazePoint entrance, MazePoint exit, MazeGrid grid, SolverContext solverContext) {
+        super(entrance, exit, grid, solverContext);
+
+        _markArray = new int[grid.cellCount()];
+        _queue = new int[grid.cellCount()];
+        _stamp = 0;
+
+        // Longest path any branch could reach from the entrance
+        _rootBound = 1 + remainingBound(entrance());
+    }
+
+    protected int rootBound() {
+
+        return _rootBound;
+    }
+
+    private int remainingBound(int head) {
+
+        int queueHead;
+        int queueTail;
+        int cell;
+        int parity;
+        int nextCell;
+        int nextParity;
+        int oppositeCount;
+        int sameCount;
+        int exitParity;
+        int bound;
+
+        oppositeCount = 0;
+        sameCount = 0;
+        exitParity = NO_BOUND;
+
+        _stamp++;
+        _markArray[head] = _stamp;
+
+        // Queue entries carry the checkerboard parity of each cell relative to the head
+        _queue[0] = head << 1;
+        queueHead = 0;
+        queueTail = 1;
+
+        while (queueHead < queueTail) {
+
+            cell = _queue[queueHead] >>> 1;
+            parity = _queue[queueHead] & 1;
+            queueHead++;
+
+            if (cell == exit()) {
+                // A path ends at the exit. Do not expand through it.
+                exitParity = parity;
+                continue;
+            }
+
+            nextParity = parity ^ 1;
+
+            for (int direction = 0; direction < MazeGrid.DIRECTION_COUNT; direction++) {
+
+                nextCell = cell + grid().offset(direction);
+                if (grid().isWall(nextCell) || (_markArray[nextCell] == _stamp)) {
+                    continue;
+                }
+                _markArray[nextCell] = _stamp;
+                _queue[queueTail++] = (nextCell << 1) | nextParity;
+
+                if (nextParity == 1) {
+                    oppositeCount++;
+                } else {
+                    sameCount++;
+                }
+            }
+        }
+
+        if (exitParity == NO_BOUND) {
+            // The exit can not be reached without crossing the current path
+            return NO_BOUND;
+        }
+
+        // Cells after the head alternate colors, starting with the opposite color of the head
+        bound = Math.min(oppositeCount + sameCount, Math.min(2 * oppositeCount, 2 * sameCount + 1));
+
+        // The color of the exit fixes the parity of the remaining length
+        if ((bound & 1) != exitParity) {
+            bound--;
+        }
+        return bound;
+    }
+
+    private int freeNeighborCount(int cell) {
+
+        int freeNeighborCount;
+
+        freeNeighborCount = 0;
+        for (int direction = 0; direction < MazeGrid.DIRECTION_COUNT; direction++) {
+            if (grid().isWall(cell + grid().offset(direction)) == false) {
+                freeNeighborCount++;
+            }
+        }
+        return freeNeighborCount;
+    }
+
+    @Override
+    protected int forwardFromCurrent(int cell, int track) {
+
+        int nextCell;
+        int score;
+        int bestDirection;
+        int bestScore;
+
+        bestDirection = NO_DIRECTION;
+        bestScore = Integer.MAX_VALUE;
+
+        for (int direction : directionArray()) {
+
+            if ((track & (1 << direction)) != 0) {
+                continue;
+            }
+
+            nextCell = cell + grid().offset(direction);
+            if (grid().isWall(nextCell)) {
+                // Discard walls and loops first as they cost nothing
+                return direction;
+            }
+
+            // Hug the walls to fill the maze before heading to the exit, which comes last
+            if (nextCell == exit()) {
+                score = MazeGrid.DIRECTION_COUNT + 1;
+            } else {
+                score = freeNeighborCount(nextCell);
+            }
+
+            if (score < bestScore) {
+                bestDirection = direction;
+                bestScore = score;
+            }
+        }
+
+        return bestDirection;
+    }
+
+    @Override
+    protected SolverAction processPath(int pathLength, int solverPathLength) {
+
+        SolverAction solverAction;
+
+        solverAction = super.processPath(pathLength, solverPathLength);
+        if (solverAction == SolverAction.SELECT) {
+            // Share this length for other solvers to prune against
+            solverContext().offerPathLength(pathLength);
+        }
+
+        if ((pathLength == rootBound()) && (solverContext().countBoundPath() > 1)) {
+            // Multiple paths reaching the bound from the entrance can not be beaten nor made unique
+            solverContext().setSolved();
+        }
+
+        return solverAction;
+    }
+
+    @Override
+    protected boolean pruneForward(int currentPathLength, int solverPathLength) {
+
+        int bound;
+
+        bound = remainingBound(currentCell());
+        if (bound == NO_BOUND) {
+            // No path to the exit from here
+            return true;
+        }
+
+        // Keep branches able to match the longest path length to still count multiple paths
+        return (currentPathLength + bound < Math.max(solverPathLength, solverContext().pathLength()));
+    }
+}
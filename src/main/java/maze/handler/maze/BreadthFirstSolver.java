@@ -0,0 +1,144 @@
+package maze.handler.maze;
+
+import java.util.Arrays;
+
+import maze.base.Api;
+
+public class BreadthFirstSolver {
+
+    private static final int  UNREACHED      = -1;
+
+    // Count of shortest paths saturates as only uniqueness matters
+    private static final byte MULTIPLE_COUNT = 2;
+
+    private final MazeGrid    _grid;
+    private final int         _entrance;
+    private final int         _exit;
+
+    private final int[]       _distanceArray;
+    private final byte[]      _countArray;
+    private final int[]       _queue;
+
+    public BreadthFirstSolver(MazePoint entrance, MazePoint exit, MazeGrid grid) {
+
+        _grid = grid;
+        _entrance = grid.index(entrance);
+        _exit = grid.index(exit);
+
+        _distanceArray = new int[grid.cellCount()];
+        _countArray = new byte[grid.cellCount()];
+        _queue = new int[grid.cellCount()];
+    }
+
+    protected MazeGrid grid() {
+
+        return _grid;
+    }
+
+    protected int entrance() {
+
+        return _entrance;
+    }
+
+    protected int exit() {
+
+        return _exit;
+    }
+
+    private void explore() {
+
+        int head;
+        int tail;
+        int cell;
+        int nextCell;
+        int nextDistance;
+
+        Arrays.fill(_distanceArray, UNREACHED);
+
+        // Distances are computed from the exit so the path can be walked forward from the entrance
+        _distanceArray[exit()] = 0;
+        _countArray[exit()] = 1;
+        _queue[0] = exit();
+        head = 0;
+        tail = 1;
+
+        while (head < tail) {
+
+            cell = _queue[head++];
+
+            if ((_distanceArray[entrance()] != UNREACHED) && (_distanceArray[cell] >= _distanceArray[entrance()])) {
+                // Every cell leading to the entrance has been processed. Its count is final.
+                return;
+            }
+
+            nextDistance = _distanceArray[cell] + 1;
+
+            for (int direction = 0; direction < MazeGrid.DIRECTION_COUNT; direction++) {
+
+                nextCell = cell + grid().offset(direction);
+                if (grid().isWall(nextCell)) {
+                    continue;
+                }
+
+                if (_distanceArray[nextCell] == UNREACHED) {
+                    // First time this cell is reached
+                    _distanceArray[nextCell] = nextDistance;
+                    _countArray[nextCell] = _countArray[cell];
+                    _queue[tail++] = nextCell;
+                } else if (_distanceArray[nextCell] == nextDistance) {
+                    // Another shortest way to reach this cell
+                    _countArray[nextCell] = (byte) Math.min(MULTIPLE_COUNT, _countArray[nextCell] + _countArray[cell]);
+                }
+            }
+        }
+    }
+
+    private MazePath walkPath() {
+
+        MazePoint[] mazePointArray;
+        int cell;
+        int nextCell;
+
+        mazePointArray = new MazePoint[_distanceArray[entrance()] + 1];
+
+        // Walk down the distances from the entrance. The single shortest path leaves one choice per step.
+        cell = entrance();
+        mazePointArray[0] = grid().mazePoint(cell);
+
+        for (int i = 1; i < mazePointArray.length; i++) {
+            for (int direction = 0; direction < MazeGrid.DIRECTION_COUNT; direction++) {
+
+                nextCell = cell + grid().offset(direction);
+                if ((grid().isWall(nextCell) == false) && (_distanceArray[nextCell] == _distanceArray[cell] - 1)) {
+                    cell = nextCell;
+                    break;
+                }
+            }
+            mazePointArray[i] = grid().mazePoint(cell);
+        }
+
+        return new MazePath(mazePointArray);
+    }
+
+    protected MazePath solve() {
+
+        explore();
+
+        if (_distanceArray[entrance()] == UNREACHED) {
+            return MazePath.NO_PATH;
+        }
+
+        if (_countArray[entrance()] >= MULTIPLE_COUNT) {
+            // Solver found multiple paths
+            Api.error("Solver has identified multiple paths", this);
+            return MazePath.MULTIPLE_PATHS;
+        }
+
+        return walkPath();
+    }
+
+    @Override
+    public String toString() {
+        return "BreadthFirstSolver [_grid=" + _grid + ", _entrance=" + _entrance + ", _exit=" + _exit + "]";
+    }
+}
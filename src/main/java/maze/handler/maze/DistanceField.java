@@ -0,0 +1,103 @@
+package maze.handler.maze;
+
+import java.util.Arrays;
+
+public class DistanceField {
+
+    protected static final int UNREACHED    = -1;
+    protected static final int NO_DIRECTION = -1;
+
+    private final MazeGrid     _grid;
+    private final int          _exit;
+
+    // Steps from each cell to the exit, for every cell of the grid including the borders
+    private final int[]        _distanceArray;
+
+    private DistanceField(MazeGrid grid, int exit, int[] distanceArray) {
+
+        _grid = grid;
+        _exit = exit;
+        _distanceArray = distanceArray;
+    }
+
+    protected MazeGrid grid() {
+
+        return _grid;
+    }
+
+    protected int exit() {
+
+        return _exit;
+    }
+
+    protected int distance(int index) {
+
+        return _distanceArray[index];
+    }
+
+    protected int nextDirection(int index) {
+
+        int distance;
+        int nextCell;
+
+        distance = distance(index);
+        if ((distance == UNREACHED) || (distance == 0)) {
+            return NO_DIRECTION;
+        }
+
+        // Any neighbor one step closer to the exit is on a shortest way from this cell
+        for (int direction = 0; direction < MazeGrid.DIRECTION_COUNT; direction++) {
+
+            nextCell = index + grid().offset(direction);
+            if (distance(nextCell) == distance - 1) {
+                return direction;
+            }
+        }
+        return NO_DIRECTION;
+    }
+
+    @Override
+    public String toString() {
+        return "DistanceField [_grid=" + _grid + ", _exit=" + _exit + "]";
+    }
+
+    protected static DistanceField with(MazePoint exit, MazeGrid grid) {
+
+        int[] distanceArray;
+        int[] queue;
+        int head;
+        int tail;
+        int cell;
+        int nextCell;
+        int nextDistance;
+
+        distanceArray = new int[grid.cellCount()];
+        queue = new int[grid.cellCount()];
+
+        Arrays.fill(distanceArray, UNREACHED);
+
+        // A single breadth first search from the exit reaches every cell with a path to it. Walls stay unreached.
+        distanceArray[grid.index(exit)] = 0;
+        queue[0] = grid.index(exit);
+        head = 0;
+        tail = 1;
+
+        while (head < tail) {
+
+            cell = queue[head++];
+            nextDistance = distanceArray[cell] + 1;
+
+            for (int direction = 0; direction < MazeGrid.DIRECTION_COUNT; direction++) {
+
+                nextCell = cell + grid.offset(direction);
+                if (grid.isWall(nextCell) || (distanceArray[nextCell] != UNREACHED)) {
+                    continue;
+                }
+                distanceArray[nextCell] = nextDistance;
+                queue[tail++] = nextCell;
+            }
+        }
+
+        return new DistanceField(grid, grid.index(exit), distanceArray);
+    }
+}
@@ -0,0 +1,168 @@
+package maze.handler.maze;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import maze.base.Api;
+
+public class DistanceFieldCache {
+
+    private final String                                                   _name;
+    private final long                                                     _cellMax;
+
+    // Distance field of each maze, either in flight or done, from the least recently used
+    private final LinkedHashMap<MazeKey, CompletableFuture<DistanceField>> _futureMap;
+
+    // Cells held by the distance fields of the map
+    private long                                                           _cellCount;
+
+    private final AtomicLong                                               _hitCount;
+    private final AtomicLong                                               _missCount;
+    private final AtomicLong                                               _evictionCount;
+
+    public DistanceFieldCache(String name, long cellMax) {
+
+        _name = name;
+        _cellMax = cellMax;
+
+        _futureMap = new LinkedHashMap<MazeKey, CompletableFuture<DistanceField>>(16, 0.75f, true);
+        _cellCount = 0L;
+
+        _hitCount = new AtomicLong(0L);
+        _missCount = new AtomicLong(0L);
+        _evictionCount = new AtomicLong(0L);
+    }
+
+    public long hitCount() {
+
+        return _hitCount.get();
+    }
+
+    public long missCount() {
+
+        return _missCount.get();
+    }
+
+    public long evictionCount() {
+
+        return _evictionCount.get();
+    }
+
+    public int size() {
+
+        synchronized (_futureMap) {
+            return _futureMap.size();
+        }
+    }
+
+    public long cellCount() {
+
+        synchronized (_futureMap) {
+            return _cellCount;
+        }
+    }
+
+    private void remove(MazeKey mazeKey, CompletableFuture<DistanceField> distanceFieldFuture) {
+
+        synchronized (_futureMap) {
+            if (_futureMap.remove(mazeKey, distanceFieldFuture)) {
+                _cellCount -= mazeKey.cellCount();
+            }
+        }
+    }
+
+    private CompletableFuture<DistanceField> register(MazeKey mazeKey,
+                                                      CompletableFuture<DistanceField> distanceFieldFuture) {
+
+        CompletableFuture<DistanceField> future;
+        Iterator<Map.Entry<MazeKey, CompletableFuture<DistanceField>>> iterator;
+
+        synchronized (_futureMap) {
+
+            // Reading an entry makes it the most recently used. A failed distance field is replaced.
+            future = _futureMap.get(mazeKey);
+            if ((future != null) && (future.isCompletedExceptionally() == false)) {
+                return future;
+            }
+
+            if (future == null) {
+                _cellCount += mazeKey.cellCount();
+            }
+            _futureMap.put(mazeKey, distanceFieldFuture);
+
+            // Evict the least recently used entries but the new one. A distance field in flight completes for its
+            // own callers, and its memory is given back once they are done with it.
+            iterator = _futureMap.entrySet().iterator();
+            while ((_cellCount > _cellMax) && (_futureMap.size() > 1)) {
+                _cellCount -= iterator.next().getKey().cellCount();
+                iterator.remove();
+                _evictionCount.incrementAndGet();
+            }
+        }
+        return null;
+    }
+
+    private void compute(MazeKey mazeKey,
+                         CompletableFuture<DistanceField> distanceFieldFuture,
+                         Supplier<DistanceField> supplier) {
+
+        try {
+            distanceFieldFuture.complete(supplier.get());
+        } catch (Throwable t) {
+            // Any later caller tries again
+            Api.error(t, "DistanceFieldCache compute failed", mazeKey, this);
+            remove(mazeKey, distanceFieldFuture);
+            distanceFieldFuture.completeExceptionally(t);
+        }
+    }
+
+    public CompletableFuture<DistanceField> distanceFieldAsync(MazeKey mazeKey,
+                                                               Supplier<DistanceField> supplier,
+                                                               Executor executor) {
+
+        CompletableFuture<DistanceField> distanceFieldFuture;
+        CompletableFuture<DistanceField> future;
+
+        distanceFieldFuture = new CompletableFuture<DistanceField>();
+
+        future = register(mazeKey, distanceFieldFuture);
+        if (future != null) {
+            // Share the distance field of the same maze, computed or still in flight
+            _hitCount.incrementAndGet();
+            return future;
+        }
+
+        // First to ask for this maze. Compute it for everyone on the executor.
+        _missCount.incrementAndGet();
+        try {
+            executor.execute(() -> compute(mazeKey, distanceFieldFuture, supplier));
+        } catch (Throwable t) {
+            remove(mazeKey, distanceFieldFuture);
+            distanceFieldFuture.completeExceptionally(t);
+        }
+        return distanceFieldFuture;
+    }
+
+    @Override
+    public String toString() {
+        return "DistanceFieldCache [_name=" + _name
+               + ", _cellMax="
+               + _cellMax
+               + ", _size="
+               + size()
+               + ", _cellCount="
+               + cellCount()
+               + ", _hitCount="
+               + _hitCount
+               + ", _missCount="
+               + _missCount
+               + ", _evictionCount="
+               + _evictionCount
+               + "]";
+    }
+}
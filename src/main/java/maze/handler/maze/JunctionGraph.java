@@ -0,0 +1,274 @@
+package maze.handler.maze;
+
+import java.util.Arrays;
+
+public class JunctionGraph {
+
+    protected static final int ENTRANCE_NODE = 0;
+    protected static final int EXIT_NODE     = 1;
+    protected static final int NO_NODE       = -1;
+    protected static final int NO_KEY        = -1;
+
+    private static final int   NO_CELL       = -1;
+
+    private final MazeGrid     _grid;
+
+    // Nodes are the entrance, the exit and every cell with three free neighbors or more
+    private final int[]        _nodeCellArray;
+    private final int[]        _cellNodeArray;
+    private int                _nodeCount;
+
+    // Corridors leaving each node, from its start to the start of the next node, stored once in each direction
+    private final int[]        _edgeStartArray;
+    private final int[]        _edgeSourceArray;
+    private final int[]        _edgeTargetArray;
+    private final int[]        _edgeLengthArray;
+    private int                _edgeCount;
+
+    // Cells inside each corridor, walked from the node to its target
+    private final int[]        _edgeCellStartArray;
+    private final int[]        _cellPool;
+
+    // Same key for both directions of a corridor with cells inside, and the count of its dark cells
+    private final int[]        _edgeKeyArray;
+    private final int[]        _edgeDarkCountArray;
+
+    public JunctionGraph(MazePoint entrance, MazePoint exit, MazeGrid grid) {
+
+        _grid = grid;
+
+        _nodeCellArray = new int[grid.cellCount()];
+        _cellNodeArray = new int[grid.cellCount()];
+        _nodeCount = 0;
+
+        findNodes(grid.index(entrance), grid.index(exit));
+
+        // Each node leaves in four directions at most and each corridor cell is walked once in each direction
+        _edgeStartArray = new int[_nodeCount + 1];
+        _edgeSourceArray = new int[MazeGrid.DIRECTION_COUNT * _nodeCount];
+        _edgeTargetArray = new int[MazeGrid.DIRECTION_COUNT * _nodeCount];
+        _edgeLengthArray = new int[MazeGrid.DIRECTION_COUNT * _nodeCount];
+        _edgeCount = 0;
+
+        _edgeCellStartArray = new int[MazeGrid.DIRECTION_COUNT * _nodeCount];
+        _cellPool = new int[2 * grid.cellCount()];
+
+        _edgeKeyArray = new int[MazeGrid.DIRECTION_COUNT * _nodeCount];
+        _edgeDarkCountArray = new int[MazeGrid.DIRECTION_COUNT * _nodeCount];
+
+        findEdges();
+    }
+
+    protected MazeGrid grid() {
+
+        return _grid;
+    }
+
+    protected int nodeCount() {
+
+        return _nodeCount;
+    }
+
+    protected int nodeCell(int node) {
+
+        return _nodeCellArray[node];
+    }
+
+    protected int edgeStart(int node) {
+
+        return _edgeStartArray[node];
+    }
+
+    protected int edgeEnd(int node) {
+
+        return _edgeStartArray[node + 1];
+    }
+
+    protected int edgeSource(int edge) {
+
+        return _edgeSourceArray[edge];
+    }
+
+    protected int edgeTarget(int edge) {
+
+        return _edgeTargetArray[edge];
+    }
+
+    protected int edgeLength(int edge) {
+
+        return _edgeLengthArray[edge];
+    }
+
+    protected int edgeKey(int edge) {
+
+        return _edgeKeyArray[edge];
+    }
+
+    protected int edgeDarkCount(int edge) {
+
+        return _edgeDarkCountArray[edge];
+    }
+
+    protected int color(int cell) {
+
+        // Checkerboard color of a cell
+        return (grid().col(cell) + grid().row(cell)) & 1;
+    }
+
+    private boolean isFree(int cell) {
+
+        return (grid().isWall(cell) == false);
+    }
+
+    private int freeNeighborCount(int cell) {
+
+        int freeNeighborCount;
+
+        freeNeighborCount = 0;
+        for (int direction = 0; direction < MazeGrid.DIRECTION_COUNT; direction++) {
+            if (isFree(cell + grid().offset(direction))) {
+                freeNeighborCount++;
+            }
+        }
+        return freeNeighborCount;
+    }
+
+    private void addNode(int cell) {
+
+        _nodeCellArray[_nodeCount] = cell;
+        _cellNodeArray[cell] = _nodeCount;
+        _nodeCount++;
+    }
+
+    private void findNodes(int entrance, int exit) {
+
+        int cell;
+
+        Arrays.fill(_cellNodeArray, NO_NODE);
+
+        addNode(entrance);
+        addNode(exit);
+
+        for (int row = 1; row <= grid().rowMax(); row++) {
+            for (int col = 1; col <= grid().colMax(); col++) {
+
+                cell = grid().index(col, row);
+                if (isFree(cell) && (_cellNodeArray[cell] == NO_NODE) && (freeNeighborCount(cell) >= 3)) {
+                    addNode(cell);
+                }
+            }
+        }
+    }
+
+    private void findEdges() {
+
+        int nodeCell;
+        int cell;
+        int previousCell;
+        int nextCell;
+        int length;
+        int cellStart;
+        int cellCount;
+        int darkCount;
+
+        cellCount = 0;
+
+        for (int node = 0; node < nodeCount(); node++) {
+
+            _edgeStartArray[node] = _edgeCount;
+            nodeCell = nodeCell(node);
+
+            for (int direction = 0; direction < MazeGrid.DIRECTION_COUNT; direction++) {
+
+                cell = nodeCell + grid().offset(direction);
+                if (isFree(cell) == false) {
+                    continue;
+                }
+
+                // Follow the corridor up to the next node. Cells in between have two free neighbors at most.
+                previousCell = nodeCell;
+                cellStart = cellCount;
+                length = 1;
+                darkCount = 0;
+
+                while ((cell != NO_CELL) && (_cellNodeArray[cell] == NO_NODE)) {
+
+                    _cellPool[cellCount++] = cell;
+                    darkCount += color(cell);
+
+                    nextCell = NO_CELL;
+                    for (int nextDirection = 0; nextDirection < MazeGrid.DIRECTION_COUNT; nextDirection++) {
+                        if (isFree(cell + grid().offset(nextDirection))
+                            && (cell + grid().offset(nextDirection) != previousCell)) {
+                            nextCell = cell + grid().offset(nextDirection);
+                            break;
+                        }
+                    }
+
+                    previousCell = cell;
+                    cell = nextCell;
+                    length++;
+                }
+
+                if ((cell == NO_CELL) || (cell == nodeCell)) {
+                    // A dead end or a loop back to the same node is never part of a path
+                    cellCount = cellStart;
+                    continue;
+                }
+
+                _edgeSourceArray[_edgeCount] = node;
+                _edgeTargetArray[_edgeCount] = _cellNodeArray[cell];
+                _edgeLengthArray[_edgeCount] = length;
+                _edgeCellStartArray[_edgeCount] = cellStart;
+                _edgeDarkCountArray[_edgeCount] = darkCount;
+
+                // Both ends of a corridor share the smallest of its cells as a key
+                if (length == 1) {
+                    _edgeKeyArray[_edgeCount] = NO_KEY;
+                } else {
+                    _edgeKeyArray[_edgeCount] = Math.min(_cellPool[cellStart], _cellPool[cellCount - 1]);
+                }
+                _edgeCount++;
+            }
+        }
+        _edgeStartArray[nodeCount()] = _edgeCount;
+    }
+
+    protected MazePath mazePath(int[] edgeArray, int edgeCount, boolean proven) {
+
+        MazePoint[] mazePointArray;
+        int length;
+        int edge;
+        int index;
+
+        if (edgeCount == 0) {
+            return MazePath.NO_PATH;
+        }
+
+        length = 1;
+        for (int i = 0; i < edgeCount; i++) {
+            length += edgeLength(edgeArray[i]);
+        }
+
+        // Expand each corridor back into its cells
+        mazePointArray = new MazePoint[length];
+        mazePointArray[0] = grid().mazePoint(nodeCell(ENTRANCE_NODE));
+        index = 1;
+
+        for (int i = 0; i < edgeCount; i++) {
+
+            edge = edgeArray[i];
+            for (int j = 0; j < edgeLength(edge) - 1; j++) {
+                mazePointArray[index++] = grid().mazePoint(_cellPool[_edgeCellStartArray[edge] + j]);
+            }
+            mazePointArray[index++] = grid().mazePoint(nodeCell(edgeTarget(edge)));
+        }
+
+        return new MazePath(mazePointArray, proven);
+    }
+
+    @Override
+    public String toString() {
+        return "JunctionGraph [_grid=" + _grid + ", _nodeCount=" + _nodeCount + ", _edgeCount=" + _edgeCount + "]";
+    }
+}
@@ -0,0 +1,352 @@
+package maze.handler.maze;
+
+import maze.base.Api;
+
+public class JunctionMaxSolver {
+
+    private static final int    NO_BOUND       = -1;
+
+    private static final int    STOP_INTERVAL  = 1024;
+
+    // Check the budget sooner once the bounds have flooded that many nodes, as each flood is as large as the graph
+    private static final long   FLOOD_INTERVAL = 1L << 20;
+
+    private final JunctionGraph _junctionGraph;
+    private final SolverContext _solverContext;
+
+    // Nodes of the current path, the next corridor to try from each of them and the cells covered so far
+    private final int[]         _nodeStack;
+    private final int[]         _edgeCursorStack;
+    private final int[]         _lengthStack;
+    private final int[]         _edgeStack;
+    private final boolean[]     _visitedArray;
+    private int                 _depth;
+
+    // Flood fill state reused for every bound. A node or corridor is marked when it holds the current stamp.
+    private final int[]         _nodeMarkArray;
+    private final int[]         _keyMarkArray;
+    private final int[]         _queue;
+    private int                 _stamp;
+    private long                _floodCount;
+
+    // Corridors of the best path found so far
+    private final int[]         _pathBuffer;
+    private int                 _pathEdgeCount;
+    private int                 _pathLength;
+    private int                 _pathCount;
+
+    private final int           _rootBound;
+
+    public JunctionMaxSolver(JunctionGraph junctionGraph, SolverContext solverContext) {
+
+        _junctionGraph = junctionGraph;
+        _solverContext = solverContext;
+
+        _nodeStack = new int[junctionGraph.nodeCount()];
+        _edgeCursorStack = new int[junctionGraph.nodeCount()];
+        _lengthStack = new int[junctionGraph.nodeCount()];
+        _edgeStack = new int[junctionGraph.nodeCount()];
+        _visitedArray = new boolean[junctionGraph.nodeCount()];
+        _depth = 0;
+
+        _nodeMarkArray = new int[junctionGraph.nodeCount()];
+        _keyMarkArray = new int[junctionGraph.grid().cellCount()];
+        _queue = new int[junctionGraph.nodeCount()];
+        _stamp = 0;
+        _floodCount = 0L;
+
+        _pathBuffer = new int[junctionGraph.nodeCount()];
+        _pathEdgeCount = 0;
+        _pathLength = 0;
+        _pathCount = 0;
+
+        // Longest path any branch could reach from the entrance
+        _visitedArray[JunctionGraph.ENTRANCE_NODE] = true;
+        _rootBound = 1 + remainingBound(JunctionGraph.ENTRANCE_NODE);
+        _visitedArray[JunctionGraph.ENTRANCE_NODE] = false;
+    }
+
+    protected JunctionGraph junctionGraph() {
+
+        return _junctionGraph;
+    }
+
+    protected SolverContext solverContext() {
+
+        return _solverContext;
+    }
+
+    protected int pathLength() {
+
+        return _pathLength;
+    }
+
+    protected int pathCount() {
+
+        return _pathCount;
+    }
+
+    private int remainingBound(int head) {
+
+        int queueHead;
+        int queueTail;
+        int node;
+        int nextNode;
+        int key;
+        int headColor;
+        int darkCount;
+        int oppositeCount;
+        int sameCount;
+        boolean exitReached;
+        int exitParity;
+        int bound;
+
+        oppositeCount = 0;
+        sameCount = 0;
+        exitReached = false;
+        headColor = junctionGraph().color(junctionGraph().nodeCell(head));
+
+        _stamp++;
+        _nodeMarkArray[head] = _stamp;
+        _queue[0] = head;
+        queueHead = 0;
+        queueTail = 1;
+
+        // Count the cells reachable without crossing the current path, by color relative to the head
+        while (queueHead < queueTail) {
+
+            node = _queue[queueHead++];
+            if (node == JunctionGraph.EXIT_NODE) {
+                // A path ends at the exit. Do not expand through it.
+                exitReached = true;
+                continue;
+            }
+
+            for (int edge = junctionGraph().edgeStart(node); edge < junctionGraph().edgeEnd(node); edge++) {
+
+                nextNode = junctionGraph().edgeTarget(edge);
+                if (_visitedArray[nextNode]) {
+                    continue;
+                }
+
+                key = junctionGraph().edgeKey(edge);
+                if ((key != JunctionGraph.NO_KEY) && (_keyMarkArray[key] != _stamp)) {
+                    // Cells inside a corridor are counted once for both of its directions
+                    _keyMarkArray[key] = _stamp;
+                    darkCount = junctionGraph().edgeDarkCount(edge);
+                    if (headColor == 0) {
+                        oppositeCount += darkCount;
+                        sameCount += junctionGraph().edgeLength(edge) - 1 - darkCount;
+                    } else {
+                        oppositeCount += junctionGraph().edgeLength(edge) - 1 - darkCount;
+                        sameCount += darkCount;
+                    }
+                }
+
+                if (_nodeMarkArray[nextNode] != _stamp) {
+                    _nodeMarkArray[nextNode] = _stamp;
+                    _queue[queueTail++] = nextNode;
+                    if (junctionGraph().color(junctionGraph().nodeCell(nextNode)) != headColor) {
+                        oppositeCount++;
+                    } else {
+                        sameCount++;
+                    }
+                }
+            }
+        }
+
+        _floodCount += queueTail;
+
+        if (exitReached == false) {
+            // The exit can not be reached without crossing the current path
+            return NO_BOUND;
+        }
+
+        // Cells after the head alternate colors, starting with the opposite color of the head
+        bound = Math.min(oppositeCount + sameCount, Math.min(2 * oppositeCount, 2 * sameCount + 1));
+
+        // The color of the exit fixes the parity of the remaining length
+        exitParity = junctionGraph().color(junctionGraph().nodeCell(JunctionGraph.EXIT_NODE)) ^ headColor;
+        if ((bound & 1) != exitParity) {
+            bound--;
+        }
+        return bound;
+    }
+
+    private void push(int node, int edge, int length) {
+
+        _nodeStack[_depth] = node;
+        _edgeCursorStack[_depth] = junctionGraph().edgeStart(node);
+        _lengthStack[_depth] = length;
+        _edgeStack[_depth] = edge;
+        _visitedArray[node] = true;
+        _depth++;
+    }
+
+    private void pop() {
+
+        _depth--;
+        _visitedArray[_nodeStack[_depth]] = false;
+    }
+
+    private void selectPath(int length) {
+
+        // Copy the corridors of the current path as the best one found so far
+        System.arraycopy(_edgeStack, 1, _pathBuffer, 0, _depth - 1);
+        _pathEdgeCount = _depth - 1;
+        _pathLength = length;
+        _pathCount = 1;
+    }
+
+    private void processPath(int length) {
+
+        if ((pathLength() == 0) || (pathLength() < length)) {
+            // Solver found a path strictly longer than the current one. Select it.
+            selectPath(length);
+            solverContext().offerPathLength(length);
+            solverContext().selectPath(length, () -> solverPath(false));
+        } else if (pathLength() == length) {
+            // Increment the count of paths of this length to detect multiple paths of same length
+            _pathCount++;
+        }
+
+        if ((length == _rootBound) && (pathCount() > 1)) {
+            // Multiple paths reaching the bound from the entrance can not be beaten nor made unique
+            solverContext().setSolved();
+        }
+    }
+
+    private boolean pruneForward(int node, int length) {
+
+        int bound;
+
+        bound = remainingBound(node);
+        if (bound == NO_BOUND) {
+            // No path to the exit from here
+            return true;
+        }
+
+        // Keep branches able to match the longest path length to still count multiple paths
+        return (length + bound < Math.max(pathLength(), solverContext().pathLength()));
+    }
+
+    private boolean isStopped() {
+
+        // Once out of budget, the shortest path stands in for a first path not found yet
+        return (solverContext().isSolved() || solverContext().isStopped());
+    }
+
+    private void search() {
+
+        int top;
+        int node;
+        int edge;
+        int nextNode;
+        int length;
+        long iteration;
+        long meteredIteration;
+        long cpuTime;
+        long nextCpuTime;
+
+        iteration = 0L;
+        meteredIteration = 0L;
+        cpuTime = solverContext().solverMeter().threadCpuTime();
+
+        _depth = 0;
+        push(JunctionGraph.ENTRANCE_NODE, JunctionGraph.NO_NODE, 1);
+
+        while (_depth > 0) {
+
+            iteration++;
+            if ((iteration - meteredIteration == STOP_INTERVAL) || (_floodCount >= FLOOD_INTERVAL)) {
+
+                // Account for the work done against the budget
+                nextCpuTime = solverContext().solverMeter().threadCpuTime();
+                solverContext().solverMeter().spend(iteration - meteredIteration, nextCpuTime - cpuTime);
+                meteredIteration = iteration;
+                cpuTime = nextCpuTime;
+                _floodCount = 0L;
+
+                if (isStopped()) {
+                    break;
+                }
+            }
+
+            top = _depth - 1;
+            node = _nodeStack[top];
+
+            if (_edgeCursorStack[top] == junctionGraph().edgeEnd(node)) {
+                // Backtrack as there is no corridor left from this node
+                pop();
+                continue;
+            }
+            edge = _edgeCursorStack[top]++;
+
+            nextNode = junctionGraph().edgeTarget(edge);
+            if (_visitedArray[nextNode]) {
+                // Loop back onto the current path
+                continue;
+            }
+
+            // Go through the whole corridor at once
+            length = _lengthStack[top] + junctionGraph().edgeLength(edge);
+            push(nextNode, edge, length);
+
+            if (nextNode == JunctionGraph.EXIT_NODE) {
+
+                processPath(length);
+
+                // Force backtrack from exit.
+                pop();
+
+                if (isStopped()) {
+                    // No other path can change the outcome or the budget is spent
+                    break;
+                }
+
+            } else if (pruneForward(nextNode, length)) {
+
+                // Force backtrack because of pruning
+                pop();
+            }
+        }
+    }
+
+    protected MazePath solverPath(boolean proven) {
+
+        return junctionGraph().mazePath(_pathBuffer, _pathEdgeCount, proven);
+    }
+
+    protected MazePath solve() {
+
+        boolean proven;
+
+        // Search every path from the Entrance
+        search();
+        proven = solverContext().isProven();
+
+        if (proven && (pathCount() > 1)) {
+            // Solver found multiple paths
+            Api.error("Solver has identified multiple paths", this);
+            return MazePath.MULTIPLE_PATHS;
+        }
+
+        if (pathLength() == 0) {
+            // Out of budget before any path. Any path beats none.
+            return new JunctionMinSolver(junctionGraph()).firstPath();
+        }
+
+        // Best path found so far when the budget ran out
+        return solverPath(proven);
+    }
+
+    @Override
+    public String toString() {
+        return "JunctionMaxSolver [_junctionGraph=" + _junctionGraph
+               + ", _pathLength="
+               + _pathLength
+               + ", _pathCount="
+               + _pathCount
+               + "]";
+    }
+}
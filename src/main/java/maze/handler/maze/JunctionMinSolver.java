@@ -0,0 +1,151 @@
+package maze.handler.maze;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+import maze.base.Api;
+
+public class JunctionMinSolver {
+
+    private static final int    UNREACHED      = -1;
+    private static final int    NO_EDGE        = -1;
+
+    // Count of shortest paths saturates as only uniqueness matters
+    private static final byte   MULTIPLE_COUNT = 2;
+
+    private final JunctionGraph _junctionGraph;
+
+    private final int[]         _distanceArray;
+    private final byte[]        _countArray;
+
+    // Corridor reaching each node on its first shortest path
+    private final int[]         _edgeArray;
+
+    public JunctionMinSolver(JunctionGraph junctionGraph) {
+
+        _junctionGraph = junctionGraph;
+
+        _distanceArray = new int[junctionGraph.nodeCount()];
+        _countArray = new byte[junctionGraph.nodeCount()];
+        _edgeArray = new int[junctionGraph.nodeCount()];
+    }
+
+    protected JunctionGraph junctionGraph() {
+
+        return _junctionGraph;
+    }
+
+    private void explore() {
+
+        PriorityQueue<Long> nodeQueue;
+        long entry;
+        int node;
+        int distance;
+        int nextNode;
+        int nextDistance;
+
+        Arrays.fill(_distanceArray, UNREACHED);
+        Arrays.fill(_edgeArray, NO_EDGE);
+
+        // Queue entries carry the distance above the node so the nearest node comes first
+        nodeQueue = new PriorityQueue<Long>();
+        _distanceArray[JunctionGraph.ENTRANCE_NODE] = 0;
+        _countArray[JunctionGraph.ENTRANCE_NODE] = 1;
+        nodeQueue.add((long) JunctionGraph.ENTRANCE_NODE);
+
+        while (nodeQueue.isEmpty() == false) {
+
+            entry = nodeQueue.poll();
+            node = (int) entry;
+            distance = (int) (entry >>> 32);
+
+            if (distance > _distanceArray[node]) {
+                // Stale entry of a node reached again by a shorter way
+                continue;
+            }
+
+            if (node == JunctionGraph.EXIT_NODE) {
+                // Every node closer than the exit has been processed. Its count is final.
+                return;
+            }
+
+            for (int edge = junctionGraph().edgeStart(node); edge < junctionGraph().edgeEnd(node); edge++) {
+
+                nextNode = junctionGraph().edgeTarget(edge);
+                nextDistance = distance + junctionGraph().edgeLength(edge);
+
+                if ((_distanceArray[nextNode] == UNREACHED) || (nextDistance < _distanceArray[nextNode])) {
+                    // Shortest way to reach this node so far
+                    _distanceArray[nextNode] = nextDistance;
+                    _countArray[nextNode] = _countArray[node];
+                    _edgeArray[nextNode] = edge;
+                    nodeQueue.add(((long) nextDistance << 32) | nextNode);
+                } else if (nextDistance == _distanceArray[nextNode]) {
+                    // Another shortest way to reach this node
+                    _countArray[nextNode] = (byte) Math.min(MULTIPLE_COUNT, _countArray[nextNode] + _countArray[node]);
+                }
+            }
+        }
+    }
+
+    private MazePath walkPath(boolean proven) {
+
+        int[] pathEdgeArray;
+        int pathEdgeCount;
+        int node;
+        int edge;
+
+        // Walk back the corridors from the exit, then expand them from the entrance
+        pathEdgeArray = new int[junctionGraph().nodeCount()];
+        pathEdgeCount = 0;
+
+        node = JunctionGraph.EXIT_NODE;
+        while (node != JunctionGraph.ENTRANCE_NODE) {
+            edge = _edgeArray[node];
+            pathEdgeArray[pathEdgeCount++] = edge;
+            node = junctionGraph().edgeSource(edge);
+        }
+
+        for (int i = 0; i < pathEdgeCount / 2; i++) {
+            edge = pathEdgeArray[i];
+            pathEdgeArray[i] = pathEdgeArray[pathEdgeCount - 1 - i];
+            pathEdgeArray[pathEdgeCount - 1 - i] = edge;
+        }
+
+        return junctionGraph().mazePath(pathEdgeArray, pathEdgeCount, proven);
+    }
+
+    protected MazePath solve() {
+
+        explore();
+
+        if (_distanceArray[JunctionGraph.EXIT_NODE] == UNREACHED) {
+            return MazePath.NO_PATH;
+        }
+
+        if (_countArray[JunctionGraph.EXIT_NODE] >= MULTIPLE_COUNT) {
+            // Solver found multiple paths
+            Api.error("Solver has identified multiple paths", this);
+            return MazePath.MULTIPLE_PATHS;
+        }
+
+        return walkPath(true);
+    }
+
+    protected MazePath firstPath() {
+
+        explore();
+
+        if (_distanceArray[JunctionGraph.EXIT_NODE] == UNREACHED) {
+            return MazePath.NO_PATH;
+        }
+
+        // One of the shortest paths, whether unique or not
+        return walkPath(false);
+    }
+
+    @Override
+    public String toString() {
+        return "JunctionMinSolver [_junctionGraph=" + _junctionGraph + "]";
+    }
+}
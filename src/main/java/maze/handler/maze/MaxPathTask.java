@@ -0,0 +1,214 @@
+package maze.handler.maze;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+public class MaxPathTask extends RecursiveAction {
+
+    private static final long  serialVersionUID = 1L;
+
+    // Count of branching cells along a prefix before its subtree is searched by a single solver
+    private static final int   SPLIT_DEPTH      = 6;
+
+    private static final int   MULTIPLE_COUNT   = 2;
+
+    private final MazeGrid      _grid;
+    private final int           _exit;
+
+    // Longest path any branch could reach from the entrance
+    private final int           _rootBound;
+
+    private final SolverContext _solverContext;
+    private final int[]         _prefixArray;
+    private final int           _prefixLength;
+    private final int           _splitDepth;
+
+    // Longest path found in the subtree of the prefix
+    private int                 _pathLength;
+    private int                 _pathCount;
+    private int[]               _pathCells;
+
+    public MaxPathTask(MazeGrid grid,
+                       int exit,
+                       int rootBound,
+                       SolverContext solverContext,
+                       int[] prefixArray,
+                       int prefixLength,
+                       int splitDepth) {
+
+        _grid = grid;
+        _exit = exit;
+        _rootBound = rootBound;
+        _solverContext = solverContext;
+        _prefixArray = prefixArray;
+        _prefixLength = prefixLength;
+        _splitDepth = splitDepth;
+
+        _pathLength = 0;
+        _pathCount = 0;
+        _pathCells = null;
+    }
+
+    protected int pathLength() {
+
+        return _pathLength;
+    }
+
+    protected int pathCount() {
+
+        return _pathCount;
+    }
+
+    protected int[] pathCells() {
+
+        return _pathCells;
+    }
+
+    private void mergePath(int pathLength, int pathCount, int[] pathCells) {
+
+        if (pathLength == 0) {
+            return;
+        }
+
+        // Merge in a fixed order for the outcome not to depend on scheduling
+        if (pathLength > _pathLength) {
+            _pathLength = pathLength;
+            _pathCount = Math.min(pathCount, MULTIPLE_COUNT);
+            _pathCells = pathCells;
+        } else if (pathLength == _pathLength) {
+            _pathCount = Math.min(_pathCount + pathCount, MULTIPLE_COUNT);
+        }
+    }
+
+    private void mergeExitPath(int[] prefixArray, int prefixLength) {
+
+        int[] pathCells;
+
+        pathCells = Arrays.copyOf(prefixArray, prefixLength + 1);
+        pathCells[prefixLength] = _exit;
+
+        _solverContext.offerPathLength(pathCells.length);
+        if ((pathCells.length == _rootBound) && (_solverContext.countBoundPath() > 1)) {
+            // Multiple paths reaching the bound from the entrance can not be beaten nor made unique
+            _solverContext.setSolved();
+        }
+        mergePath(pathCells.length, 1, pathCells);
+    }
+
+    @Override
+    protected void compute() {
+
+        MazeGrid grid;
+        int[] prefixArray;
+        int prefixLength;
+        int cell;
+        int nextCell;
+        boolean exitNext;
+        int[] nextArray;
+        int nextCount;
+        List<MaxPathTask> taskList;
+        BoundedMaxMazeSolver maxMazeSolver;
+
+        // Mark the prefix on a grid of its own
+        grid = _grid.copy();
+        prefixArray = Arrays.copyOf(_prefixArray, grid.cellCount());
+        prefixLength = _prefixLength;
+        for (int i = 0; i < prefixLength; i++) {
+            grid.setWall(prefixArray[i]);
+        }
+
+        nextArray = new int[MazeGrid.DIRECTION_COUNT];
+
+        while (true) {
+
+            cell = prefixArray[prefixLength - 1];
+            exitNext = false;
+            nextCount = 0;
+
+            for (int direction = 0; direction < MazeGrid.DIRECTION_COUNT; direction++) {
+
+                nextCell = cell + grid.offset(direction);
+                if (grid.isWall(nextCell)) {
+                    continue;
+                }
+                if (nextCell == _exit) {
+                    exitNext = true;
+                } else {
+                    nextArray[nextCount++] = nextCell;
+                }
+            }
+
+            if ((exitNext == false) && (nextCount == 1)) {
+                // Follow the corridor up to the next branching cell
+                prefixArray[prefixLength++] = nextArray[0];
+                grid.setWall(nextArray[0]);
+                continue;
+            }
+            break;
+        }
+
+        if (nextCount == 0) {
+            // Dead end or the exit as the only way forward
+            if (exitNext) {
+                mergeExitPath(prefixArray, prefixLength);
+            }
+            return;
+        }
+
+        if ((_splitDepth >= SPLIT_DEPTH) || _solverContext.isStopped()) {
+
+            // Search the whole subtree with a single solver. Its bound from the entrance ignores the prefix.
+            for (int i = 0; i < prefixLength; i++) {
+                grid.clearWall(prefixArray[i]);
+            }
+            maxMazeSolver = new BoundedMaxMazeSolver(grid.mazePoint(prefixArray[0]),
+                                                     grid.mazePoint(_exit),
+                                                     grid,
+                                                     _solverContext);
+            maxMazeSolver.search(prefixArray, prefixLength);
+
+            mergePath(maxMazeSolver.pathLength(), maxMazeSolver.pathCount(), maxMazeSolver.pathCells());
+            return;
+        }
+
+        if (exitNext) {
+            mergeExitPath(prefixArray, prefixLength);
+        }
+
+        // Fork one task per branch and let idle workers steal them
+        taskList = new ArrayList<MaxPathTask>();
+        for (int i = 0; i < nextCount; i++) {
+
+            prefixArray[prefixLength] = nextArray[i];
+            taskList.add(new MaxPathTask(_grid,
+                                         _exit,
+                                         _rootBound,
+                                         _solverContext,
+                                         Arrays.copyOf(prefixArray, prefixLength + 1),
+                                         prefixLength + 1,
+                                         _splitDepth + 1));
+        }
+        ForkJoinTask.invokeAll(taskList);
+
+        for (MaxPathTask maxPathTask : taskList) {
+            mergePath(maxPathTask.pathLength(), maxPathTask.pathCount(), maxPathTask.pathCells());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MaxPathTask [_exit=" + _exit
+               + ", _prefixLength="
+               + _prefixLength
+               + ", _splitDepth="
+               + _splitDepth
+               + ", _pathLength="
+               + _pathLength
+               + ", _pathCount="
+               + _pathCount
+               + "]";
+    }
+}
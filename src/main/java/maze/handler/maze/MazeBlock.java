@@ -0,0 +1,97 @@
+package maze.handler.maze;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public class MazeBlock {
+
+    private final MazePoint                      _entrance;
+    private final MazePoint                      _exit;
+    private final MazeGrid                       _grid;
+    private final int                            _colOffset;
+    private final int                            _rowOffset;
+
+    // Corridors between the junctions of the block, built once for every solver
+    private final AtomicReference<JunctionGraph> _junctionGraphReference;
+
+    public MazeBlock(MazePoint entrance, MazePoint exit, MazeGrid grid, int colOffset, int rowOffset) {
+
+        _entrance = entrance;
+        _exit = exit;
+        _grid = grid;
+        _colOffset = colOffset;
+        _rowOffset = rowOffset;
+
+        _junctionGraphReference = new AtomicReference<JunctionGraph>(null);
+    }
+
+    protected MazePoint entrance() {
+
+        return _entrance;
+    }
+
+    protected MazePoint exit() {
+
+        return _exit;
+    }
+
+    protected MazeGrid grid() {
+
+        return _grid;
+    }
+
+    protected boolean isStep() {
+
+        // A block made of a single edge is crossed in a single step
+        return (grid() == null);
+    }
+
+    protected MazePoint localEntrance() {
+
+        return new MazePoint(entrance().col() - _colOffset, entrance().row() - _rowOffset);
+    }
+
+    protected MazePoint localExit() {
+
+        return new MazePoint(exit().col() - _colOffset, exit().row() - _rowOffset);
+    }
+
+    protected JunctionGraph junctionGraph() {
+
+        JunctionGraph junctionGraph;
+
+        junctionGraph = _junctionGraphReference.get();
+        if (junctionGraph != null) {
+            return junctionGraph;
+        }
+
+        junctionGraph = new JunctionGraph(localEntrance(), localExit(), grid());
+        if (!_junctionGraphReference.compareAndSet(null, junctionGraph)) {
+            return _junctionGraphReference.get();
+        }
+        return junctionGraph;
+    }
+
+    protected MazePath toMazePath(MazePath localPath) {
+
+        if (localPath.isNoPath() || localPath.isMultiplePaths()) {
+            return localPath;
+        }
+
+        // Move the path solved in the block back into the maze
+        return localPath.translate(_colOffset, _rowOffset);
+    }
+
+    @Override
+    public String toString() {
+        return "MazeBlock [_entrance=" + _entrance
+               + ", _exit="
+               + _exit
+               + ", _grid="
+               + _grid
+               + ", _colOffset="
+               + _colOffset
+               + ", _rowOffset="
+               + _rowOffset
+               + "]";
+    }
+}
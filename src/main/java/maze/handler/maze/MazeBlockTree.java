@@ -0,0 +1,293 @@
+package maze.handler.maze;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class MazeBlockTree {
+
+    private static final int NO_CELL  = -1;
+    private static final int NO_BLOCK = -1;
+
+    private final MazeGrid   _grid;
+    private final int        _entrance;
+    private final int        _exit;
+
+    // Depth first search state
+    private final int[]      _discoveryArray;
+    private final int[]      _lowArray;
+    private final int[]      _parentArray;
+    private final byte[]     _directionArray;
+
+    // Each cell belongs to the block of the edge to its parent. The top cell of a block is its articulation.
+    private final int[]      _blockArray;
+    private int[]            _blockTopArray;
+    private int              _blockCount;
+
+    public MazeBlockTree(MazePoint entrance, MazePoint exit, MazeGrid grid) {
+
+        _grid = grid;
+        _entrance = grid.index(entrance);
+        _exit = grid.index(exit);
+
+        _discoveryArray = new int[grid.cellCount()];
+        _lowArray = new int[grid.cellCount()];
+        _parentArray = new int[grid.cellCount()];
+        _directionArray = new byte[grid.cellCount()];
+
+        _blockArray = new int[grid.cellCount()];
+        _blockTopArray = new int[16];
+        _blockCount = 0;
+    }
+
+    private MazeGrid grid() {
+
+        return _grid;
+    }
+
+    private int entrance() {
+
+        return _entrance;
+    }
+
+    private int exit() {
+
+        return _exit;
+    }
+
+    private int addBlock(int blockTop) {
+
+        if (_blockCount == _blockTopArray.length) {
+            _blockTopArray = Arrays.copyOf(_blockTopArray, 2 * _blockCount);
+        }
+        _blockTopArray[_blockCount] = blockTop;
+        return _blockCount++;
+    }
+
+    private void explore() {
+
+        int[] cellStack;
+        int cellDepth;
+        int[] blockStack;
+        int blockDepth;
+        int time;
+        int cell;
+        int nextCell;
+        int parent;
+        int block;
+
+        cellStack = new int[grid().cellCount()];
+        blockStack = new int[grid().cellCount()];
+
+        // Iterative Tarjan search from the entrance, collecting the cells of each block on a second stack
+        time = 1;
+        _discoveryArray[entrance()] = time;
+        _lowArray[entrance()] = time;
+        _parentArray[entrance()] = NO_CELL;
+        cellStack[0] = entrance();
+        cellDepth = 1;
+        blockDepth = 0;
+
+        while (cellDepth > 0) {
+
+            cell = cellStack[cellDepth - 1];
+
+            if (_directionArray[cell] < MazeGrid.DIRECTION_COUNT) {
+
+                nextCell = cell + grid().offset(_directionArray[cell]++);
+                if (grid().isWall(nextCell) || (nextCell == _parentArray[cell])) {
+                    continue;
+                }
+
+                if (_discoveryArray[nextCell] == 0) {
+                    // Tree edge
+                    time++;
+                    _discoveryArray[nextCell] = time;
+                    _lowArray[nextCell] = time;
+                    _parentArray[nextCell] = cell;
+                    cellStack[cellDepth++] = nextCell;
+                    blockStack[blockDepth++] = nextCell;
+                } else {
+                    // Back edge
+                    _lowArray[cell] = Math.min(_lowArray[cell], _discoveryArray[nextCell]);
+                }
+                continue;
+            }
+
+            // All neighbors are done
+            cellDepth--;
+            parent = _parentArray[cell];
+            if (parent == NO_CELL) {
+                continue;
+            }
+            _lowArray[parent] = Math.min(_lowArray[parent], _lowArray[cell]);
+
+            if (_lowArray[cell] >= _discoveryArray[parent]) {
+
+                // Parent separates this subtree. Close the block hanging below it.
+                block = addBlock(parent);
+                do {
+                    blockDepth--;
+                    _blockArray[blockStack[blockDepth]] = block;
+                } while (blockStack[blockDepth] != cell);
+            }
+        }
+    }
+
+    private MazeBlock buildBlock(int blockEntrance, int blockExit, int[] cellArray, int from, int to) {
+
+        int colMin;
+        int colMax;
+        int rowMin;
+        int rowMax;
+        int col;
+        int row;
+        MazeGrid blockGrid;
+
+        if (to - from == 2) {
+            // Single edge between its two cells
+            return new MazeBlock(grid().mazePoint(blockEntrance), grid().mazePoint(blockExit), null, 0, 0);
+        }
+
+        colMin = Integer.MAX_VALUE;
+        colMax = Integer.MIN_VALUE;
+        rowMin = Integer.MAX_VALUE;
+        rowMax = Integer.MIN_VALUE;
+
+        for (int i = from; i < to; i++) {
+            col = grid().col(cellArray[i]);
+            row = grid().row(cellArray[i]);
+            colMin = Math.min(colMin, col);
+            colMax = Math.max(colMax, col);
+            rowMin = Math.min(rowMin, row);
+            rowMax = Math.max(rowMax, row);
+        }
+
+        // Bound the block to its own grid where every cell outside the block is a wall
+        blockGrid = MazeGrid.with(colMax - colMin + 1, rowMax - rowMin + 1);
+        for (row = 1; row <= blockGrid.rowMax(); row++) {
+            for (col = 1; col <= blockGrid.colMax(); col++) {
+                blockGrid.setWall(col, row);
+            }
+        }
+        for (int i = from; i < to; i++) {
+            blockGrid.clearWall(grid().col(cellArray[i]) - colMin + 1, grid().row(cellArray[i]) - rowMin + 1);
+        }
+
+        return new MazeBlock(grid().mazePoint(blockEntrance),
+                             grid().mazePoint(blockExit),
+                             blockGrid,
+                             colMin - 1,
+                             rowMin - 1);
+    }
+
+    protected List<MazeBlock> blockChain() {
+
+        int[] chainArray;
+        int chainCount;
+        int[] chainIndexArray;
+        int[] chainStartArray;
+        int[] chainCellArray;
+        int[] chainFillArray;
+        int cell;
+        int block;
+        int chainIndex;
+        int blockEntrance;
+        int blockExit;
+        List<MazeBlock> mazeBlockList;
+
+        explore();
+
+        if (_discoveryArray[exit()] == 0) {
+            // The exit can not be reached
+            return Collections.emptyList();
+        }
+
+        // Walk up from the exit to list the blocks any path from the entrance has to cross
+        chainArray = new int[_blockCount];
+        chainCount = 0;
+        for (cell = exit(); cell != entrance(); cell = _parentArray[cell]) {
+            block = _blockArray[cell];
+            if ((chainCount == 0) || (chainArray[chainCount - 1] != block)) {
+                chainArray[chainCount++] = block;
+            }
+        }
+
+        // Order the chain from the entrance to the exit
+        chainArray = Arrays.copyOf(chainArray, chainCount);
+        for (int i = 0; i < chainCount / 2; i++) {
+            block = chainArray[i];
+            chainArray[i] = chainArray[chainCount - 1 - i];
+            chainArray[chainCount - 1 - i] = block;
+        }
+
+        chainIndexArray = new int[_blockCount];
+        Arrays.fill(chainIndexArray, NO_BLOCK);
+        for (int i = 0; i < chainCount; i++) {
+            chainIndexArray[chainArray[i]] = i;
+        }
+
+        // Bucket the cells of the blocks in the chain. Any other block is a detour which has to come back.
+        chainStartArray = new int[chainCount + 1];
+        for (cell = 0; cell < grid().cellCount(); cell++) {
+            if ((_discoveryArray[cell] != 0) && (cell != entrance())) {
+                chainIndex = chainIndexArray[_blockArray[cell]];
+                if (chainIndex != NO_BLOCK) {
+                    chainStartArray[chainIndex + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < chainCount; i++) {
+            // Room for the top cell of each block
+            chainStartArray[i + 1] += chainStartArray[i] + 1;
+        }
+
+        chainCellArray = new int[chainStartArray[chainCount]];
+        chainFillArray = new int[chainCount];
+        for (int i = 0; i < chainCount; i++) {
+            chainCellArray[chainStartArray[i]] = _blockTopArray[chainArray[i]];
+            chainFillArray[i] = chainStartArray[i] + 1;
+        }
+        for (cell = 0; cell < grid().cellCount(); cell++) {
+            if ((_discoveryArray[cell] != 0) && (cell != entrance())) {
+                chainIndex = chainIndexArray[_blockArray[cell]];
+                if (chainIndex != NO_BLOCK) {
+                    chainCellArray[chainFillArray[chainIndex]++] = cell;
+                }
+            }
+        }
+
+        // Each block is entered at its top cell and left at the top cell of the next block
+        mazeBlockList = new ArrayList<MazeBlock>();
+        for (int i = 0; i < chainCount; i++) {
+
+            blockEntrance = _blockTopArray[chainArray[i]];
+            if (i + 1 < chainCount) {
+                blockExit = _blockTopArray[chainArray[i + 1]];
+            } else {
+                blockExit = exit();
+            }
+
+            mazeBlockList.add(buildBlock(blockEntrance,
+                                         blockExit,
+                                         chainCellArray,
+                                         chainStartArray[i],
+                                         chainStartArray[i + 1]));
+        }
+
+        return mazeBlockList;
+    }
+
+    @Override
+    public String toString() {
+        return "MazeBlockTree [_grid=" + _grid
+               + ", _entrance="
+               + _entrance
+               + ", _exit="
+               + _exit
+               + ", _blockCount="
+               + _blockCount
+               + "]";
+    }
+}
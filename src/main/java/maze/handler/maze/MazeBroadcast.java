@@ -0,0 +1,224 @@
+package maze.handler.maze;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import maze.Setup;
+import maze.base.Api;
+import maze.model.MazeProgress;
+import maze.model.MazeSolution;
+
+public class MazeBroadcast {
+
+    // Watchers are told on threads of their own, never on the solver threads
+    private static final ExecutorService        BroadcastExecutor = Api.executorService("broadcast");
+
+    private final long                          _startTime;
+    private final String                        _exitText;
+
+    // A watcher returns false once it no longer wants any progress
+    private final List<Predicate<MazeProgress>> _watcherList;
+
+    // Watchers yet to catch up with the latest progress
+    private final List<Predicate<MazeProgress>> _joinerList;
+
+    private MazePath                            _mazePath;
+    private long                                _iterationCount;
+    private long                                _publishTime;
+    private MazeProgress                        _mazeProgress;
+    private boolean                             _done;
+
+    // Latest progress not told yet. A slow watcher only misses the progress published in between.
+    private MazeProgress                        _pendingProgress;
+    private boolean                             _delivering;
+
+    public MazeBroadcast(MazePoint exit) {
+
+        _startTime = System.nanoTime();
+        _exitText = exit.toText();
+        _watcherList = new ArrayList<Predicate<MazeProgress>>();
+        _joinerList = new ArrayList<Predicate<MazeProgress>>();
+
+        _mazePath = null;
+        _iterationCount = 0L;
+        _publishTime = 0L;
+        _mazeProgress = null;
+        _done = false;
+
+        _pendingProgress = null;
+        _delivering = false;
+    }
+
+    private long elapsedMs() {
+
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - _startTime);
+    }
+
+    private void scheduleDelivery() {
+
+        if (_delivering) {
+            // The running delivery picks up the latest progress
+            return;
+        }
+        _delivering = true;
+        BroadcastExecutor.execute(this::deliver);
+    }
+
+    private void deliver() {
+
+        MazeProgress mazeProgress;
+        MazeProgress latestProgress;
+        List<Predicate<MazeProgress>> watcherList;
+        List<Predicate<MazeProgress>> joinerList;
+        List<Predicate<MazeProgress>> removedList;
+        List<Predicate<MazeProgress>> joinedList;
+
+        while (true) {
+
+            synchronized (this) {
+
+                mazeProgress = _pendingProgress;
+                _pendingProgress = null;
+                latestProgress = _mazeProgress;
+
+                joinerList = new ArrayList<Predicate<MazeProgress>>(_joinerList);
+                _joinerList.clear();
+
+                if ((mazeProgress == null) && joinerList.isEmpty()) {
+                    _delivering = false;
+                    return;
+                }
+                watcherList = new ArrayList<Predicate<MazeProgress>>(_watcherList);
+            }
+
+            // Tell the watchers without holding the lock, so that a slow watcher never holds the solver
+            removedList = new ArrayList<Predicate<MazeProgress>>();
+            joinedList = new ArrayList<Predicate<MazeProgress>>();
+
+            for (Predicate<MazeProgress> joiner : joinerList) {
+                if (notify(joiner, latestProgress) && (latestProgress.getDone() == false)) {
+                    joinedList.add(joiner);
+                }
+            }
+
+            if (mazeProgress != null) {
+                for (Predicate<MazeProgress> watcher : watcherList) {
+                    if (notify(watcher, mazeProgress) == false) {
+                        removedList.add(watcher);
+                    }
+                }
+            }
+
+            synchronized (this) {
+
+                if ((mazeProgress != null) && mazeProgress.getDone()) {
+                    // Nothing follows the solution
+                    _watcherList.clear();
+                    continue;
+                }
+                _watcherList.removeAll(removedList);
+                _watcherList.addAll(joinedList);
+            }
+        }
+    }
+
+    private boolean notify(Predicate<MazeProgress> watcher, MazeProgress mazeProgress) {
+
+        try {
+            return watcher.test(mazeProgress);
+        } catch (Throwable t) {
+            Api.error(t, "MazeBroadcast watcher failed", this);
+            return false;
+        }
+    }
+
+    protected synchronized void watch(Predicate<MazeProgress> watcher) {
+
+        if (_mazeProgress == null) {
+            // Nothing to catch up with
+            _watcherList.add(watcher);
+            return;
+        }
+
+        // Catch up with the latest progress, or the solution once done
+        _joinerList.add(watcher);
+        scheduleDelivery();
+    }
+
+    private void publish(MazeProgress mazeProgress) {
+
+        _mazeProgress = mazeProgress;
+        _publishTime = System.nanoTime();
+
+        _pendingProgress = mazeProgress;
+        scheduleDelivery();
+    }
+
+    private void publishProgress() {
+
+        String[] pathTextArray;
+        Boolean partial;
+
+        if (_done) {
+            // Nothing follows the solution
+            return;
+        }
+
+        if (System.nanoTime() - _publishTime < Setup.MAZE_PROGRESS_INTERVAL.toNanos()) {
+            // The next progress carries the latest path anyway
+            return;
+        }
+
+        pathTextArray = null;
+        partial = null;
+        if (_mazePath != null) {
+            // A path solved block by block stops short of the exit until its last block is solved
+            pathTextArray = _mazePath.toTextArray();
+            partial = (pathTextArray[pathTextArray.length - 1].equals(_exitText) == false);
+        }
+
+        publish(new MazeProgress(pathTextArray, partial, _iterationCount, elapsedMs()));
+    }
+
+    protected synchronized void publishPath(MazePath mazePath) {
+
+        _mazePath = mazePath;
+        publishProgress();
+    }
+
+    protected synchronized void publishIteration(long iterationCount) {
+
+        _iterationCount = iterationCount;
+        publishProgress();
+    }
+
+    protected synchronized void publishSolution(MazeSolution mazeSolution, long iterationCount) {
+
+        if (_done) {
+            return;
+        }
+
+        _iterationCount = iterationCount;
+        _done = true;
+
+        publish(new MazeProgress(mazeSolution, _iterationCount, elapsedMs()));
+    }
+
+    protected synchronized boolean isDone() {
+
+        return _done;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "MazeBroadcast [_iterationCount=" + _iterationCount
+               + ", _watcherCount="
+               + _watcherList.size()
+               + ", _done="
+               + _done
+               + "]";
+    }
+}
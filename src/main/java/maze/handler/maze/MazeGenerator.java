@@ -0,0 +1,285 @@
+package maze.handler.maze;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import maze.Setup;
+import maze.base.Api;
+import maze.base.RestOutput;
+import maze.model.Maze;
+import maze.model.MazeGeneration;
+
+public class MazeGenerator {
+
+    private final int              _colMax;
+    private final int              _rowMax;
+    private final double           _loopDensity;
+    private final int              _count;
+    private final SplittableRandom _random;
+
+    // Rooms sit on odd columns and on every other row up from the bottom row
+    private final int              _roomColCount;
+    private final int              _roomRowCount;
+
+    private MazeGenerator(int colMax, int rowMax, double loopDensity, int count, SplittableRandom random) {
+
+        _colMax = colMax;
+        _rowMax = rowMax;
+        _loopDensity = loopDensity;
+        _count = count;
+        _random = random;
+
+        _roomColCount = (colMax + 1) / 2;
+        _roomRowCount = rowMax / 2;
+    }
+
+    private int colMax() {
+
+        return _colMax;
+    }
+
+    private int rowMax() {
+
+        return _rowMax;
+    }
+
+    private double loopDensity() {
+
+        return _loopDensity;
+    }
+
+    protected int count() {
+
+        return _count;
+    }
+
+    private SplittableRandom random() {
+
+        return _random;
+    }
+
+    private int roomCol(int room) {
+
+        return 1 + 2 * (room % _roomColCount);
+    }
+
+    private int roomRow(int room) {
+
+        return rowMax() - 1 - 2 * (room / _roomColCount);
+    }
+
+    private int cell(int col, int row) {
+
+        return (row - 1) * colMax() + (col - 1);
+    }
+
+    private void openPassage(int room, int nextRoom, boolean[] openArray) {
+
+        // Passage is the cell between two neighbour rooms
+        openArray[cell((roomCol(room) + roomCol(nextRoom)) / 2, (roomRow(room) + roomRow(nextRoom)) / 2)] = true;
+    }
+
+    private int neighbours(int room, int[] neighbourArray) {
+
+        int roomCol;
+        int roomRow;
+        int neighbourCount;
+
+        roomCol = room % _roomColCount;
+        roomRow = room / _roomColCount;
+        neighbourCount = 0;
+
+        if (roomCol > 0) {
+            neighbourArray[neighbourCount++] = room - 1;
+        }
+        if (roomCol < _roomColCount - 1) {
+            neighbourArray[neighbourCount++] = room + 1;
+        }
+        if (roomRow > 0) {
+            neighbourArray[neighbourCount++] = room - _roomColCount;
+        }
+        if (roomRow < _roomRowCount - 1) {
+            neighbourArray[neighbourCount++] = room + _roomColCount;
+        }
+        return neighbourCount;
+    }
+
+    private void carveRooms(boolean[] openArray) {
+
+        int roomCount;
+        boolean[] visitedArray;
+        int[] stackArray;
+        int[] neighbourArray;
+        int[] unvisitedArray;
+        int depth;
+        int room;
+        int nextRoom;
+        int neighbourCount;
+        int unvisitedCount;
+
+        roomCount = _roomColCount * _roomRowCount;
+        visitedArray = new boolean[roomCount];
+        stackArray = new int[roomCount];
+        neighbourArray = new int[4];
+        unvisitedArray = new int[4];
+
+        for (room = 0; room < roomCount; room++) {
+            openArray[cell(roomCol(room), roomRow(room))] = true;
+        }
+
+        // Randomized depth first search carves a spanning tree, so every room is reached by a single path
+        room = random().nextInt(roomCount);
+        visitedArray[room] = true;
+        stackArray[0] = room;
+        depth = 1;
+
+        while (depth > 0) {
+
+            room = stackArray[depth - 1];
+            neighbourCount = neighbours(room, neighbourArray);
+
+            unvisitedCount = 0;
+            for (int i = 0; i < neighbourCount; i++) {
+                if (visitedArray[neighbourArray[i]] == false) {
+                    unvisitedArray[unvisitedCount++] = neighbourArray[i];
+                }
+            }
+
+            if (unvisitedCount == 0) {
+                depth--;
+                continue;
+            }
+
+            nextRoom = unvisitedArray[random().nextInt(unvisitedCount)];
+            openPassage(room, nextRoom, openArray);
+            visitedArray[nextRoom] = true;
+            stackArray[depth++] = nextRoom;
+        }
+
+        if (loopDensity() == 0) {
+            return;
+        }
+
+        // Open some of the remaining passages to create loops
+        for (room = 0; room < roomCount; room++) {
+            neighbourCount = neighbours(room, neighbourArray);
+            for (int i = 0; i < neighbourCount; i++) {
+                if ((neighbourArray[i] > room) && (random().nextDouble() < loopDensity())) {
+                    openPassage(room, neighbourArray[i], openArray);
+                }
+            }
+        }
+    }
+
+    public Maze generateMaze() {
+
+        boolean[] openArray;
+        List<String> wallList;
+        MazePoint entrance;
+        int exitCol;
+
+        // Every 2x2 square keeps a wall between rooms, so no empty area is ever large enough to be rejected
+        openArray = new boolean[colMax() * rowMax()];
+        carveRooms(openArray);
+
+        // The bottom row is closed but for a single exit below a room
+        exitCol = 1 + 2 * random().nextInt(_roomColCount);
+        openArray[cell(exitCol, rowMax())] = true;
+
+        // Enter the maze from a room on the left edge
+        entrance = new MazePoint(1, roomRow(_roomColCount * random().nextInt(_roomRowCount)));
+
+        wallList = new ArrayList<String>();
+        for (int row = 1; row <= rowMax(); row++) {
+            for (int col = 1; col <= colMax(); col++) {
+                if (openArray[cell(col, row)] == false) {
+                    wallList.add(new MazePoint(col, row).toText());
+                }
+            }
+        }
+
+        return new Maze(null, entrance.toText(), colMax() + "x" + rowMax(), wallList.toArray(new String[0]));
+    }
+
+    public Maze[] generateMazes() {
+
+        Maze[] mazeArray;
+
+        mazeArray = new Maze[count()];
+        for (int i = 0; i < mazeArray.length; i++) {
+            mazeArray[i] = generateMaze();
+        }
+        return mazeArray;
+    }
+
+    public static RestOutput<MazeGenerator> with(MazeGeneration mazeGeneration) {
+
+        String[] gridArray;
+        int col;
+        int row;
+        double loopDensity;
+        int count;
+        SplittableRandom random;
+
+        if (Api.isNull(mazeGeneration, mazeGeneration.getGridSize())) {
+            return RestOutput.badRequest();
+        }
+
+        gridArray = mazeGeneration.getGridSize().split("x");
+        if (gridArray.length != 2) {
+            Api.error("MazeGenerator grid is not well defined", mazeGeneration);
+            return RestOutput.badRequest();
+        }
+
+        try {
+            col = Integer.parseInt(gridArray[0]);
+            row = Integer.parseInt(gridArray[1]);
+        } catch (NumberFormatException e) {
+            Api.error("MazeGenerator grid is not well defined", mazeGeneration);
+            return RestOutput.badRequest();
+        }
+
+        // At least one row of rooms above the bottom row
+        if ((col < 1) || (col > Setup.MAZE_COL_MAX) || (row < 2) || (row > Setup.MAZE_ROW_MAX)) {
+            Api.error("MazeGenerator grid size is not valid", mazeGeneration);
+            return RestOutput.badRequest();
+        }
+
+        loopDensity = (mazeGeneration.getLoopDensity() == null) ? 0 : mazeGeneration.getLoopDensity();
+        if ((loopDensity < 0) || (loopDensity > 1)) {
+            Api.error("MazeGenerator loop density must be within [0-1]", mazeGeneration);
+            return RestOutput.badRequest();
+        }
+
+        count = (mazeGeneration.getCount() == null) ? 1 : mazeGeneration.getCount();
+        if ((count < 1) || (count > Setup.MAZE_GENERATION_MAX)) {
+            Api.error("MazeGenerator count must be within [1-" + Setup.MAZE_GENERATION_MAX + "]", mazeGeneration);
+            return RestOutput.badRequest();
+        }
+
+        // Large grids come one at a time
+        if ((long) count * col * row > Setup.MAZE_GENERATION_CELL_MAX) {
+            Api.error("MazeGenerator count of cells must be within " + Setup.MAZE_GENERATION_CELL_MAX, mazeGeneration);
+            return RestOutput.badRequest();
+        }
+
+        // Same seed, same mazes
+        random = (mazeGeneration.getSeed() == null) ? new SplittableRandom()
+                                                    : new SplittableRandom(mazeGeneration.getSeed());
+
+        return RestOutput.ok(new MazeGenerator(col, row, loopDensity, count, random));
+    }
+
+    @Override
+    public String toString() {
+        return "MazeGenerator [_colMax=" + _colMax
+               + ", _rowMax="
+               + _rowMax
+               + ", _loopDensity="
+               + _loopDensity
+               + ", _count="
+               + _count
+               + "]";
+    }
+}
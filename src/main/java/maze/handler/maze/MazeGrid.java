@@ -0,0 +1,260 @@
+package maze.handler.maze;
+
+public class MazeGrid {
+
+    protected static final int UP              = 0;
+    protected static final int DOWN            = 1;
+    protected static final int LEFT            = 2;
+    protected static final int RIGHT           = 3;
+    protected static final int DIRECTION_COUNT = 4;
+
+    private static final int   ADDRESS_BITS    = 6;
+
+    private final int          _colMax;
+    private final int          _rowMax;
+    private final int          _width;
+    private final long[]       _words;
+    private final int[]        _offsetArray;
+
+    private MazeGrid(int colMax, int rowMax, long[] words) {
+
+        _colMax = colMax;
+        _rowMax = rowMax;
+        _width = colMax + 2;
+        _words = words;
+
+        // Index offset to the neighbor in each direction
+        _offsetArray = new int[] { -_width, _width, -1, 1 };
+    }
+
+    protected int colMax() {
+
+        return _colMax;
+    }
+
+    protected int rowMax() {
+
+        return _rowMax;
+    }
+
+    protected int width() {
+
+        return _width;
+    }
+
+    protected int height() {
+
+        return rowMax() + 2;
+    }
+
+    protected int cellCount() {
+
+        return width() * height();
+    }
+
+    protected long[] words() {
+
+        return _words;
+    }
+
+    protected int index(int col, int row) {
+
+        // Row-major index including the extra borders
+        return row * width() + col;
+    }
+
+    protected int index(MazePoint mazePoint) {
+
+        return index(mazePoint.col(), mazePoint.row());
+    }
+
+    protected int offset(int direction) {
+
+        return _offsetArray[direction];
+    }
+
+    protected int col(int index) {
+
+        return index % width();
+    }
+
+    protected int row(int index) {
+
+        return index / width();
+    }
+
+    protected MazePoint mazePoint(int index) {
+
+        return new MazePoint(col(index), row(index));
+    }
+
+    protected boolean isWall(int index) {
+
+        return (words()[index >>> ADDRESS_BITS] & (1L << index)) != 0L;
+    }
+
+    protected boolean isWall(int col, int row) {
+
+        return isWall(index(col, row));
+    }
+
+    protected boolean isWall(MazePoint mazePoint) {
+
+        return isWall(index(mazePoint));
+    }
+
+    protected void setWall(int index) {
+
+        words()[index >>> ADDRESS_BITS] |= (1L << index);
+    }
+
+    protected void setWall(int col, int row) {
+
+        setWall(index(col, row));
+    }
+
+    protected void clearWall(int index) {
+
+        words()[index >>> ADDRESS_BITS] &= ~(1L << index);
+    }
+
+    protected void clearWall(int col, int row) {
+
+        clearWall(index(col, row));
+    }
+
+    protected MazeGrid copy() {
+
+        long[] words;
+
+        // A single copy of the packed words is enough to clone the grid
+        words = new long[words().length];
+        System.arraycopy(words(), 0, words, 0, words.length);
+
+        return new MazeGrid(colMax(), rowMax(), words);
+    }
+
+    protected MazeGrid withoutDeadEnds(int entrance, int exit) {
+
+        MazeGrid grid;
+        int[] degreeArray;
+        int[] stackArray;
+        int depth;
+        int index;
+        int neighbour;
+
+        grid = copy();
+        degreeArray = new int[cellCount()];
+        stackArray = new int[cellCount()];
+        depth = 0;
+
+        // Count the free neighbours of each free cell. Borders are walls so every neighbour index is valid.
+        for (int row = 1; row <= rowMax(); row++) {
+            for (int col = 1; col <= colMax(); col++) {
+
+                index = index(col, row);
+                if (grid.isWall(index)) {
+                    continue;
+                }
+                for (int direction = 0; direction < DIRECTION_COUNT; direction++) {
+                    if (grid.isWall(index + offset(direction)) == false) {
+                        degreeArray[index]++;
+                    }
+                }
+                if ((degreeArray[index] <= 1) && (index != entrance) && (index != exit)) {
+                    stackArray[depth++] = index;
+                }
+            }
+        }
+
+        // A free cell with at most one free neighbour is never inside a path from the entrance to the exit.
+        // Filling it may turn its neighbour into such a dead end too, and each cell is filled at most once.
+        while (depth > 0) {
+
+            index = stackArray[--depth];
+            grid.setWall(index);
+
+            for (int direction = 0; direction < DIRECTION_COUNT; direction++) {
+                neighbour = index + offset(direction);
+                if (grid.isWall(neighbour)) {
+                    continue;
+                }
+                degreeArray[neighbour]--;
+                if ((degreeArray[neighbour] == 1) && (neighbour != entrance) && (neighbour != exit)) {
+                    stackArray[depth++] = neighbour;
+                }
+            }
+        }
+
+        return grid;
+    }
+
+    protected byte[] wallBitmap() {
+
+        byte[] bitmap;
+        int bit;
+
+        // One bit per cell row after row without the borders, the first cell in the highest bit of the first byte
+        bitmap = new byte[bitmapLength(colMax(), rowMax())];
+        bit = 0;
+        for (int row = 1; row <= rowMax(); row++) {
+            for (int col = 1; col <= colMax(); col++) {
+
+                if (isWall(col, row)) {
+                    bitmap[bit >>> 3] |= (0x80 >>> (bit & 7));
+                }
+                bit++;
+            }
+        }
+        return bitmap;
+    }
+
+    protected void setWalls(byte[] bitmap) {
+
+        int bit;
+
+        // The bitmap length is checked against the grid beforehand
+        bit = 0;
+        for (int row = 1; row <= rowMax(); row++) {
+            for (int col = 1; col <= colMax(); col++) {
+
+                if ((bitmap[bit >>> 3] & (0x80 >>> (bit & 7))) != 0) {
+                    setWall(col, row);
+                }
+                bit++;
+            }
+        }
+    }
+
+    protected static int bitmapLength(int colMax, int rowMax) {
+
+        return (int) (((long) colMax * rowMax + 7) >>> 3);
+    }
+
+    @Override
+    public String toString() {
+        return "MazeGrid [_colMax=" + _colMax + ", _rowMax=" + _rowMax + "]";
+    }
+
+    public static MazeGrid with(int colMax, int rowMax) {
+
+        MazeGrid mazeGrid;
+        int cellCount;
+
+        cellCount = (colMax + 2) * (rowMax + 2);
+
+        mazeGrid = new MazeGrid(colMax, rowMax, new long[(cellCount + 63) >>> ADDRESS_BITS]);
+
+        // Generate 4 extra borders as walls to bound the solver
+        for (int row = 0; row < rowMax + 2; row++) {
+            mazeGrid.setWall(0, row);
+            mazeGrid.setWall(colMax + 1, row);
+        }
+        for (int col = 0; col < colMax + 2; col++) {
+            mazeGrid.setWall(col, 0);
+            mazeGrid.setWall(col, rowMax + 1);
+        }
+
+        return mazeGrid;
+    }
+}
@@ -1,10 +1,18 @@
 package maze.handler.maze;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -12,31 +20,78 @@ import java.util.stream.Stream;
 import maze.Setup;
 import maze.base.Api;
 import maze.base.RestOutput;
+import maze.base.Result;
 import maze.model.Maze;
+import maze.model.MazeDistance;
+import maze.model.MazeHint;
+import maze.model.MazeProgress;
 import maze.model.MazeSolution;
 import maze.store.maze.MazeRecord;
 
 public class MazeHandler implements Comparable<MazeHandler> {
 
-    private final int                       _mazeId;
+    // Bounded pool for every solve started by a request
+    private static final SolverScheduler                 SolverExecutor     = new SolverScheduler("solver",
+                    Setup.MAZE_SOLVER_THREADS,
+                    Setup.MAZE_SOLVER_QUEUE_SIZE);
 
-    private final MazePoint                 _entrance;
-    private final MazePoint                 _exit;
-    private final boolean[][]               _grid;
+    // Paths shared by every identical maze of any user
+    private static final SolutionCache                   MinPathCache       = new SolutionCache("min",
+                    Setup.MAZE_SOLUTION_CACHE_SIZE);
+    private static final SolutionCache                   MaxPathCache       = new SolutionCache("max",
+                    Setup.MAZE_SOLUTION_CACHE_SIZE);
 
-    private final AtomicReference<MazePath> _minPathReference;
-    private final AtomicReference<MazePath> _maxPathReference;
+    // Steps to the exit from every cell for the hints, kept for the most recently asked mazes only
+    private static final DistanceFieldCache              DistanceFieldCache = new DistanceFieldCache("distance",
+                    Setup.MAZE_DISTANCE_CELL_MAX);
 
-    private MazeHandler(int mazeId, MazePoint entrance, MazePoint exit, boolean[][] grid) {
+    // Solve new and restored mazes ahead of their first request
+    private static final PresolvePool                    PresolvePool       = new PresolvePool("presolve",
+                    Setup.MAZE_PRESOLVE_THREADS,
+                    Setup.MAZE_PRESOLVE_QUEUE_SIZE);
+
+    private final int                                    _mazeId;
+
+    private final MazePoint                              _entrance;
+    private final MazePoint                              _exit;
+    private final MazeGrid                               _grid;
+    private final MazeKey                                _mazeKey;
+
+    // Grid with its dead ends filled, computed once for every solver
+    private final AtomicReference<MazeGrid>              _solverGridReference;
+
+    // Corridors between the junctions of the maze, and the chain of blocks solved for the Max Path
+    private final AtomicReference<JunctionGraph>         _junctionGraphReference;
+    private final AtomicReference<List<MazeBlock>>       _blockListReference;
+
+    private final AtomicReference<MazePath>              _minPathReference;
+    private final AtomicReference<MazePath>              _maxPathReference;
+
+    // Told of each proven path as soon as it is kept
+    private final AtomicReference<Consumer<MazeHandler>> _pathListenerReference;
+
+    // Solve in progress for the watchers of the Max Path
+    private final AtomicReference<MazeBroadcast>         _maxBroadcastReference;
+
+    private MazeHandler(int mazeId, MazePoint entrance, MazePoint exit, MazeGrid grid) {
 
         _mazeId = mazeId;
 
         _entrance = entrance;
         _exit = exit;
         _grid = grid;
+        _mazeKey = new MazeKey(entrance, grid);
+
+        _solverGridReference = new AtomicReference<MazeGrid>(null);
+        _junctionGraphReference = new AtomicReference<JunctionGraph>(null);
+        _blockListReference = new AtomicReference<List<MazeBlock>>(null);
 
         _minPathReference = new AtomicReference<MazePath>(null);
         _maxPathReference = new AtomicReference<MazePath>(null);
+
+        _pathListenerReference = new AtomicReference<Consumer<MazeHandler>>(null);
+
+        _maxBroadcastReference = new AtomicReference<MazeBroadcast>(null);
     }
 
     public int mazeId() {
@@ -44,14 +99,74 @@ public class MazeHandler implements Comparable<MazeHandler> {
         return _mazeId;
     }
 
-    private boolean[][] grid() {
+    private MazeGrid grid() {
 
         return _grid;
     }
 
-    private boolean[][] gridClone() {
+    private MazeKey mazeKey() {
+
+        return _mazeKey;
+    }
+
+    private boolean isSolved() {
+
+        return ((_minPathReference.get() != null) && (_maxPathReference.get() != null));
+    }
+
+    private <T> T keepSolverState(AtomicReference<T> reference, T state) {
+
+        T keptState;
+
+        keptState = reference.compareAndExchange(null, state);
+        if (keptState != null) {
+            return keptState;
+        }
+
+        if (isSolved()) {
+            // Both paths were kept meanwhile. Nothing is left to solve with it.
+            reference.compareAndSet(state, null);
+        }
+        return state;
+    }
+
+    private void releaseSolverState() {
 
-        return Arrays.stream(grid()).map(boolean[]::clone).toArray(boolean[][]::new);
+        // Both paths are kept. The grids and graphs built to solve them are given back, or built again if ever needed.
+        _solverGridReference.set(null);
+        _junctionGraphReference.set(null);
+        _blockListReference.set(null);
+    }
+
+    protected boolean holdsSolverState() {
+
+        return ((_solverGridReference.get() != null)
+                || (_junctionGraphReference.get() != null)
+                || (_blockListReference.get() != null));
+    }
+
+    private MazeGrid solverGrid() {
+
+        MazeGrid solverGrid;
+
+        solverGrid = _solverGridReference.get();
+        if (solverGrid != null) {
+            return solverGrid;
+        }
+
+        if (Setup.MAZE_DEAD_END_FILLING == false) {
+            solverGrid = grid();
+        } else {
+            // Dead ends are never part of a path from the entrance to the exit
+            solverGrid = grid().withoutDeadEnds(grid().index(entrance()), grid().index(exit()));
+        }
+
+        return keepSolverState(_solverGridReference, solverGrid);
+    }
+
+    private MazeGrid solverGridClone() {
+
+        return solverGrid().copy();
     }
 
     private MazePoint entrance() {
@@ -64,44 +179,323 @@ public class MazeHandler implements Comparable<MazeHandler> {
         return _exit;
     }
 
-    private MazePath computeMinPath() {
+    private JunctionGraph junctionGraph() {
+
+        JunctionGraph junctionGraph;
+
+        junctionGraph = _junctionGraphReference.get();
+        if (junctionGraph != null) {
+            return junctionGraph;
+        }
+
+        junctionGraph = new JunctionGraph(entrance(), exit(), solverGrid());
+
+        return keepSolverState(_junctionGraphReference, junctionGraph);
+    }
+
+    private List<MazeBlock> blockList() {
+
+        List<MazeBlock> blockList;
+
+        blockList = _blockListReference.get();
+        if (blockList != null) {
+            return blockList;
+        }
+
+        if (Setup.MAZE_MAX_PATH_BLOCKS == false) {
+            // The whole maze as a single block
+            blockList = List.of(new MazeBlock(entrance(), exit(), solverGrid(), 0, 0));
+        } else {
+            // Split the maze into the chain of blocks between the entrance and the exit
+            blockList = new MazeBlockTree(entrance(), exit(), solverGrid()).blockChain();
+        }
+
+        return keepSolverState(_blockListReference, blockList);
+    }
+
+    private CompletableFuture<DistanceField> distanceFieldFuture() {
 
+        // Shared by identical mazes, and computed once on the solver executor over the whole grid rather than the
+        // solver grid, since a hint may be asked from within a dead end
+        return DistanceFieldCache.distanceFieldAsync(mazeKey(),
+                                                     () -> DistanceField.with(exit(), grid()),
+                                                     SolverExecutor);
+    }
+
+    private MazePath computeMinPath(SolverMeter solverMeter) {
+
+        BreadthFirstSolver breadthFirstSolver;
         MinMazeSolver minMazeSolver;
 
-        // Clone the grid to be able to provide the maze while the solver is running
-        minMazeSolver = new MinMazeSolver(entrance(), exit(), gridClone());
+        if (Setup.MAZE_JUNCTION_GRAPH) {
+
+            // Shortest path over the corridors between junctions
+            return new JunctionMinSolver(junctionGraph()).solve();
+        }
+
+        if (Setup.MAZE_MIN_PATH_BFS) {
+
+            // The breadth first search only reads the grid
+            breadthFirstSolver = new BreadthFirstSolver(entrance(), exit(), solverGrid());
+
+            return breadthFirstSolver.solve();
+        }
+
+        // Clone the shared solver grid since the solver marks its cells while running
+        minMazeSolver = new MinMazeSolver(entrance(), exit(), solverGridClone(), new SolverContext(solverMeter));
 
         return minMazeSolver.solve();
     }
 
-    private MazePath computeMaxPath() {
+    private MazePath computeMaxPath(MazeBlock mazeBlock, SolverMeter solverMeter, Consumer<MazePath> pathConsumer) {
 
+        SolverContext solverContext;
+        MazePoint entrance;
+        MazePoint exit;
+        MazeGrid grid;
         MaxMazeSolver maxMazeSolver;
 
-        // Clone the grid to be able to provide the maze while the solver is running
-        maxMazeSolver = new MaxMazeSolver(entrance(), exit(), gridClone());
+        // Every block is solved on its own, within the budget of the whole maze
+        solverContext = new SolverContext(solverMeter, pathConsumer);
+
+        if (Setup.MAZE_MAX_PATH_JUNCTION) {
+            // Longest path over the corridors between junctions
+            return new JunctionMaxSolver(mazeBlock.junctionGraph(), solverContext).solve();
+        }
+
+        // Clone the shared grid of the block since the solver marks its cells while running
+        entrance = mazeBlock.localEntrance();
+        exit = mazeBlock.localExit();
+        grid = mazeBlock.grid().copy();
+
+        if (Setup.MAZE_MAX_PATH_FORK_JOIN && (grid.colMax() * grid.rowMax() >= Setup.MAZE_PARALLEL_CELL_MIN)) {
+            // Same outcome as the bounded solver, with the search tree split across workers
+            return new ParallelMaxMazeSolver(entrance, exit, grid, solverContext).solve();
+        }
+
+        if (Setup.MAZE_MAX_PATH_BOUNDED) {
+            maxMazeSolver = new BoundedMaxMazeSolver(entrance, exit, grid, solverContext);
+        } else {
+            maxMazeSolver = new MaxMazeSolver(entrance, exit, grid, solverContext);
+        }
 
         return maxMazeSolver.solve();
     }
 
-    private MazePath minPath() {
+    private Consumer<MazePath> blockPathConsumer(List<MazePath> mazePathList,
+                                                 MazeBlock mazeBlock,
+                                                 Consumer<MazePath> pathConsumer) {
 
-        MazePath minPath;
+        if (pathConsumer == null) {
+            return null;
+        }
 
-        minPath = _minPathReference.get();
-        if (minPath != null) {
-            return minPath;
+        // Follow the blocks already solved with the path selected in this block. The watchers see it as partial
+        // since it ends at the exit of this block until the last block.
+        return (blockPath) -> {
+
+            List<MazePath> progressPathList;
+
+            progressPathList = new ArrayList<MazePath>(mazePathList);
+            progressPathList.add(mazeBlock.toMazePath(blockPath));
+
+            pathConsumer.accept(MazePath.join(progressPathList));
+        };
+    }
+
+    private MazePath computeMaxPath(SolverMeter solverMeter, Consumer<MazePath> pathConsumer) {
+
+        List<MazePath> mazePathList;
+        MazePath blockPath;
+
+        mazePathList = new ArrayList<MazePath>();
+        for (MazeBlock mazeBlock : blockList()) {
+
+            if (mazeBlock.isStep()) {
+                // Single step to the next block
+                mazePathList.add(new MazePath(new MazePoint[] { mazeBlock.entrance(), mazeBlock.exit() }));
+                continue;
+            }
+
+            // Solve each block on its own grid. A block with multiple paths makes the whole maze ambiguous.
+            blockPath = mazeBlock.toMazePath(computeMaxPath(mazeBlock,
+                                                            solverMeter,
+                                                            blockPathConsumer(mazePathList,
+                                                                              mazeBlock,
+                                                                              pathConsumer)));
+            if (blockPath.isNoPath() || blockPath.isMultiplePaths()) {
+                return blockPath;
+            }
+            mazePathList.add(blockPath);
         }
 
-        // Compute the Min Path for this Maze and cache the outcome
-        minPath = computeMinPath();
+        return MazePath.join(mazePathList);
+    }
+
+    private void notifyPathListener() {
+
+        Consumer<MazeHandler> pathListener;
+
+        pathListener = _pathListenerReference.get();
+        if (pathListener != null) {
+            pathListener.accept(this);
+        }
+    }
+
+    public void listenPaths(Consumer<MazeHandler> pathListener) {
+
+        _pathListenerReference.set(pathListener);
+
+        // Catch up with any path kept before listening
+        if ((_minPathReference.get() != null) || (_maxPathReference.get() != null)) {
+            pathListener.accept(this);
+        }
+    }
+
+    private MazePath keepMinPath(MazePath minPath) {
+
+        // Only cache a proven outcome
+        if (minPath.isProven() == false) {
+            return minPath;
+        }
         if (!_minPathReference.compareAndSet(null, minPath)) {
             return _minPathReference.get();
         }
+        if (isSolved()) {
+            releaseSolverState();
+        }
+        notifyPathListener();
         return minPath;
     }
 
-    private MazePath maxPath() {
+    private MazePath keepMaxPath(MazePath maxPath) {
+
+        // Only cache a proven outcome
+        if (maxPath.isProven() == false) {
+            return maxPath;
+        }
+        if (!_maxPathReference.compareAndSet(null, maxPath)) {
+            return _maxPathReference.get();
+        }
+        if (isSolved()) {
+            releaseSolverState();
+        }
+        notifyPathListener();
+        return maxPath;
+    }
+
+    private static String pathStatus(MazePath mazePath) {
+
+        if (mazePath == null) {
+            return MazeRecord.PATH_UNSOLVED;
+        }
+        if (mazePath == MazePath.NO_PATH) {
+            return MazeRecord.PATH_NONE;
+        }
+        if (mazePath == MazePath.MULTIPLE_PATHS) {
+            return MazeRecord.PATH_MULTIPLE;
+        }
+        return MazeRecord.PATH_FOUND;
+    }
+
+    private static String[] pathTextArray(MazePath mazePath) {
+
+        if ((mazePath == null) || (mazePath == MazePath.NO_PATH) || (mazePath == MazePath.MULTIPLE_PATHS)) {
+            return new String[0];
+        }
+        return mazePath.toTextArray();
+    }
+
+    private MazePath restorePath(String status, String[] pathTextArray) {
+
+        MazePoint[] mazePointArray;
+        int index;
+        int previousIndex;
+        boolean isNeighbor;
+
+        if (Objects.equals(MazeRecord.PATH_NONE, status)) {
+            return MazePath.NO_PATH;
+        }
+        if (Objects.equals(MazeRecord.PATH_MULTIPLE, status)) {
+            return MazePath.MULTIPLE_PATHS;
+        }
+        if ((Objects.equals(MazeRecord.PATH_FOUND, status) == false) || (pathTextArray.length == 0)) {
+            return null;
+        }
+
+        // Only trust a stored path going through free neighbor cells from the entrance to the exit
+        mazePointArray = new MazePoint[pathTextArray.length];
+        previousIndex = MazePoint.NO_INDEX;
+
+        for (int i = 0; i < pathTextArray.length; i++) {
+
+            index = MazePoint.index(pathTextArray[i], grid());
+            if ((index == MazePoint.NO_INDEX) || grid().isWall(index)) {
+                return null;
+            }
+
+            if (previousIndex != MazePoint.NO_INDEX) {
+                isNeighbor = false;
+                for (int direction = 0; direction < MazeGrid.DIRECTION_COUNT; direction++) {
+                    if (previousIndex + grid().offset(direction) == index) {
+                        isNeighbor = true;
+                    }
+                }
+                if (isNeighbor == false) {
+                    return null;
+                }
+            }
+
+            mazePointArray[i] = grid().mazePoint(index);
+            previousIndex = index;
+        }
+
+        if ((mazePointArray[0].equals(entrance()) == false)
+            || (mazePointArray[mazePointArray.length - 1].equals(exit()) == false)) {
+            return null;
+        }
+
+        return new MazePath(mazePointArray);
+    }
+
+    public void restorePaths(MazeRecord mazeRecord) {
+
+        MazePath minPath;
+        MazePath maxPath;
+
+        if (Api.isNull(mazeRecord, mazeRecord.minStatus(), mazeRecord.maxStatus())) {
+            return;
+        }
+
+        // Warm the caches with the paths solved before the restart
+        minPath = restorePath(mazeRecord.minStatus(), mazeRecord.minPath());
+        if ((minPath != null) && _minPathReference.compareAndSet(null, minPath)) {
+            MinPathCache.offer(mazeKey(), minPath);
+        }
+
+        maxPath = restorePath(mazeRecord.maxStatus(), mazeRecord.maxPath());
+        if ((maxPath != null) && _maxPathReference.compareAndSet(null, maxPath)) {
+            MaxPathCache.offer(mazeKey(), maxPath);
+        }
+    }
+
+    private CompletableFuture<MazePath> minPathFuture(SolverBudget solverBudget) {
+
+        MazePath minPath;
+
+        minPath = _minPathReference.get();
+        if (minPath != null) {
+            return CompletableFuture.completedFuture(minPath);
+        }
+
+        // Share the Min Path of identical mazes, solved once on the solver executor
+        return MinPathCache.solveAsync(mazeKey(),
+                                       () -> computeMinPath(new SolverMeter(solverBudget)),
+                                       SolverExecutor)
+                           .thenApply(this::keepMinPath);
+    }
+
+    private MazePath maxPath(SolverMeter solverMeter, Consumer<MazePath> pathConsumer) {
 
         MazePath maxPath;
 
@@ -110,15 +504,101 @@ public class MazeHandler implements Comparable<MazeHandler> {
             return maxPath;
         }
 
-        // Compute the Max Path for this Maze and cache the outcome
-        maxPath = computeMaxPath();
-        if (!_maxPathReference.compareAndSet(null, maxPath)) {
-            return _maxPathReference.get();
+        maxPath = MaxPathCache.cached(mazeKey());
+        if (maxPath != null) {
+            return keepMaxPath(maxPath);
         }
-        return maxPath;
+
+        // Solve on its own to follow each longer path, rather than join a solve whose progress is not told.
+        // This solver thread never waits on a queued solve. A proven path is then shared with identical mazes.
+        maxPath = computeMaxPath(solverMeter, pathConsumer);
+        MaxPathCache.offer(mazeKey(), maxPath);
+
+        return keepMaxPath(maxPath);
     }
 
-    public RestOutput<Maze> retrieveMaze() {
+    private CompletableFuture<MazePath> maxPathFuture(SolverBudget solverBudget) {
+
+        MazePath maxPath;
+
+        maxPath = _maxPathReference.get();
+        if (maxPath != null) {
+            return CompletableFuture.completedFuture(maxPath);
+        }
+
+        // Share the Max Path of identical mazes, solved once on the solver executor
+        return MaxPathCache.solveAsync(mazeKey(),
+                                       () -> computeMaxPath(new SolverMeter(solverBudget), null),
+                                       SolverExecutor)
+                           .thenApply(this::keepMaxPath);
+    }
+
+    private void presolve() {
+
+        MazePath minPath;
+        MazePath maxPath;
+
+        // Solve apart from the shared solves, so that a request never waits on this low priority solve.
+        // Only a proven path is kept and shared with identical mazes. Others are left for the requests to solve.
+        if (_minPathReference.get() == null) {
+
+            minPath = MinPathCache.cached(mazeKey());
+            if (minPath == null) {
+                minPath = computeMinPath(new SolverMeter(SolverBudget.PRESOLVE));
+                MinPathCache.offer(mazeKey(), minPath);
+            }
+            keepMinPath(minPath);
+        }
+
+        if (_maxPathReference.get() == null) {
+
+            maxPath = MaxPathCache.cached(mazeKey());
+            if (maxPath == null) {
+                maxPath = computeMaxPath(new SolverMeter(SolverBudget.PRESOLVE), null);
+                MaxPathCache.offer(mazeKey(), maxPath);
+            }
+            keepMaxPath(maxPath);
+        }
+    }
+
+    public void schedulePresolve() {
+
+        if (Setup.MAZE_PRESOLVE) {
+            PresolvePool.submit(this::presolve);
+        }
+    }
+
+    public static void startPresolve() {
+
+        PresolvePool.start();
+    }
+
+    public static PresolvePool presolvePool() {
+
+        return PresolvePool;
+    }
+
+    public static SolverScheduler solverScheduler() {
+
+        return SolverExecutor;
+    }
+
+    public static SolutionCache minPathCache() {
+
+        return MinPathCache;
+    }
+
+    public static SolutionCache maxPathCache() {
+
+        return MaxPathCache;
+    }
+
+    public static DistanceFieldCache distanceFieldCache() {
+
+        return DistanceFieldCache;
+    }
+
+    public RestOutput<Maze> retrieveMaze(Boolean wallBitmap) {
 
         Maze maze;
         int colMax;
@@ -126,11 +606,21 @@ public class MazeHandler implements Comparable<MazeHandler> {
         String gridSize;
         String[] walls;
 
-        colMax = grid().length - 2;
-        rowMax = grid()[0].length - 2;
+        if (Api.isNull(wallBitmap)) {
+            return RestOutput.badRequest();
+        }
+
+        colMax = grid().colMax();
+        rowMax = grid().rowMax();
 
         gridSize = colMax + "x" + rowMax;
 
+        if (wallBitmap) {
+            // A few bits per cell instead of a string per wall
+            maze = new Maze(mazeId(), entrance().toText(), gridSize, null, encodeWallBitmap(grid()));
+            return RestOutput.ok(maze);
+        }
+
         walls = wallStream(grid()).map(MazePoint::toText).toArray(String[]::new);
 
         maze = new Maze(mazeId(), entrance().toText(), gridSize, walls);
@@ -138,12 +628,41 @@ public class MazeHandler implements Comparable<MazeHandler> {
         return RestOutput.ok(maze);
     }
 
-    public RestOutput<MazeSolution> solveMinPath() {
+    public RestOutput<MazeSolution> solveMinPath(SolverBudget solverBudget) {
 
-        MazePath minPath;
+        if (Api.isNull(solverBudget)) {
+            return RestOutput.badRequest();
+        }
 
-        // Access or compute the Min Path for this maze
-        minPath = minPath();
+        // Wait for the Min Path on the calling thread, which must not be a solver thread
+        return minSolution(minPathFuture(solverBudget).join(), Boolean.FALSE);
+    }
+
+    public RestOutput<CompletableFuture<MazeSolution>> solveMinPathAsync(SolverBudget solverBudget,
+                                                                         Boolean moves,
+                                                                         Executor executor) {
+
+        if (Api.isNull(solverBudget, moves, executor)) {
+            return RestOutput.badRequest();
+        }
+
+        // Complete once the Min Path is available, without holding the calling thread.
+        // The path is expanded on the executor of the caller, never on the solver thread which found it.
+        return RestOutput.ok(minPathFuture(solverBudget).thenApplyAsync(minPath -> minSolution(minPath, moves).output(),
+                                                                        executor));
+    }
+
+    private static MazeSolution pathSolution(MazePath mazePath, Boolean moves) {
+
+        if (moves) {
+            return new MazeSolution(mazePath.start().toText(), mazePath.toMoves(), mazePath.isProven());
+        }
+
+        // Each cell of the path is expanded only for this format
+        return new MazeSolution(mazePath.toTextArray(), mazePath.isProven());
+    }
+
+    private RestOutput<MazeSolution> minSolution(MazePath minPath, Boolean moves) {
 
         if (minPath == MazePath.NO_PATH) {
             Api.error("Maze has no path to exit for Min Path", this);
@@ -155,15 +674,34 @@ public class MazeHandler implements Comparable<MazeHandler> {
             return RestOutput.ok(new MazeSolution("Maze has multiple paths to exit for Min Path."));
         }
 
-        return RestOutput.ok(new MazeSolution(minPath.toTextArray()));
+        return RestOutput.ok(pathSolution(minPath, moves));
     }
 
-    public RestOutput<MazeSolution> solveMaxPath() {
+    public RestOutput<MazeSolution> solveMaxPath(SolverBudget solverBudget) {
 
-        MazePath maxPath;
+        if (Api.isNull(solverBudget)) {
+            return RestOutput.badRequest();
+        }
+
+        // Wait for the Max Path on the calling thread, which must not be a solver thread
+        return maxSolution(maxPathFuture(solverBudget).join(), Boolean.FALSE);
+    }
+
+    public RestOutput<CompletableFuture<MazeSolution>> solveMaxPathAsync(SolverBudget solverBudget,
+                                                                         Boolean moves,
+                                                                         Executor executor) {
+
+        if (Api.isNull(solverBudget, moves, executor)) {
+            return RestOutput.badRequest();
+        }
+
+        // Complete once the Max Path is available, without holding the calling thread.
+        // The path is expanded on the executor of the caller, never on the solver thread which found it.
+        return RestOutput.ok(maxPathFuture(solverBudget).thenApplyAsync(maxPath -> maxSolution(maxPath, moves).output(),
+                                                                        executor));
+    }
 
-        // Access or compute the Max Path for this maze
-        maxPath = maxPath();
+    private RestOutput<MazeSolution> maxSolution(MazePath maxPath, Boolean moves) {
 
         if (maxPath == MazePath.NO_PATH) {
             Api.error("Maze has no path to exit for Max Path", this);
@@ -175,27 +713,258 @@ public class MazeHandler implements Comparable<MazeHandler> {
             return RestOutput.ok(new MazeSolution("Maze has multiple paths to exit for Max Path."));
         }
 
-        return RestOutput.ok(new MazeSolution(maxPath.toTextArray()));
+        return RestOutput.ok(pathSolution(maxPath, moves));
+    }
+
+    private int cellIndex(String cell) {
+
+        int index;
+
+        if (cell == null) {
+            return MazePoint.NO_INDEX;
+        }
+
+        index = MazePoint.index(cell.trim().toUpperCase(), grid());
+        if (index == MazePoint.NO_INDEX) {
+            Api.error("Cell is not well defined within the grid", cell, this);
+        }
+        return index;
+    }
+
+    private static MazeDistance mazeDistance(DistanceField distanceField, int index, String cellText) {
+
+        int distance;
+
+        // Read straight from the distance field, without any solve
+        distance = distanceField.distance(index);
+        if (distance == DistanceField.UNREACHED) {
+            return new MazeDistance(cellText, "Cell " + cellText + " has no path to exit.");
+        }
+
+        return new MazeDistance(cellText, distance);
+    }
+
+    public RestOutput<CompletableFuture<MazeDistance>> retrieveDistance(String cell) {
+
+        int index;
+        String cellText;
+
+        index = cellIndex(cell);
+        if (index == MazePoint.NO_INDEX) {
+            return RestOutput.badRequest();
+        }
+        cellText = grid().mazePoint(index).toText();
+
+        if (grid().isWall(index)) {
+            return RestOutput.ok(CompletableFuture.completedFuture(new MazeDistance(cellText,
+                                                                                   "Cell " + cellText
+                                                                                             + " is a wall.")));
+        }
+
+        // Complete once the distance field is available, without holding the calling thread
+        return RestOutput.ok(distanceFieldFuture().thenApply(distanceField -> mazeDistance(distanceField,
+                                                                                          index,
+                                                                                          cellText)));
+    }
+
+    private MazeHint mazeHint(DistanceField distanceField, int index, String cellText) {
+
+        int distance;
+        int direction;
+        int nextIndex;
+
+        distance = distanceField.distance(index);
+        if (distance == DistanceField.UNREACHED) {
+            return new MazeHint(cellText, "Cell " + cellText + " has no path to exit.");
+        }
+
+        // Nowhere to go from the exit
+        direction = distanceField.nextDirection(index);
+        if (direction == DistanceField.NO_DIRECTION) {
+            return new MazeHint(cellText, null, null, distance);
+        }
+
+        nextIndex = index + grid().offset(direction);
+
+        return new MazeHint(cellText,
+                            grid().mazePoint(nextIndex).toText(),
+                            String.valueOf(MazePath.moveLetter(direction)),
+                            distance);
+    }
+
+    public RestOutput<CompletableFuture<MazeHint>> retrieveHint(String cell) {
+
+        int index;
+        String cellText;
+
+        index = cellIndex(cell);
+        if (index == MazePoint.NO_INDEX) {
+            return RestOutput.badRequest();
+        }
+        cellText = grid().mazePoint(index).toText();
+
+        if (grid().isWall(index)) {
+            return RestOutput.ok(CompletableFuture.completedFuture(new MazeHint(cellText,
+                                                                               "Cell " + cellText + " is a wall.")));
+        }
+
+        // Complete once the distance field is available, without holding the calling thread
+        return RestOutput.ok(distanceFieldFuture().thenApply(distanceField -> mazeHint(distanceField,
+                                                                                      index,
+                                                                                      cellText)));
+    }
+
+    private void broadcastMaxPath(MazeBroadcast mazeBroadcast, SolverBudget solverBudget) {
+
+        SolverMeter solverMeter;
+        RestOutput<MazeSolution> mazeSolutionOutput;
+
+        solverMeter = new SolverMeter(solverBudget, mazeBroadcast::publishIteration);
+
+        try {
+            // Push each longer path to the watchers while solving
+            mazeSolutionOutput = maxSolution(maxPath(solverMeter, mazeBroadcast::publishPath), Boolean.FALSE);
+
+            mazeBroadcast.publishSolution(mazeSolutionOutput.output(), solverMeter.iterationCount());
+
+        } catch (Throwable t) {
+            Api.error(t, "broadcastMaxPath failed", this);
+            mazeBroadcast.publishSolution(new MazeSolution("Failure to solve Max Path."), solverMeter.iterationCount());
+        } finally {
+            // Any later watcher starts another solve unless the Max Path is cached by now
+            _maxBroadcastReference.compareAndSet(mazeBroadcast, null);
+        }
+    }
+
+    public RestOutput<Result> watchMinPath(SolverBudget solverBudget, Predicate<MazeProgress> watcher) {
+
+        MazeBroadcast mazeBroadcast;
+
+        if (Api.isNull(solverBudget, watcher)) {
+            return RestOutput.badRequest();
+        }
+
+        // The Min Path is solved at once, on the solver executor. The watcher is told apart from the solver threads.
+        mazeBroadcast = new MazeBroadcast(exit());
+        mazeBroadcast.watch(watcher);
+
+        minPathFuture(solverBudget).whenComplete((minPath, throwable) -> {
+            if (throwable != null) {
+                Api.error(throwable, "watchMinPath failed", this);
+                mazeBroadcast.publishSolution(new MazeSolution("Failure to solve Min Path."), 0L);
+                return;
+            }
+            mazeBroadcast.publishSolution(minSolution(minPath, Boolean.FALSE).output(), 0L);
+        });
+
+        return RestOutput.OK;
+    }
+
+    public RestOutput<Result> watchMaxPath(SolverBudget solverBudget, Predicate<MazeProgress> watcher) {
+
+        MazePath maxPath;
+        MazeBroadcast mazeBroadcast;
+        MazeBroadcast nextBroadcast;
+
+        if (Api.isNull(solverBudget, watcher)) {
+            return RestOutput.badRequest();
+        }
+
+        maxPath = _maxPathReference.get();
+        if (maxPath != null) {
+            // Nothing left to solve
+            watcher.test(new MazeProgress(maxSolution(maxPath, Boolean.FALSE).output(), 0L, 0L));
+            return RestOutput.OK;
+        }
+
+        // Every watcher of this maze shares the same solve
+        mazeBroadcast = _maxBroadcastReference.get();
+        if (mazeBroadcast == null) {
+
+            nextBroadcast = new MazeBroadcast(exit());
+            mazeBroadcast = _maxBroadcastReference.compareAndExchange(null, nextBroadcast);
+            if (mazeBroadcast == null) {
+
+                // This watcher starts the solve
+                try {
+                    SolverExecutor.execute(() -> broadcastMaxPath(nextBroadcast, solverBudget));
+                } catch (RejectedExecutionException e) {
+                    // Release any watcher which joined in the meantime
+                    nextBroadcast.publishSolution(new MazeSolution("Solver is not available."), 0L);
+                    _maxBroadcastReference.compareAndSet(nextBroadcast, null);
+                    Api.error("watchMaxPath could not start the solve. NOT AVAILABLE", this);
+                    return RestOutput.notAvailable();
+                }
+                mazeBroadcast = nextBroadcast;
+            }
+        }
+
+        mazeBroadcast.watch(watcher);
+
+        return RestOutput.OK;
     }
 
     public RestOutput<MazeRecord> buildMazeRecord(String userId) {
 
         RestOutput<Maze> mazeOutput;
         Maze maze;
+        MazePath minPath;
+        MazePath maxPath;
         MazeRecord mazeRecord;
 
         if (Api.isNull(userId)) {
             return RestOutput.badRequest();
         }
 
-        mazeOutput = retrieveMaze();
+        // The wall bitmap is the stored form of the walls
+        mazeOutput = retrieveMaze(Boolean.TRUE);
         if (RestOutput.isNOK(mazeOutput)) {
             Api.error("retrieveMaze to buildMazeRecord is NOT OK", mazeOutput, this);
             return RestOutput.of(mazeOutput);
         }
         maze = mazeOutput.output();
 
-        mazeRecord = new MazeRecord(userId, maze.getMazeId(), maze.getEntrance(), maze.getGridSize(), maze.getWalls());
+        minPath = _minPathReference.get();
+        maxPath = _maxPathReference.get();
+
+        mazeRecord = new MazeRecord(userId,
+                                    maze.getMazeId(),
+                                    maze.getEntrance(),
+                                    maze.getGridSize(),
+                                    new String[0],
+                                    maze.getWallBitmap(),
+                                    pathStatus(minPath),
+                                    pathTextArray(minPath),
+                                    pathStatus(maxPath),
+                                    pathTextArray(maxPath));
+
+        return RestOutput.ok(mazeRecord);
+    }
+
+    public RestOutput<MazeRecord> buildPathRecord(String userId) {
+
+        MazePath minPath;
+        MazePath maxPath;
+        MazeRecord mazeRecord;
+
+        if (Api.isNull(userId)) {
+            return RestOutput.badRequest();
+        }
+
+        minPath = _minPathReference.get();
+        maxPath = _maxPathReference.get();
+
+        // The walls are stored once with the maze. Only its paths are stored again once solved.
+        mazeRecord = new MazeRecord(userId,
+                                    mazeId(),
+                                    entrance().toText(),
+                                    grid().colMax() + "x" + grid().rowMax(),
+                                    new String[0],
+                                    "",
+                                    pathStatus(minPath),
+                                    pathTextArray(minPath),
+                                    pathStatus(maxPath),
+                                    pathTextArray(maxPath));
 
         return RestOutput.ok(mazeRecord);
     }
@@ -222,35 +991,36 @@ public class MazeHandler implements Comparable<MazeHandler> {
                + "]";
     }
 
-    private static boolean hasWallInColumn(int col, int rowFrom, int rowTo, boolean[][] grid) {
+    private static int[] rightRunArray(MazeGrid grid) {
 
-        for (int row = rowFrom; row <= rowTo; row++) {
-            if (grid[col][row]) {
-                return true;
-            }
-        }
-        return false;
-    }
+        int[] rightRunArray;
+        int index;
+
+        rightRunArray = new int[grid.cellCount()];
 
-    private static boolean hasWallInRow(int colFrom, int colTo, int row, boolean[][] grid) {
+        // Count the free cells from each cell up to the first wall on its right. Borders are walls and end every run.
+        for (int row = 1; row <= grid.rowMax(); row++) {
+            for (int col = grid.colMax(); col >= 1; col--) {
 
-        for (int col = colFrom; col <= colTo; col++) {
-            if (grid[col][row]) {
-                return true;
+                index = grid.index(col, row);
+                if (grid.isWall(index) == false) {
+                    rightRunArray[index] = rightRunArray[index + 1] + 1;
+                }
             }
         }
-        return false;
+        return rightRunArray;
     }
 
-    private static int computeEmptyArea(int col, int row, boolean[][] grid) {
+    private static int computeEmptyArea(int col, int row, MazeGrid grid, int[] rightRunArray) {
 
         int areaCol;
         int areaRow;
         boolean expandCol;
         boolean expandRow;
+        int runMin;
 
         // Point is a wall itself
-        if (grid[col][row]) {
+        if (rightRunArray[grid.index(col, row)] == 0) {
             return 0;
         }
 
@@ -259,41 +1029,46 @@ public class MazeHandler implements Comparable<MazeHandler> {
         expandCol = true;
         expandRow = true;
 
+        // Shortest run of free cells on the right across the rows of the area
+        runMin = rightRunArray[grid.index(col, row)];
+
         while (expandCol || expandRow) {
 
             if (expandCol) {
-                if (hasWallInColumn(areaCol + 1, row, areaRow, grid)) {
+                // Next column is free across the rows of the area
+                if (runMin < areaCol + 2 - col) {
                     expandCol = false;
+                    if (areaCol == col) {
+                        // Not an area, whatever the rows
+                        return 0;
+                    }
                 } else {
                     areaCol++;
                 }
             }
 
             if (expandRow) {
-                if (hasWallInRow(col, areaCol, areaRow + 1, grid)) {
+                // Next row is free across the columns of the area
+                if (rightRunArray[grid.index(col, areaRow + 1)] < areaCol + 1 - col) {
                     expandRow = false;
+                    if (areaRow == row) {
+                        // Not an area, whatever the columns
+                        return 0;
+                    }
                 } else {
                     areaRow++;
+                    runMin = Math.min(runMin, rightRunArray[grid.index(col, areaRow)]);
                 }
             }
         }
 
-        if (areaCol == col) {
-            // Not an area
-            return 0;
-        }
-
-        if (areaRow == row) {
-            // Not an area
-            return 0;
-        }
-
         return (areaCol + 1 - col) * (areaRow + 1 - row);
     }
 
-    private static Optional<MazePoint> findEmptyArea(AtomicInteger area, boolean[][] grid) {
+    protected static Optional<MazePoint> findEmptyArea(AtomicInteger area, MazeGrid grid) {
 
         MazePoint mazePoint;
+        int[] rightRunArray;
         int emptyArea;
         int colMin;
         int colMax;
@@ -301,16 +1076,19 @@ public class MazeHandler implements Comparable<MazeHandler> {
         int rowMax;
 
         colMin = 1;
-        colMax = grid.length - 2;
+        colMax = grid.colMax();
 
         rowMin = 1;
-        rowMax = grid[0].length - 2;
+        rowMax = grid.rowMax();
+
+        // Each area grows by a column or a row in constant time from the runs of free cells
+        rightRunArray = rightRunArray(grid);
 
         for (int row = rowMin; row <= rowMax; row++) {
             for (int col = colMin; col <= colMax; col++) {
 
                 // Compute the empty area for this point
-                emptyArea = computeEmptyArea(col, row, grid);
+                emptyArea = computeEmptyArea(col, row, grid, rightRunArray);
 
                 if (emptyArea > Setup.MAZE_EMPTY_AREA_MAX) {
 
@@ -330,7 +1108,22 @@ public class MazeHandler implements Comparable<MazeHandler> {
         return Optional.empty();
     }
 
-    private static Stream<MazePoint> wallStream(boolean[][] grid) {
+    private static String encodeWallBitmap(MazeGrid grid) {
+
+        return Base64.getEncoder().encodeToString(grid.wallBitmap());
+    }
+
+    private static byte[] decodeWallBitmap(String wallBitmap) {
+
+        try {
+            return Base64.getDecoder().decode(wallBitmap.trim());
+        } catch (IllegalArgumentException e) {
+            Api.error("Wall bitmap is not base64", wallBitmap);
+            return null;
+        }
+    }
+
+    private static Stream<MazePoint> wallStream(MazeGrid grid) {
 
         Stream.Builder<MazePoint> streamBuilder;
         int colMin;
@@ -341,15 +1134,15 @@ public class MazeHandler implements Comparable<MazeHandler> {
         streamBuilder = Stream.builder();
 
         colMin = 1;
-        colMax = grid.length - 2;
+        colMax = grid.colMax();
 
         rowMin = 1;
-        rowMax = grid[0].length - 2;
+        rowMax = grid.rowMax();
 
         for (int row = rowMin; row <= rowMax; row++) {
             for (int col = colMin; col <= colMax; col++) {
 
-                if (grid[col][row]) {
+                if (grid.isWall(col, row)) {
                     streamBuilder.add(new MazePoint(col, row));
                 }
             }
@@ -358,7 +1151,7 @@ public class MazeHandler implements Comparable<MazeHandler> {
         return streamBuilder.build();
     }
 
-    private static Stream<MazePoint> bottomStream(boolean[][] grid) {
+    private static Stream<MazePoint> bottomStream(MazeGrid grid) {
 
         Stream.Builder<MazePoint> streamBuilder;
         int colMin;
@@ -368,8 +1161,8 @@ public class MazeHandler implements Comparable<MazeHandler> {
         streamBuilder = Stream.builder();
 
         colMin = 1;
-        colMax = grid.length - 2;
-        rowMax = grid[0].length - 2;
+        colMax = grid.colMax();
+        rowMax = grid.rowMax();
 
         for (int col = colMin; col <= colMax; col++) {
             streamBuilder.add(new MazePoint(col, rowMax));
@@ -377,7 +1170,7 @@ public class MazeHandler implements Comparable<MazeHandler> {
         return streamBuilder.build();
     }
 
-    private static RestOutput<Set<MazePoint>> computeExitSet(MazePoint entrance, boolean[][] grid) {
+    private static RestOutput<Set<MazePoint>> computeExitSet(MazePoint entrance, MazeGrid grid) {
 
         Set<MazePoint> exitSet;
 
@@ -386,7 +1179,7 @@ public class MazeHandler implements Comparable<MazeHandler> {
         }
 
         // Consider a possible exit as one of the bottom edge which is not a wall and not the entrance
-        exitSet = bottomStream(grid).filter(mp -> !grid[mp.col()][mp.row()])
+        exitSet = bottomStream(grid).filter(mp -> !grid.isWall(mp))
                                     .filter(mp -> !entrance.equals(mp))
                                     .collect(Collectors.toSet());
 
@@ -407,11 +1200,20 @@ public class MazeHandler implements Comparable<MazeHandler> {
         Set<MazePoint> exitSet;
         MazePoint exit;
         MazePoint mazePoint;
-        boolean[][] grid;
+        int wallIndex;
+        byte[] bitmap;
+        MazeGrid grid;
         Integer mazeId;
         MazeHandler mazeHandler;
 
-        if (Api.isNull(maze, maze.getEntrance(), maze.getGridSize(), maze.getWalls(), mazeIdSupplier, errorReference)) {
+        if (Api.isNull(maze, maze.getEntrance(), maze.getGridSize(), mazeIdSupplier, errorReference)) {
+            return RestOutput.badRequest();
+        }
+
+        // Walls come either as a list of cells or as a bitmap
+        if ((maze.getWalls() == null) == (maze.getWallBitmap() == null)) {
+            errorReference.set("Walls must be defined either as a list or as a bitmap.");
+            Api.error("Walls are not defined once. BAD REQUEST", maze);
             return RestOutput.badRequest();
         }
 
@@ -434,8 +1236,8 @@ public class MazeHandler implements Comparable<MazeHandler> {
             col = Integer.valueOf(gridArray[0]);
             row = Integer.valueOf(gridArray[1]);
 
-            if ((col < 1) || (col > Setup.MAZE_COLUMNS.length)) {
-                errorReference.set("Grid must have between 1 and " + Setup.MAZE_COLUMNS.length + " columns.");
+            if ((col < 1) || (col > Setup.MAZE_COL_MAX)) {
+                errorReference.set("Grid must have between 1 and " + Setup.MAZE_COL_MAX + " columns.");
                 Api.error("Grid size is not valid. BAD REQUEST", maze);
                 return RestOutput.badRequest();
             }
@@ -447,32 +1249,47 @@ public class MazeHandler implements Comparable<MazeHandler> {
             }
 
             // Generate a grid with 4 extra borders to bound the solver
-            grid = new boolean[col + 2][row + 2];
-            for (int i = 0; i < row + 2; i++) {
-                grid[0][i] = true;
-                grid[col + 1][i] = true;
-            }
-            for (int i = 0; i < col + 2; i++) {
-                grid[i][0] = true;
-                grid[i][row + 1] = true;
-            }
+            grid = MazeGrid.with(col, row);
 
-            for (String wall : maze.getWalls()) {
+            if (maze.getWallBitmap() != null) {
 
-                mazePoint = MazePoint.with(wall);
-                if (mazePoint == null) {
-                    errorReference.set("A wall entry is not well formed like A1.");
-                    Api.error("Walls are not valid. BAD REQUEST", wall, maze);
+                // One bit per cell of the grid, nothing to parse per wall
+                bitmap = decodeWallBitmap(maze.getWallBitmap());
+                if ((bitmap == null) || (bitmap.length != MazeGrid.bitmapLength(col, row))) {
+                    errorReference.set("Wall bitmap must hold one bit per cell of the grid in base64.");
+                    Api.error("Wall bitmap is not valid. BAD REQUEST", maze);
                     return RestOutput.badRequest();
                 }
+                grid.setWalls(bitmap);
+            } else {
 
-                if ((mazePoint.col() > col) || ((mazePoint.row() > row))) {
-                    errorReference.set("A wall " + mazePoint.toText() + " is outside of the grid.");
-                    Api.error("A wall is outside of the grid. BAD REQUEST", wall, mazePoint, maze);
-                    return RestOutput.badRequest();
+                for (String wall : maze.getWalls()) {
+
+                    if (wall != null) {
+                        // Most walls are well formed within the grid and go straight to their index
+                        wallIndex = MazePoint.index(wall, grid);
+                        if (wallIndex != MazePoint.NO_INDEX) {
+                            grid.setWall(wallIndex);
+                            continue;
+                        }
+                    }
+
+                    // Any other wall is parsed again to report the very same error or accept it as before
+                    mazePoint = MazePoint.with(wall);
+                    if (mazePoint == null) {
+                        errorReference.set("A wall entry is not well formed like A1.");
+                        Api.error("Walls are not valid. BAD REQUEST", wall, maze);
+                        return RestOutput.badRequest();
+                    }
+
+                    if ((mazePoint.col() > col) || ((mazePoint.row() > row))) {
+                        errorReference.set("A wall " + mazePoint.toText() + " is outside of the grid.");
+                        Api.error("A wall is outside of the grid. BAD REQUEST", wall, mazePoint, maze);
+                        return RestOutput.badRequest();
+                    }
+
+                    grid.setWall(mazePoint.col(), mazePoint.row());
                 }
-
-                grid[mazePoint.col()][mazePoint.row()] = true;
             }
 
             // Find any MazePoint whose empty area is too large
@@ -509,7 +1326,7 @@ public class MazeHandler implements Comparable<MazeHandler> {
             }
 
             // Make sure the entrance is not a wall
-            if (grid[entrance.col()][entrance.row()]) {
+            if (grid.isWall(entrance)) {
                 errorReference.set("Entrance is a wall.");
                 Api.error("Entrance is a wall. BAD REQUEST", entrance, maze);
                 return RestOutput.badRequest();
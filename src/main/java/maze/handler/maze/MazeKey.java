@@ -0,0 +1,65 @@
+package maze.handler.maze;
+
+import java.util.Arrays;
+
+public class MazeKey {
+
+    private final int    _colMax;
+    private final int    _rowMax;
+    private final int    _entrance;
+
+    // Walls of the grid, which never change once the maze is created
+    private final long[] _words;
+    private final int    _hashCode;
+
+    public MazeKey(MazePoint entrance, MazeGrid grid) {
+
+        _colMax = grid.colMax();
+        _rowMax = grid.rowMax();
+        _entrance = grid.index(entrance);
+        _words = grid.words();
+
+        // The exit follows from the walls, so the size, the entrance and the walls identify the maze
+        _hashCode = 31 * (31 * (31 * _colMax + _rowMax) + _entrance) + Arrays.hashCode(_words);
+    }
+
+    protected int cellCount() {
+
+        // Cells of the grid including its borders, as held by anything computed cell by cell
+        return (_colMax + 2) * (_rowMax + 2);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return _hashCode;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+
+        if (this == object)
+            return true;
+        if (!(object instanceof MazeKey))
+            return false;
+        MazeKey that = (MazeKey) object;
+
+        return ((this._hashCode == that._hashCode)
+                && (this._colMax == that._colMax)
+                && (this._rowMax == that._rowMax)
+                && (this._entrance == that._entrance)
+                && Arrays.equals(this._words, that._words));
+    }
+
+    @Override
+    public String toString() {
+        return "MazeKey [_colMax=" + _colMax
+               + ", _rowMax="
+               + _rowMax
+               + ", _entrance="
+               + _entrance
+               + ", _hashCode="
+               + _hashCode
+               + "]";
+    }
+}
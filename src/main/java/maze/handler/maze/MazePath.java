@@ -1,28 +1,80 @@
 package maze.handler.maze;
 
 import java.util.Arrays;
-import java.util.stream.Stream;
+import java.util.List;
+import java.util.Objects;
 
 public class MazePath {
 
-    public static final MazePath NO_PATH        = new MazePath(new MazePoint[0]);
-    public static final MazePath MULTIPLE_PATHS = new MazePath(new MazePoint[0]);
+    public static final MazePath NO_PATH         = new MazePath(new MazePoint[0]);
+    public static final MazePath MULTIPLE_PATHS  = new MazePath(new MazePoint[0]);
 
-    private final MazePoint[]    _mazePointArray;
+    // One letter per direction, in the order of the MazeGrid directions
+    private static final char[]  MoveLetterArray = new char[] { 'U', 'D', 'L', 'R' };
+
+    // 2 bits per move, 4 moves per byte
+    private static final int     MOVE_BITS       = 2;
+    private static final int     MOVE_MASK       = 3;
+    private static final int     MOVES_PER_BYTE  = 4;
+
+    // The first point, then the direction of each step to the next one
+    private final MazePoint      _start;
+    private final byte[]         _moveArray;
+    private final int            _moveCount;
+
+    // Not proven when the solver ran out of budget before completing its search
+    private final boolean        _proven;
 
     public MazePath(MazePoint[] mazePointArray) {
+        this(mazePointArray, true);
+    }
+
+    public MazePath(MazePoint[] mazePointArray, boolean proven) {
+        this((mazePointArray.length == 0) ? null : mazePointArray[0],
+             encodeMoves(mazePointArray),
+             Math.max(mazePointArray.length - 1, 0),
+             proven);
+    }
 
-        _mazePointArray = mazePointArray;
+    private MazePath(MazePoint start, byte[] moveArray, int moveCount, boolean proven) {
+
+        _start = start;
+        _moveArray = moveArray;
+        _moveCount = moveCount;
+        _proven = proven;
+    }
+
+    protected MazePoint start() {
+
+        return _start;
     }
 
-    private MazePoint[] mazePointArray() {
+    private byte[] moveArray() {
 
-        return _mazePointArray;
+        return _moveArray;
+    }
+
+    private int moveCount() {
+
+        return _moveCount;
+    }
+
+    private int move(int step) {
+
+        return (moveArray()[step / MOVES_PER_BYTE] >>> (MOVE_BITS * (step % MOVES_PER_BYTE))) & MOVE_MASK;
+    }
+
+    protected boolean isProven() {
+
+        return _proven;
     }
 
     protected int length() {
 
-        return mazePointArray().length;
+        if (start() == null) {
+            return 0;
+        }
+        return moveCount() + 1;
     }
 
     protected boolean isNoPath() {
@@ -38,7 +90,7 @@ public class MazePath {
     @Override
     public int hashCode() {
 
-        return Arrays.hashCode(mazePointArray());
+        return Objects.hash(start(), moveCount()) * 31 + Arrays.hashCode(moveArray());
     }
 
     @Override
@@ -50,12 +102,58 @@ public class MazePath {
             return false;
         MazePath that = (MazePath) object;
 
-        return (Arrays.equals(this.mazePointArray(), that.mazePointArray()));
+        return (Objects.equals(this.start(), that.start()) && (this.moveCount() == that.moveCount())
+                && Arrays.equals(this.moveArray(), that.moveArray()));
+    }
+
+    protected MazePath translate(int colOffset, int rowOffset) {
+
+        if (start() == null) {
+            return this;
+        }
+
+        // The moves are the same from anywhere, only the start moves
+        return new MazePath(new MazePoint(start().col() + colOffset, start().row() + rowOffset),
+                            moveArray(),
+                            moveCount(),
+                            isProven());
     }
 
     protected String[] toTextArray() {
 
-        return Stream.of(mazePointArray()).map(MazePoint::toText).toArray(String[]::new);
+        String[] textArray;
+        int col;
+        int row;
+
+        if (start() == null) {
+            return new String[0];
+        }
+
+        // Expanded only when a client asks for the list of cells
+        textArray = new String[length()];
+
+        col = start().col();
+        row = start().row();
+        textArray[0] = start().toText();
+
+        for (int step = 0; step < moveCount(); step++) {
+            switch (move(step)) {
+            case MazeGrid.UP:
+                row--;
+                break;
+            case MazeGrid.DOWN:
+                row++;
+                break;
+            case MazeGrid.LEFT:
+                col--;
+                break;
+            default:
+                col++;
+                break;
+            }
+            textArray[step + 1] = new MazePoint(col, row).toText();
+        }
+        return textArray;
     }
 
     protected String toText() {
@@ -63,8 +161,88 @@ public class MazePath {
         return String.join(",", toTextArray());
     }
 
+    protected String toMoves() {
+
+        StringBuilder moves;
+
+        moves = new StringBuilder(moveCount());
+        for (int step = 0; step < moveCount(); step++) {
+            moves.append(moveLetter(move(step)));
+        }
+        return moves.toString();
+    }
+
     @Override
     public String toString() {
         return toText();
     }
+
+    protected static char moveLetter(int direction) {
+
+        return MoveLetterArray[direction];
+    }
+
+    private static int direction(MazePoint from, MazePoint to) {
+
+        if ((to.col() == from.col()) && (to.row() == from.row() - 1)) {
+            return MazeGrid.UP;
+        }
+        if ((to.col() == from.col()) && (to.row() == from.row() + 1)) {
+            return MazeGrid.DOWN;
+        }
+        if ((to.row() == from.row()) && (to.col() == from.col() - 1)) {
+            return MazeGrid.LEFT;
+        }
+        if ((to.row() == from.row()) && (to.col() == from.col() + 1)) {
+            return MazeGrid.RIGHT;
+        }
+        throw new IllegalArgumentException("MazePath step from " + from + " to " + to + " is not to a neighbor");
+    }
+
+    private static byte[] encodeMoves(MazePoint[] mazePointArray) {
+
+        byte[] moveArray;
+        int moveCount;
+
+        moveCount = Math.max(mazePointArray.length - 1, 0);
+        moveArray = new byte[(moveCount + MOVES_PER_BYTE - 1) / MOVES_PER_BYTE];
+
+        for (int step = 0; step < moveCount; step++) {
+            moveArray[step / MOVES_PER_BYTE] |= direction(mazePointArray[step], mazePointArray[step + 1])
+                                                << (MOVE_BITS * (step % MOVES_PER_BYTE));
+        }
+        return moveArray;
+    }
+
+    protected static MazePath join(List<MazePath> mazePathList) {
+
+        byte[] moveArray;
+        int moveCount;
+        int step;
+        boolean proven;
+
+        if (mazePathList.isEmpty()) {
+            return NO_PATH;
+        }
+
+        // Consecutive paths share their end and start point, so their moves follow each other
+        moveCount = 0;
+        for (MazePath mazePath : mazePathList) {
+            moveCount += mazePath.moveCount();
+        }
+
+        moveArray = new byte[(moveCount + MOVES_PER_BYTE - 1) / MOVES_PER_BYTE];
+
+        step = 0;
+        proven = true;
+        for (MazePath mazePath : mazePathList) {
+            for (int i = 0; i < mazePath.moveCount(); i++) {
+                moveArray[step / MOVES_PER_BYTE] |= mazePath.move(i) << (MOVE_BITS * (step % MOVES_PER_BYTE));
+                step++;
+            }
+            proven &= mazePath.isProven();
+        }
+
+        return new MazePath(mazePathList.get(0).start(), moveArray, moveCount, proven);
+    }
 }
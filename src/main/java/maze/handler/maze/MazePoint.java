@@ -1,22 +1,22 @@
 package maze.handler.maze;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import maze.Setup;
 import maze.base.Api;
 
 public class MazePoint {
 
-    private static final Map<String, Integer> ColMap = IntStream.range(0, Setup.MAZE_COLUMNS.length)
-                                                                .boxed()
-                                                                .collect(Collectors.toMap(i -> Setup.MAZE_COLUMNS[i],
-                                                                                          i -> i + 1));
+    protected static final int      NO_INDEX     = -1;
 
-    private final int                         _col;
-    private final int                         _row;
+    // Columns are named like spreadsheet columns: A to Z, then AA to ZZ, then AAA and so on
+    private static final int        LETTER_COUNT = 26;
+
+    // Name of each column, computed once as every path and wall goes through it
+    private static final String[]   ColTextArray = colTextArray();
+
+    private final int               _col;
+    private final int               _row;
 
     public MazePoint(int col, int row) {
 
@@ -54,7 +54,7 @@ public class MazePoint {
 
     protected String toText() {
 
-        return Setup.MAZE_COLUMNS[col() - 1] + row();
+        return ColTextArray[col()] + row();
     }
 
     @Override
@@ -62,11 +62,78 @@ public class MazePoint {
         return toText();
     }
 
+    private static String[] colTextArray() {
+
+        String[] colTextArray;
+
+        colTextArray = new String[Setup.MAZE_COL_MAX + 1];
+        colTextArray[0] = "";
+        for (int col = 1; col <= Setup.MAZE_COL_MAX; col++) {
+            // Bijective base 26, the same letters as before for the first 26 columns
+            colTextArray[col] = colTextArray[(col - 1) / LETTER_COUNT]
+                                + Character.toString('A' + (col - 1) % LETTER_COUNT);
+        }
+        return colTextArray;
+    }
+
+    private static boolean isLetter(char letter) {
+
+        return ((letter >= 'A') && (letter <= 'Z'));
+    }
+
+    private static int nextCol(int col, char letter) {
+
+        // Stop growing once out of range, the column is rejected anyway
+        if (col > Setup.MAZE_COL_MAX) {
+            return col;
+        }
+        return LETTER_COUNT * col + (letter - 'A' + 1);
+    }
+
+    protected static int index(String text, MazeGrid grid) {
+
+        int length;
+        int letterCount;
+        int col;
+        int row;
+        char digit;
+
+        // Read the column letters followed by digits straight into a grid index, without any intermediate object
+        length = text.length();
+
+        col = 0;
+        letterCount = 0;
+        while ((letterCount < length) && isLetter(text.charAt(letterCount))) {
+            col = nextCol(col, text.charAt(letterCount));
+            letterCount++;
+        }
+        if ((letterCount == 0) || (letterCount == length) || (col > grid.colMax())) {
+            return NO_INDEX;
+        }
+
+        row = 0;
+        for (int i = letterCount; i < length; i++) {
+            digit = text.charAt(i);
+            if ((digit < '0') || (digit > '9')) {
+                return NO_INDEX;
+            }
+            row = 10 * row + (digit - '0');
+            if (row > grid.rowMax()) {
+                return NO_INDEX;
+            }
+        }
+        if (row < 1) {
+            return NO_INDEX;
+        }
+
+        return grid.index(col, row);
+    }
+
     public static MazePoint with(String text) {
 
-        String colText;
+        int letterCount;
+        int col;
         String rowText;
-        Integer col;
         Integer row;
 
         if (Api.isNull(text)) {
@@ -79,16 +146,19 @@ public class MazePoint {
             return null;
         }
 
-        colText = text.substring(0, 1);
-
-        col = ColMap.get(colText);
-        if (col == null) {
+        col = 0;
+        letterCount = 0;
+        while ((letterCount < text.length()) && isLetter(text.charAt(letterCount))) {
+            col = nextCol(col, text.charAt(letterCount));
+            letterCount++;
+        }
+        if ((letterCount == 0) || (col > Setup.MAZE_COL_MAX)) {
             Api.error("MazePoint column is not valid", text);
             return null;
         }
 
         try {
-            rowText = text.substring(1);
+            rowText = text.substring(letterCount);
             row = Integer.valueOf(rowText);
             if ((row < 1) || (row > Setup.MAZE_ROW_MAX)) {
                 Api.error("MazePoint row is not within range [1-" + Setup.MAZE_ROW_MAX + "]", text);
@@ -99,6 +169,6 @@ public class MazePoint {
             return null;
         }
 
-        return new MazePoint(col.intValue(), row.intValue());
+        return new MazePoint(col, row.intValue());
     }
 }
@@ -1,167 +1,287 @@
 package maze.handler.maze;
 
-import java.util.ArrayDeque;
+import java.util.Arrays;
 
 import maze.base.Api;
 
 public abstract class MazeSolver {
 
-    private final MazePoint             _entrance;
-    private final MazePoint             _exit;
-    private final boolean[][]           _grid;
+    protected static final int NO_DIRECTION   = -1;
 
-    private final ArrayDeque<MazeTrack> _stack;
+    private static final int   STOP_INTERVAL  = 1024;
 
-    public MazeSolver(MazePoint entrance, MazePoint exit, boolean[][] grid) {
+    private final MazeGrid      _grid;
+    private final int           _entrance;
+    private final int           _exit;
+    private final SolverContext _solverContext;
+
+    // Cells of the current path and the directions already tracked from each of them
+    private final int[]         _cellStack;
+    private final byte[]        _trackStack;
+    private int                 _depth;
+
+    // Best path found so far, copied into a buffer reused for the whole solve
+    private final int[]         _pathBuffer;
+    private int                 _pathLength;
+    private int                 _pathCount;
+
+    public MazeSolver(MazePoint entrance, MazePoint exit, MazeGrid grid) {
+        this(entrance, exit, grid, new SolverContext());
+    }
+
+    public MazeSolver(MazePoint entrance, MazePoint exit, MazeGrid grid, SolverContext solverContext) {
 
-        _entrance = entrance;
-        _exit = exit;
         _grid = grid;
+        _entrance = grid.index(entrance);
+        _exit = grid.index(exit);
+        _solverContext = solverContext;
+
+        _cellStack = new int[grid.cellCount()];
+        _trackStack = new byte[grid.cellCount()];
+        _depth = 0;
 
-        _stack = new ArrayDeque<MazeTrack>();
+        _pathBuffer = new int[grid.cellCount()];
+        _pathLength = 0;
+        _pathCount = 0;
     }
 
-    protected abstract MazeTrack forwardFromCurrent(MazeTrack mazeTrack);
+    protected abstract int[] directionArray();
 
-    protected abstract SolverAction processPath(int pathLength, MazePath solverPath);
+    protected abstract SolverAction processPath(int pathLength, int solverPathLength);
 
-    protected abstract boolean pruneForward(int currentPathLength, MazePath solverPath);
+    protected abstract boolean pruneForward(int currentPathLength, int solverPathLength);
 
-    protected MazePoint entrance() {
+    protected int entrance() {
 
         return _entrance;
     }
 
-    protected MazePoint exit() {
+    protected int exit() {
 
         return _exit;
     }
 
-    protected boolean[][] grid() {
+    protected MazeGrid grid() {
 
         return _grid;
     }
 
-    protected ArrayDeque<MazeTrack> stack() {
+    protected SolverContext solverContext() {
+
+        return _solverContext;
+    }
+
+    protected int depth() {
+
+        return _depth;
+    }
+
+    protected int pathLength() {
+
+        return _pathLength;
+    }
+
+    protected int pathCount() {
 
-        return _stack;
+        return _pathCount;
     }
 
-    protected MazeTrack push(MazePoint mazePoint) {
+    protected int currentCell() {
+
+        return _cellStack[_depth - 1];
+    }
 
-        MazeTrack mazeTrack;
+    protected int forwardFromCurrent(int cell, int track) {
+
+        // Go forward in the first direction not tracked yet from the current cell
+        for (int direction : directionArray()) {
+            if ((track & (1 << direction)) == 0) {
+                return direction;
+            }
+        }
+
+        // No way forward
+        return NO_DIRECTION;
+    }
+
+    private void push(int cell) {
 
         // Set the Grid to detect loops
-        grid()[mazePoint.col()][mazePoint.row()] = true;
+        grid().setWall(cell);
+
+        _cellStack[_depth] = cell;
+        _trackStack[_depth] = 0;
+        _depth++;
+    }
+
+    private void pop() {
 
-        mazeTrack = new MazeTrack(mazePoint);
+        // Pop the stack and clear the Grid
+        _depth--;
+        grid().clearWall(_cellStack[_depth]);
+    }
 
-        // Push the MazeTrack
-        stack().addLast(mazeTrack);
+    private void selectPath() {
 
-        return mazeTrack;
+        // Copy the current path as the best one found so far
+        System.arraycopy(_cellStack, 0, _pathBuffer, 0, _depth);
+        _pathLength = _depth;
+        _pathCount = 1;
     }
 
-    private MazeTrack pop() {
+    protected int[] pathCells() {
+
+        return Arrays.copyOf(_pathBuffer, pathLength());
+    }
 
-        MazeTrack mazeTrack;
-        MazePoint mazePoint;
+    protected MazePath solverPath(boolean proven) {
 
-        // Pop the stack
-        mazeTrack = stack().removeLast();
-        mazePoint = mazeTrack.mazePoint();
+        MazePoint[] mazePointArray;
 
-        // Clear the Grid
-        grid()[mazePoint.col()][mazePoint.row()] = false;
+        if (pathLength() == 0) {
+            return MazePath.NO_PATH;
+        }
 
-        // Return the current last of the stack if not empty;
-        return stack().peekLast();
+        mazePointArray = new MazePoint[pathLength()];
+        for (int i = 0; i < pathLength(); i++) {
+            mazePointArray[i] = grid().mazePoint(_pathBuffer[i]);
+        }
+        return new MazePath(mazePointArray, proven);
     }
 
-    private MazeTrack backtrackFromCurrent() {
+    private boolean isStopped() {
 
-        // Remove the last in the stack if not empty
-        return pop();
+        // Once out of budget, keep searching up to a first path unless a solver sharing the context has one
+        return (solverContext().isSolved()
+                || (solverContext().isStopped() && ((pathLength() > 0) || (solverContext().pathLength() > 0))));
     }
 
-    protected MazePath solve() {
+    protected void search(int[] prefixArray, int prefixLength) {
 
-        MazeTrack currentTrack;
-        MazePoint currentPoint;
-        MazePath solverPath;
-        int solverPathCount;
+        int top;
+        int cell;
+        int direction;
+        int nextCell;
         long iteration;
+        long cpuTime;
+        long nextCpuTime;
 
-        solverPath = MazePath.NO_PATH;
-        solverPathCount = 0;
-        currentPoint = null;
+        _depth = 0;
+        _pathLength = 0;
+        _pathCount = 0;
         iteration = 0L;
+        cpuTime = solverContext().solverMeter().threadCpuTime();
 
-        // Push Entrance
-        currentTrack = push(entrance());
+        // Push the prefix of the paths to search, starting with the Entrance
+        for (int i = 0; i < prefixLength; i++) {
+            push(prefixArray[i]);
+        }
 
-        while (currentTrack != null) {
+        while (depth() >= prefixLength) {
 
             iteration++;
-            if (iteration % 50000 == 0) {
-                if (solverPath.isNoPath()) {
-                    Api.info("Iteration " + iteration + " to solve maze: No path yet", this);
-                } else {
-                    Api.info("Iteration " + iteration + " to solve maze: Current path : " + solverPath.toText(), this);
+            if (iteration % STOP_INTERVAL == 0) {
+
+                // Account for the work done against the budget
+                nextCpuTime = solverContext().solverMeter().threadCpuTime();
+                solverContext().solverMeter().spend(STOP_INTERVAL, nextCpuTime - cpuTime);
+                cpuTime = nextCpuTime;
+
+                if (isStopped()) {
+                    break;
                 }
             }
 
+            top = depth() - 1;
+            cell = _cellStack[top];
+
             // Find any potential way forward to keep extending the current path
-            currentTrack = forwardFromCurrent(currentTrack);
+            direction = forwardFromCurrent(cell, _trackStack[top]);
+            if (direction == NO_DIRECTION) {
+                // Backtrack as there is no way forward
+                pop();
+                continue;
+            }
+            _trackStack[top] |= (1 << direction);
+
+            nextCell = cell + grid().offset(direction);
+            if (grid().isWall(nextCell)) {
+                // Wall or loop in this direction
+                continue;
+            }
 
-            if (currentTrack != null) {
+            push(nextCell);
+
+            if (nextCell == exit()) {
+
+                // Select this path as a better solution or not
+                switch (processPath(depth(), pathLength())) {
+                case SELECT:
+                    // This path is now the current solution
+                    selectPath();
+                    solverContext().selectPath(pathLength(), () -> solverPath(false));
+                    break;
+                case COUNT:
+                    // A path of the same length has been identified
+                    _pathCount++;
+                    break;
+                case SKIP:
+                    // This path is of no interest
+                    break;
+                }
 
-                // There is a way forward
+                // Force backtrack from exit.
+                pop();
 
-                currentPoint = currentTrack.mazePoint();
+                if (isStopped()) {
+                    // No other path can change the outcome or the budget is spent
+                    break;
+                }
 
-                if (exit().equals(currentPoint)) {
+            } else if (pruneForward(depth(), pathLength())) {
 
-                    // Select this path as a better solution or not
-                    switch (processPath(stack().size(), solverPath)) {
-                    case SELECT:
-                        // This path is now the current solution
-                        solverPath = new MazePath(stack().stream().map(MazeTrack::mazePoint).toArray(MazePoint[]::new));
-                        solverPathCount = 1;
-                        break;
-                    case COUNT:
-                        // A path of the same length has been identified
-                        solverPathCount++;
-                        break;
-                    case SKIP:
-                        // This path is of no interest
-                        break;
-                    }
+                // Force backtrack because of pruning
+                pop();
+            }
+        }
 
-                    // Force backtrack from exit.
-                    currentTrack.endForward();
-                    currentTrack = null;
+        // Leave the grid as it was
+        while (depth() > 0) {
+            pop();
+        }
+    }
 
-                } else if (pruneForward(stack().size(), solverPath)) {
+    protected MazePath solve() {
 
-                    // Force backtrack because of pruning
-                    currentTrack.endForward();
-                    currentTrack = null;
-                }
-            }
+        boolean proven;
 
-            if (currentTrack == null) {
-                // Backtrack if stack is not empty
-                currentTrack = backtrackFromCurrent();
-            }
+        // Search every path from the Entrance
+        search(new int[] { entrance() }, 1);
+        proven = solverContext().isProven();
 
-        }
-        if (solverPathCount > 1) {
+        if (proven && (pathCount() > 1)) {
             // Solver found multiple paths
             Api.error("Solver has identified multiple paths", this);
             return MazePath.MULTIPLE_PATHS;
         }
 
-        return solverPath;
+        // Best path found so far when the budget ran out
+        return solverPath(proven);
+    }
+
+    @Override
+    public String toString() {
+        return "MazeSolver [_grid=" + _grid
+               + ", _entrance="
+               + _entrance
+               + ", _exit="
+               + _exit
+               + ", _depth="
+               + _depth
+               + ", _pathLength="
+               + _pathLength
+               + ", _pathCount="
+               + _pathCount
+               + "]";
     }
 }
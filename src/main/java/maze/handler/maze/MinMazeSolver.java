@@ -2,65 +2,40 @@ package maze.handler.maze;
 
 public class MinMazeSolver extends MazeSolver {
 
-    public MinMazeSolver(MazePoint entrance, MazePoint exit, boolean[][] grid) {
+    // Go forward from the current point, down first, up last.
+    private static final int[] DirectionArray = new int[] { MazeGrid.DOWN,
+                                                            MazeGrid.LEFT,
+                                                            MazeGrid.RIGHT,
+                                                            MazeGrid.UP };
+
+    public MinMazeSolver(MazePoint entrance, MazePoint exit, MazeGrid grid) {
         super(entrance, exit, grid);
     }
 
-    @Override
-    protected MazeTrack forwardFromCurrent(MazeTrack mazeTrack) {
-
-        MazePoint mazePoint;
-
-        mazePoint = mazeTrack.mazePoint();
-
-        // Go forward from the current point, down first, up last.
-
-        if (mazeTrack.trackDown()) {
-            // Down Neighbor
-            if (grid()[mazePoint.col()][mazePoint.row() + 1] == false) {
-                return push(new MazePoint(mazePoint.col(), mazePoint.row() + 1));
-            }
-        }
-
-        if (mazeTrack.trackLeft()) {
-            // Left Neighbor
-            if (grid()[mazePoint.col() - 1][mazePoint.row()] == false) {
-                return push(new MazePoint(mazePoint.col() - 1, mazePoint.row()));
-            }
-        }
-
-        if (mazeTrack.trackRight()) {
-            // Right Neighbor
-            if (grid()[mazePoint.col() + 1][mazePoint.row()] == false) {
-                return push(new MazePoint(mazePoint.col() + 1, mazePoint.row()));
-            }
-        }
+    public MinMazeSolver(MazePoint entrance, MazePoint exit, MazeGrid grid, SolverContext solverContext) {
+        super(entrance, exit, grid, solverContext);
+    }
 
-        if (mazeTrack.trackUp()) {
-            // Up Neighbor
-            if (grid()[mazePoint.col()][mazePoint.row() - 1] == false) {
-                return push(new MazePoint(mazePoint.col(), mazePoint.row() - 1));
-            }
-        }
+    @Override
+    protected int[] directionArray() {
 
-        // No way forward
-        return null;
+        return DirectionArray;
     }
 
     @Override
-    protected SolverAction processPath(int pathLength, MazePath solverPath) {
+    protected SolverAction processPath(int pathLength, int solverPathLength) {
 
-        if (solverPath.isNoPath()) {
+        if (solverPathLength == 0) {
             // Solver found the first path to the exit
             return SolverAction.SELECT;
         }
 
-        if (solverPath.length() < pathLength) {
+        if (solverPathLength < pathLength) {
             // Solver has already found a path strictly shorter than the current one. Skip it.
             return SolverAction.SKIP;
         }
 
-        if (solverPath.length() > pathLength) {
+        if (solverPathLength > pathLength) {
             // Solver has found a path strictly greater than the current one. Select it.
             return SolverAction.SELECT;
         }
@@ -70,9 +45,9 @@ public class MinMazeSolver extends MazeSolver {
     }
 
     @Override
-    protected boolean pruneForward(int currentPathLength, MazePath solverPath) {
+    protected boolean pruneForward(int currentPathLength, int solverPathLength) {
 
         // Solver has already found a path. Prune anything longer
-        return ((solverPath.length() > 0) && (currentPathLength > solverPath.length()));
+        return ((solverPathLength > 0) && (currentPathLength > solverPathLength));
     }
 }
@@ -0,0 +1,71 @@
+package maze.handler.maze;
+
+import java.util.concurrent.ForkJoinPool;
+
+import maze.Setup;
+import maze.base.Api;
+
+public class ParallelMaxMazeSolver {
+
+    // Work stealing pool shared by every parallel solve. The solver thread waits on it, so both share the processors.
+    private static final ForkJoinPool SolverPool = new ForkJoinPool(Setup.MAZE_SOLVER_PARALLELISM);
+
+    private final MazeGrid            _grid;
+    private final int                 _entrance;
+    private final int                 _exit;
+    private final SolverContext       _solverContext;
+
+    public ParallelMaxMazeSolver(MazePoint entrance, MazePoint exit, MazeGrid grid, SolverContext solverContext) {
+
+        _grid = grid;
+        _entrance = grid.index(entrance);
+        _exit = grid.index(exit);
+        _solverContext = solverContext;
+    }
+
+    protected MazeGrid grid() {
+
+        return _grid;
+    }
+
+    protected MazePath solve() {
+
+        int rootBound;
+        MaxPathTask maxPathTask;
+        boolean proven;
+        MazePoint[] mazePointArray;
+
+        // Same bound as every solver of a subtree, counting the paths which reach it wherever they are found
+        rootBound = new BoundedMaxMazeSolver(grid().mazePoint(_entrance),
+                                             grid().mazePoint(_exit),
+                                             grid(),
+                                             _solverContext).rootBound();
+
+        // Tasks only read the grid and share the longest path length found so far to prune their subtrees
+        maxPathTask = new MaxPathTask(grid(), _exit, rootBound, _solverContext, new int[] { _entrance }, 1, 0);
+        SolverPool.invoke(maxPathTask);
+        proven = _solverContext.isProven();
+
+        if (proven && (maxPathTask.pathCount() > 1)) {
+            // Solver found multiple paths
+            Api.error("Solver has identified multiple paths", this);
+            return MazePath.MULTIPLE_PATHS;
+        }
+
+        if (maxPathTask.pathLength() == 0) {
+            return MazePath.NO_PATH;
+        }
+
+        mazePointArray = new MazePoint[maxPathTask.pathLength()];
+        for (int i = 0; i < maxPathTask.pathLength(); i++) {
+            mazePointArray[i] = grid().mazePoint(maxPathTask.pathCells()[i]);
+        }
+        // Best path found so far when the budget ran out
+        return new MazePath(mazePointArray, proven);
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelMaxMazeSolver [_grid=" + _grid + ", _entrance=" + _entrance + ", _exit=" + _exit + "]";
+    }
+}
@@ -0,0 +1,112 @@
+package maze.handler.maze;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import maze.base.Api;
+import maze.base.BaseThreadFactory;
+
+public class PresolvePool {
+
+    private final String                  _poolName;
+    private final int                     _threadCount;
+    private final BaseThreadFactory       _threadFactory;
+
+    // Most recent task first. The oldest task is dropped once the deque is full.
+    private final BlockingDeque<Runnable> _taskDeque;
+    private final AtomicLong              _discardCount;
+
+    private final AtomicBoolean           _started;
+
+    public PresolvePool(String poolName, int threadCount, int queueSize) {
+
+        _poolName = poolName;
+        _threadCount = threadCount;
+        _threadFactory = new BaseThreadFactory(poolName);
+
+        _taskDeque = new LinkedBlockingDeque<Runnable>(queueSize);
+        _discardCount = new AtomicLong(0L);
+
+        _started = new AtomicBoolean(false);
+    }
+
+    public int queueSize() {
+
+        return _taskDeque.size();
+    }
+
+    public long discardCount() {
+
+        return _discardCount.get();
+    }
+
+    public void submit(Runnable task) {
+
+        synchronized (_taskDeque) {
+            while (_taskDeque.offerFirst(task) == false) {
+                if (_taskDeque.pollLast() != null) {
+                    _discardCount.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public void start() {
+
+        Thread thread;
+
+        if (_started.compareAndSet(false, true) == false) {
+            return;
+        }
+
+        // Workers only take the spare time of the process
+        for (int i = 0; i < _threadCount; i++) {
+
+            thread = _threadFactory.newThread(this::work);
+            if (thread == null) {
+                Api.error("PresolvePool failed to start a worker", this);
+                return;
+            }
+            thread.setPriority(Thread.MIN_PRIORITY);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    private void work() {
+
+        Runnable task;
+
+        while (true) {
+
+            try {
+                task = _taskDeque.takeFirst();
+            } catch (InterruptedException e) {
+                Api.error("PresolvePool worker interrupted", this);
+                return;
+            }
+
+            try {
+                task.run();
+            } catch (Throwable t) {
+                Api.error(t, "Presolve task failed", this);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PresolvePool [_poolName=" + _poolName
+               + ", _threadCount="
+               + _threadCount
+               + ", _queueSize="
+               + queueSize()
+               + ", _discardCount="
+               + _discardCount
+               + ", _started="
+               + _started
+               + "]";
+    }
+}
@@ -0,0 +1,245 @@
+package maze.handler.maze;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class SolutionCache {
+
+    private final String                                              _name;
+    private final int                                                 _capacity;
+
+    // Solve of each maze, either in flight or done, from the least recently used
+    private final LinkedHashMap<MazeKey, CompletableFuture<MazePath>> _futureMap;
+
+    private final AtomicLong                                          _hitCount;
+    private final AtomicLong                                          _missCount;
+    private final AtomicLong                                          _evictionCount;
+
+    public SolutionCache(String name, int capacity) {
+
+        _name = name;
+        _capacity = capacity;
+
+        _futureMap = new LinkedHashMap<MazeKey, CompletableFuture<MazePath>>(16, 0.75f, true);
+
+        _hitCount = new AtomicLong(0L);
+        _missCount = new AtomicLong(0L);
+        _evictionCount = new AtomicLong(0L);
+    }
+
+    public long hitCount() {
+
+        return _hitCount.get();
+    }
+
+    public long missCount() {
+
+        return _missCount.get();
+    }
+
+    public long evictionCount() {
+
+        return _evictionCount.get();
+    }
+
+    public int size() {
+
+        synchronized (_futureMap) {
+            return _futureMap.size();
+        }
+    }
+
+    private void remove(MazeKey mazeKey, CompletableFuture<MazePath> solveFuture) {
+
+        synchronized (_futureMap) {
+            _futureMap.remove(mazeKey, solveFuture);
+        }
+    }
+
+    private CompletableFuture<MazePath> register(MazeKey mazeKey, CompletableFuture<MazePath> solveFuture) {
+
+        CompletableFuture<MazePath> future;
+        Iterator<CompletableFuture<MazePath>> iterator;
+
+        synchronized (_futureMap) {
+
+            // Reading an entry makes it the most recently used. A failed or cancelled solve is replaced.
+            future = _futureMap.get(mazeKey);
+            if ((future != null) && (future.isCompletedExceptionally() == false)) {
+                return future;
+            }
+
+            _futureMap.put(mazeKey, solveFuture);
+
+            // Evict the least recently used entries. A solve still in flight completes for its own callers.
+            iterator = _futureMap.values().iterator();
+            while (_futureMap.size() > _capacity) {
+                iterator.next();
+                iterator.remove();
+                _evictionCount.incrementAndGet();
+            }
+        }
+        return null;
+    }
+
+    public void offer(MazeKey mazeKey, MazePath mazePath) {
+
+        // Share a path already proven, unless this maze is known or in flight
+        if (mazePath.isProven()) {
+            register(mazeKey, CompletableFuture.completedFuture(mazePath));
+        }
+    }
+
+    public MazePath cached(MazeKey mazeKey) {
+
+        CompletableFuture<MazePath> future;
+
+        synchronized (_futureMap) {
+            future = _futureMap.get(mazeKey);
+        }
+
+        // Only a solve already done, which is proven as long as it is kept. Never wait for one in flight.
+        if ((future == null) || (future.isDone() == false) || future.isCompletedExceptionally()) {
+            return null;
+        }
+        _hitCount.incrementAndGet();
+        return future.join();
+    }
+
+    private MazePath solve(MazeKey mazeKey, CompletableFuture<MazePath> solveFuture, Supplier<MazePath> solver) {
+
+        MazePath mazePath;
+
+        try {
+            mazePath = solver.get();
+        } catch (Throwable t) {
+            remove(mazeKey, solveFuture);
+            solveFuture.completeExceptionally(t);
+            throw t;
+        }
+
+        if (mazePath.isProven() == false) {
+            // Only keep a proven outcome. Others solve again within their own budget.
+            remove(mazeKey, solveFuture);
+        }
+
+        solveFuture.complete(mazePath);
+        return mazePath;
+    }
+
+    private MazePath solveAlone(MazeKey mazeKey, Supplier<MazePath> solver) {
+
+        MazePath mazePath;
+
+        // Solve within the budget of this caller, and share the path once proven
+        mazePath = solver.get();
+        offer(mazeKey, mazePath);
+        return mazePath;
+    }
+
+    public MazePath solve(MazeKey mazeKey, Supplier<MazePath> solver) {
+
+        CompletableFuture<MazePath> solveFuture;
+        CompletableFuture<MazePath> future;
+        MazePath mazePath;
+
+        solveFuture = new CompletableFuture<MazePath>();
+
+        future = register(mazeKey, solveFuture);
+        if (future == null) {
+            // First to ask for this maze. Solve it for everyone.
+            _missCount.incrementAndGet();
+            return solve(mazeKey, solveFuture, solver);
+        }
+        _hitCount.incrementAndGet();
+
+        // Share the outcome of the same maze, solved or still in flight
+        try {
+            mazePath = future.join();
+        } catch (CompletionException | CancellationException e) {
+            // The shared solve failed. Solve once on its own rather than wait for another shared solve.
+            return solveAlone(mazeKey, solver);
+        }
+
+        if (mazePath.isProven() == false) {
+            // Only the best path within the budget of the shared solve, which may be smaller than this one
+            return solveAlone(mazeKey, solver);
+        }
+        return mazePath;
+    }
+
+    private CompletableFuture<MazePath> solveAsync(MazeKey mazeKey,
+                                                   Supplier<MazePath> solver,
+                                                   Executor executor,
+                                                   boolean retry) {
+
+        CompletableFuture<MazePath> solveFuture;
+        CompletableFuture<MazePath> future;
+
+        solveFuture = new CompletableFuture<MazePath>();
+
+        future = register(mazeKey, solveFuture);
+        if (future == null) {
+            // First to ask for this maze. Solve it for everyone on the executor.
+            _missCount.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    try {
+                        solve(mazeKey, solveFuture, solver);
+                    } catch (Throwable t) {
+                        // Already reported to every caller through the future
+                    }
+                });
+            } catch (Throwable t) {
+                remove(mazeKey, solveFuture);
+                solveFuture.completeExceptionally(t);
+            }
+            // Callers get their own copy so that cancelling it leaves the shared solve running
+            return solveFuture.copy();
+        }
+        _hitCount.incrementAndGet();
+
+        // Share the outcome of the same maze without blocking. Only a failed solve is tried once more.
+        return future.handle((mazePath, throwable) -> {
+            if (throwable == null) {
+                if (mazePath.isProven()) {
+                    return CompletableFuture.completedFuture(mazePath);
+                }
+                // Only the best path within the budget of the shared solve, which may be smaller than this one
+                return CompletableFuture.supplyAsync(() -> solveAlone(mazeKey, solver), executor);
+            }
+            if (retry == false) {
+                return CompletableFuture.<MazePath>failedFuture(throwable);
+            }
+            return solveAsync(mazeKey, solver, executor, false);
+        }).thenCompose(Function.identity());
+    }
+
+    public CompletableFuture<MazePath> solveAsync(MazeKey mazeKey, Supplier<MazePath> solver, Executor executor) {
+
+        return solveAsync(mazeKey, solver, executor, true);
+    }
+
+    @Override
+    public String toString() {
+        return "SolutionCache [_name=" + _name
+               + ", _capacity="
+               + _capacity
+               + ", _size="
+               + size()
+               + ", _hitCount="
+               + _hitCount
+               + ", _missCount="
+               + _missCount
+               + ", _evictionCount="
+               + _evictionCount
+               + "]";
+    }
+}
@@ -0,0 +1,84 @@
+package maze.handler.maze;
+
+import java.time.Duration;
+
+import maze.Setup;
+import maze.base.Api;
+import maze.base.RestOutput;
+
+public class SolverBudget {
+
+    public static final SolverBudget UNLIMITED = new SolverBudget(null, null, null);
+
+    // Budget of each solve in the background
+    public static final SolverBudget PRESOLVE  = new SolverBudget(null, Setup.MAZE_PRESOLVE_TIME_OUT, null);
+
+    // No limit when null
+    private final Long               _iterationMax;
+    private final Duration           _wallTime;
+    private final Duration           _cpuTime;
+
+    private SolverBudget(Long iterationMax, Duration wallTime, Duration cpuTime) {
+
+        _iterationMax = iterationMax;
+        _wallTime = wallTime;
+        _cpuTime = cpuTime;
+    }
+
+    protected Long iterationMax() {
+
+        return _iterationMax;
+    }
+
+    protected Duration wallTime() {
+
+        return _wallTime;
+    }
+
+    protected Duration cpuTime() {
+
+        return _cpuTime;
+    }
+
+    protected boolean isUnlimited() {
+
+        return ((iterationMax() == null) && (wallTime() == null) && (cpuTime() == null));
+    }
+
+    public static RestOutput<SolverBudget> with(Long iterationMax, Long wallTimeMs, Long cpuTimeMs) {
+
+        Duration wallTime;
+        Duration cpuTime;
+
+        if ((iterationMax != null) && (iterationMax <= 0)) {
+            Api.error("SolverBudget iterations must be positive", iterationMax);
+            return RestOutput.badRequest();
+        }
+        if ((wallTimeMs != null) && (wallTimeMs <= 0)) {
+            Api.error("SolverBudget wall time must be positive", wallTimeMs);
+            return RestOutput.badRequest();
+        }
+        if ((cpuTimeMs != null) && (cpuTimeMs <= 0)) {
+            Api.error("SolverBudget cpu time must be positive", cpuTimeMs);
+            return RestOutput.badRequest();
+        }
+
+        // Always answer before the REST call times out
+        wallTime = Setup.MAZE_SOLVER_TIME_OUT;
+        if ((wallTimeMs != null) && (Duration.ofMillis(wallTimeMs).compareTo(wallTime) < 0)) {
+            wallTime = Duration.ofMillis(wallTimeMs);
+        }
+
+        cpuTime = null;
+        if (cpuTimeMs != null) {
+            cpuTime = Duration.ofMillis(cpuTimeMs);
+        }
+
+        return RestOutput.ok(new SolverBudget(iterationMax, wallTime, cpuTime));
+    }
+
+    @Override
+    public String toString() {
+        return "SolverBudget [_iterationMax=" + _iterationMax + ", _wallTime=" + _wallTime + ", _cpuTime=" + _cpuTime + "]";
+    }
+}
@@ -0,0 +1,107 @@
+package maze.handler.maze;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class SolverContext {
+
+    private final SolverMeter        _solverMeter;
+
+    // Longest path found by any solver sharing this context
+    private final AtomicInteger      _pathLength;
+
+    // Paths found with the length bounded from the entrance
+    private final AtomicInteger      _boundPathCount;
+
+    // No other path can change the outcome
+    private volatile boolean         _solved;
+
+    // Told about each longer path selected by a solver, in the grid of the solver. No one listens when null.
+    private final Consumer<MazePath> _pathConsumer;
+    private final AtomicInteger      _consumedPathLength;
+
+    public SolverContext() {
+        this(new SolverMeter(SolverBudget.UNLIMITED));
+    }
+
+    public SolverContext(SolverMeter solverMeter) {
+        this(solverMeter, null);
+    }
+
+    public SolverContext(SolverMeter solverMeter, Consumer<MazePath> pathConsumer) {
+
+        _solverMeter = solverMeter;
+        _pathLength = new AtomicInteger(0);
+        _boundPathCount = new AtomicInteger(0);
+        _solved = false;
+
+        _pathConsumer = pathConsumer;
+        _consumedPathLength = new AtomicInteger(0);
+    }
+
+    protected SolverMeter solverMeter() {
+
+        return _solverMeter;
+    }
+
+    protected int pathLength() {
+
+        return _pathLength.get();
+    }
+
+    protected void offerPathLength(int pathLength) {
+
+        _pathLength.accumulateAndGet(pathLength, Math::max);
+    }
+
+    protected void selectPath(int pathLength, Supplier<MazePath> mazePathSupplier) {
+
+        if (_pathConsumer == null) {
+            return;
+        }
+
+        // Only build the path when it is longer than any path already consumed
+        if (_consumedPathLength.getAndAccumulate(pathLength, Math::max) < pathLength) {
+            _pathConsumer.accept(mazePathSupplier.get());
+        }
+    }
+
+    protected int countBoundPath() {
+
+        return _boundPathCount.incrementAndGet();
+    }
+
+    protected boolean isSolved() {
+
+        return _solved;
+    }
+
+    protected void setSolved() {
+
+        _solved = true;
+    }
+
+    protected boolean isStopped() {
+
+        return (isSolved() || solverMeter().isExhausted());
+    }
+
+    protected boolean isProven() {
+
+        // The search ran to completion unless the budget ran out first
+        return (isSolved() || (solverMeter().isExhausted() == false));
+    }
+
+    @Override
+    public String toString() {
+        return "SolverContext [_solverMeter=" + _solverMeter
+               + ", _pathLength="
+               + _pathLength
+               + ", _boundPathCount="
+               + _boundPathCount
+               + ", _solved="
+               + _solved
+               + "]";
+    }
+}
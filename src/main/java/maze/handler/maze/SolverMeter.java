@@ -0,0 +1,103 @@
+package maze.handler.maze;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+public class SolverMeter {
+
+    private static final ThreadMXBean ThreadBean         = ManagementFactory.getThreadMXBean();
+
+    private static final long         PROGRESS_ITERATION = 50000L;
+
+    private final SolverBudget        _solverBudget;
+    private final long                _startTime;
+
+    // Told about the iterations spent so far on a regular basis. No one listens when null.
+    private final LongConsumer        _iterationConsumer;
+
+    // Spent by every solver sharing this meter
+    private final AtomicLong          _iterationCount;
+    private final AtomicLong          _cpuTime;
+    private volatile boolean          _exhausted;
+
+    public SolverMeter(SolverBudget solverBudget) {
+        this(solverBudget, null);
+    }
+
+    public SolverMeter(SolverBudget solverBudget, LongConsumer iterationConsumer) {
+
+        _solverBudget = solverBudget;
+        _startTime = System.nanoTime();
+        _iterationConsumer = iterationConsumer;
+
+        _iterationCount = new AtomicLong(0L);
+        _cpuTime = new AtomicLong(0L);
+        _exhausted = false;
+    }
+
+    protected SolverBudget solverBudget() {
+
+        return _solverBudget;
+    }
+
+    protected long iterationCount() {
+
+        return _iterationCount.get();
+    }
+
+    protected boolean isExhausted() {
+
+        return _exhausted;
+    }
+
+    protected long threadCpuTime() {
+
+        // Only read the thread clock when there is a limit on it
+        if ((solverBudget().cpuTime() == null) || (ThreadBean.isCurrentThreadCpuTimeSupported() == false)) {
+            return 0L;
+        }
+        return ThreadBean.getCurrentThreadCpuTime();
+    }
+
+    protected void spend(long iterationCount, long cpuTime) {
+
+        long totalIterationCount;
+        long totalCpuTime;
+
+        totalIterationCount = _iterationCount.addAndGet(iterationCount);
+        totalCpuTime = _cpuTime.addAndGet(cpuTime);
+
+        if ((_iterationConsumer != null)
+            && ((totalIterationCount / PROGRESS_ITERATION) != ((totalIterationCount - iterationCount) / PROGRESS_ITERATION))) {
+            // Report progress each time the count crosses another step
+            _iterationConsumer.accept(totalIterationCount);
+        }
+
+        if (solverBudget().isUnlimited() || isExhausted()) {
+            return;
+        }
+
+        if ((solverBudget().iterationMax() != null) && (totalIterationCount >= solverBudget().iterationMax())) {
+            _exhausted = true;
+        } else if ((solverBudget().wallTime() != null)
+                   && (System.nanoTime() - _startTime >= solverBudget().wallTime().toNanos())) {
+            _exhausted = true;
+        } else if ((solverBudget().cpuTime() != null) && (totalCpuTime >= solverBudget().cpuTime().toNanos())) {
+            _exhausted = true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SolverMeter [_solverBudget=" + _solverBudget
+               + ", _iterationCount="
+               + _iterationCount
+               + ", _cpuTime="
+               + _cpuTime
+               + ", _exhausted="
+               + _exhausted
+               + "]";
+    }
+}
@@ -0,0 +1,130 @@
+package maze.handler.maze;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import maze.base.Api;
+import maze.base.BaseThreadFactory;
+import maze.model.SolverMetrics;
+
+public class SolverScheduler implements Executor {
+
+    private final String             _poolName;
+    private final int                _queueSize;
+
+    // Fixed solver threads behind a bounded queue. A full queue rejects the solve.
+    private final ThreadPoolExecutor _threadPoolExecutor;
+
+    private final AtomicLong         _startedCount;
+    private final AtomicLong         _rejectedCount;
+
+    // Time spent by each solve in the queue before a solver thread runs it
+    private final AtomicLong         _waitTimeNs;
+    private final AtomicLong         _maxWaitTimeNs;
+
+    public SolverScheduler(String poolName, int threadCount, int queueSize) {
+
+        _poolName = poolName;
+        _queueSize = queueSize;
+
+        _threadPoolExecutor = new ThreadPoolExecutor(threadCount,
+                                                     threadCount,
+                                                     0L,
+                                                     TimeUnit.MILLISECONDS,
+                                                     new ArrayBlockingQueue<Runnable>(queueSize),
+                                                     new BaseThreadFactory(poolName),
+                                                     new ThreadPoolExecutor.AbortPolicy());
+
+        _startedCount = new AtomicLong(0L);
+        _rejectedCount = new AtomicLong(0L);
+
+        _waitTimeNs = new AtomicLong(0L);
+        _maxWaitTimeNs = new AtomicLong(0L);
+    }
+
+    public int queueDepth() {
+
+        return _threadPoolExecutor.getQueue().size();
+    }
+
+    public long rejectedCount() {
+
+        return _rejectedCount.get();
+    }
+
+    public boolean isSaturated() {
+
+        return (_threadPoolExecutor.getQueue().remainingCapacity() == 0);
+    }
+
+    private void start(long submitTime) {
+
+        long waitTimeNs;
+
+        waitTimeNs = System.nanoTime() - submitTime;
+
+        _startedCount.incrementAndGet();
+        _waitTimeNs.addAndGet(waitTimeNs);
+        _maxWaitTimeNs.accumulateAndGet(waitTimeNs, Math::max);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+
+        long submitTime;
+
+        submitTime = System.nanoTime();
+
+        try {
+            _threadPoolExecutor.execute(() -> {
+                start(submitTime);
+                task.run();
+            });
+        } catch (RejectedExecutionException e) {
+            _rejectedCount.incrementAndGet();
+            Api.error("SolverScheduler is saturated. NOT AVAILABLE", this);
+            throw e;
+        }
+    }
+
+    public SolverMetrics metrics() {
+
+        SolverMetrics solverMetrics;
+        long startedCount;
+
+        startedCount = _startedCount.get();
+
+        solverMetrics = new SolverMetrics();
+        solverMetrics.setThreads(_threadPoolExecutor.getMaximumPoolSize());
+        solverMetrics.setActiveThreads(_threadPoolExecutor.getActiveCount());
+        solverMetrics.setQueueDepth(queueDepth());
+        solverMetrics.setQueueCapacity(_queueSize);
+        solverMetrics.setStartedTasks(startedCount);
+        solverMetrics.setRejectedTasks(rejectedCount());
+        solverMetrics.setAverageWaitMs((startedCount == 0) ? 0L
+                                                          : Duration.ofNanos(_waitTimeNs.get() / startedCount)
+                                                                    .toMillis());
+        solverMetrics.setMaxWaitMs(Duration.ofNanos(_maxWaitTimeNs.get()).toMillis());
+
+        return solverMetrics;
+    }
+
+    @Override
+    public String toString() {
+        return "SolverScheduler [_poolName=" + _poolName
+               + ", _queueSize="
+               + _queueSize
+               + ", _startedCount="
+               + _startedCount
+               + ", _rejectedCount="
+               + _rejectedCount
+               + ", _queueDepth="
+               + queueDepth()
+               + "]";
+    }
+}
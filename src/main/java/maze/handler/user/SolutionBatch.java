@@ -0,0 +1,183 @@
+package maze.handler.user;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import maze.base.Api;
+import maze.base.RestCode;
+import maze.base.RestOutput;
+import maze.model.MazeBatchSolution;
+import maze.model.MazeSolution;
+
+public class SolutionBatch {
+
+    private final Integer[]                                                      _mazeIdArray;
+    private final Function<Integer, RestOutput<CompletableFuture<MazeSolution>>> _solver;
+    private final Predicate<MazeBatchSolution>                                   _watcher;
+    private final AtomicInteger                                                  _nextIndex;
+    private final AtomicInteger                                                  _remainingCount;
+    private final AtomicBoolean                                                  _stopped;
+
+    // Runs every step after a solve, so that the watcher and the next solve never hold a solver thread
+    private final Executor                                                       _executor;
+
+    private SolutionBatch(Integer[] mazeIdArray,
+                          Function<Integer, RestOutput<CompletableFuture<MazeSolution>>> solver,
+                          Predicate<MazeBatchSolution> watcher,
+                          Executor executor) {
+
+        _mazeIdArray = mazeIdArray;
+        _solver = solver;
+        _watcher = watcher;
+        _executor = executor;
+        _nextIndex = new AtomicInteger(0);
+        _remainingCount = new AtomicInteger(mazeIdArray.length);
+        _stopped = new AtomicBoolean(false);
+    }
+
+    private Integer[] mazeIdArray() {
+
+        return _mazeIdArray;
+    }
+
+    private Function<Integer, RestOutput<CompletableFuture<MazeSolution>>> solver() {
+
+        return _solver;
+    }
+
+    private Predicate<MazeBatchSolution> watcher() {
+
+        return _watcher;
+    }
+
+    private Executor executor() {
+
+        return _executor;
+    }
+
+    private synchronized void publish(Integer mazeId, RestCode restCode, MazeSolution mazeSolution) {
+
+        int remaining;
+
+        // Count and send together, so that the last solution sent is the one closing the stream
+        remaining = _remainingCount.decrementAndGet();
+        if (watcher().test(new MazeBatchSolution(mazeId, restCode.toString(), mazeSolution, remaining)) == false) {
+            // The batch is over or the client went away. No other solve to start.
+            _stopped.set(true);
+        }
+    }
+
+    private void complete(Integer mazeId, MazeSolution mazeSolution, Throwable throwable) {
+
+        Throwable cause;
+
+        if (throwable == null) {
+            publish(mazeId, RestCode.OK, mazeSolution);
+            return;
+        }
+
+        cause = throwable;
+        if (CompletionException.class.isInstance(throwable) && (throwable.getCause() != null)) {
+            cause = throwable.getCause();
+        }
+
+        if (RejectedExecutionException.class.isInstance(cause)) {
+            Api.error("Batch solve was rejected. NOT AVAILABLE", mazeId, this);
+            publish(mazeId, RestCode.NOT_AVAILABLE, null);
+            return;
+        }
+
+        Api.error(cause, "Batch solve failed. INTERNAL FAILURE", mazeId, this);
+        publish(mazeId, RestCode.INTERNAL_FAILURE, null);
+    }
+
+    private boolean solve(Integer mazeId) {
+
+        RestOutput<CompletableFuture<MazeSolution>> futureOutput;
+        CompletableFuture<MazeSolution> future;
+
+        try {
+            futureOutput = solver().apply(mazeId);
+        } catch (Throwable t) {
+            Api.error(t, "Batch solve failed. INTERNAL FAILURE", mazeId, this);
+            publish(mazeId, RestCode.INTERNAL_FAILURE, null);
+            return false;
+        }
+
+        if (RestOutput.isNOK(futureOutput)) {
+            Api.error("Batch solve is NOT OK", futureOutput, mazeId, this);
+            publish(mazeId, futureOutput.restCode(), null);
+            return false;
+        }
+        future = futureOutput.output();
+
+        if (future.isDone()) {
+            // A cached path answers at once, on this thread which is never a solver thread
+            future.whenComplete((mazeSolution, throwable) -> complete(mazeId, mazeSolution, throwable));
+            return false;
+        }
+
+        // Go on with the next maze once this one is solved, on the executor rather than the solver thread
+        future.whenCompleteAsync((mazeSolution, throwable) -> {
+            complete(mazeId, mazeSolution, throwable);
+            solveNext();
+        }, executor());
+        return true;
+    }
+
+    private void solveNext() {
+
+        int index;
+
+        while (_stopped.get() == false) {
+
+            index = _nextIndex.getAndIncrement();
+            if (index >= mazeIdArray().length) {
+                return;
+            }
+
+            // Keep going until a solve is pending
+            if (solve(mazeIdArray()[index])) {
+                return;
+            }
+        }
+    }
+
+    protected void start(int parallelism) {
+
+        // Each chain of solves waits for its current one, so that at most this many solves are pending
+        for (int i = 0; i < parallelism; i++) {
+            solveNext();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SolutionBatch [_mazeIdArray.length=" + _mazeIdArray.length
+               + ", _nextIndex="
+               + _nextIndex
+               + ", _remainingCount="
+               + _remainingCount
+               + ", _stopped="
+               + _stopped
+               + "]";
+    }
+
+    public static RestOutput<SolutionBatch> with(Integer[] mazeIdArray,
+                                                 Function<Integer, RestOutput<CompletableFuture<MazeSolution>>> solver,
+                                                 Predicate<MazeBatchSolution> watcher,
+                                                 Executor executor) {
+
+        if (Api.isNull(mazeIdArray, solver, watcher, executor)) {
+            return RestOutput.badRequest();
+        }
+
+        return RestOutput.ok(new SolutionBatch(mazeIdArray, solver, watcher, executor));
+    }
+}
@@ -2,18 +2,29 @@ package maze.handler.user;
 
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import maze.Setup;
 import maze.base.Api;
 import maze.base.RestOutput;
+import maze.base.Result;
 import maze.handler.maze.MazeHandler;
+import maze.handler.maze.SolverBudget;
 import maze.model.Maze;
+import maze.model.MazeBatch;
+import maze.model.MazeBatchSolution;
+import maze.model.MazeDistance;
+import maze.model.MazeHint;
+import maze.model.MazeProgress;
 import maze.model.MazeSolution;
 import maze.model.User;
+import maze.store.maze.MazeRecord;
 import maze.store.user.UserRecord;
 
 public class UserHandler {
@@ -66,12 +77,11 @@ public class UserHandler {
         return Objects.equals(userPassword(), userPassword);
     }
 
-    public RestOutput<MazeHandler> addMaze(Maze maze, AtomicReference<String> errorReference) {
+    public RestOutput<MazeHandler> createMaze(Maze maze, AtomicReference<String> errorReference) {
 
         Integer mazeId;
         Supplier<Integer> mazeIdSupplier;
         RestOutput<MazeHandler> mazeHandlerOutput;
-        MazeHandler mazeHandler;
 
         if (Api.isNull(maze, errorReference)) {
             return RestOutput.badRequest();
@@ -94,30 +104,58 @@ public class UserHandler {
             mazeIdSupplier = this::supplyMazeId;
         }
 
-        // Create a MazeHandler
+        // Create a MazeHandler, not added to the user yet
         mazeHandlerOutput = MazeHandler.with(maze, mazeIdSupplier, errorReference);
         if (RestOutput.isNOK(mazeHandlerOutput)) {
             Api.error("Maze to add is NOT OK", mazeHandlerOutput, maze, errorReference, this);
             return RestOutput.of(mazeHandlerOutput);
         }
-        mazeHandler = mazeHandlerOutput.output();
+
+        return mazeHandlerOutput;
+    }
+
+    public RestOutput<Result> registerMaze(MazeHandler mazeHandler) {
+
+        if (Api.isNull(mazeHandler)) {
+            return RestOutput.badRequest();
+        }
 
         // Insert this new Maze in the Map
         if (mazeHandlerMap().putIfAbsent(mazeHandler.mazeId(), mazeHandler) != null) {
-            Api.error("Maze to add is a duplicate. INTERNAL FAILURE", mazeHandler, maze, this);
+            Api.error("Maze to add is a duplicate. INTERNAL FAILURE", mazeHandler.mazeId(), this);
             return RestOutput.internalFailure();
         }
 
-        Api.info("New Maze added for " + userId() + " " + maze.toString(), this);
+        Api.info("New Maze added for " + userId() + " " + mazeHandler.mazeId(), this);
 
-        return RestOutput.ok(mazeHandler);
+        // Solve it in the background so that its first solution request is a cache hit
+        mazeHandler.schedulePresolve();
+
+        return RestOutput.OK;
     }
 
-    public RestOutput<Maze> retrieveMaze(Integer mazeId) {
+    public void restorePaths(MazeRecord mazeRecord) {
 
         MazeHandler mazeHandler;
 
-        if (Api.isNull(mazeId)) {
+        if (Api.isNull(mazeRecord, mazeRecord.mazeId())) {
+            return;
+        }
+
+        mazeHandler = mazeHandlerMap().get(mazeRecord.mazeId());
+        if (mazeHandler == null) {
+            Api.error("Maze to restorePaths does not exist for user.", mazeRecord, this);
+            return;
+        }
+
+        mazeHandler.restorePaths(mazeRecord);
+    }
+
+    public RestOutput<Maze> retrieveMaze(Integer mazeId, Boolean wallBitmap) {
+
+        MazeHandler mazeHandler;
+
+        if (Api.isNull(mazeId, wallBitmap)) {
             return RestOutput.badRequest();
         }
 
@@ -127,18 +165,56 @@ public class UserHandler {
             return RestOutput.notFound();
         }
 
-        return mazeHandler.retrieveMaze();
+        return mazeHandler.retrieveMaze(wallBitmap);
     }
 
-    public RestOutput<Maze[]> retrieveMazes() {
+    public RestOutput<CompletableFuture<MazeDistance>> retrieveDistance(Integer mazeId, String cell) {
+
+        MazeHandler mazeHandler;
+
+        if (Api.isNull(mazeId, cell)) {
+            return RestOutput.badRequest();
+        }
+
+        mazeHandler = mazeHandlerMap().get(mazeId);
+        if (mazeHandler == null) {
+            Api.error("Maze to retrieveDistance does not exist for user. NOT FOUND", mazeId, this);
+            return RestOutput.notFound();
+        }
+
+        return mazeHandler.retrieveDistance(cell);
+    }
+
+    public RestOutput<CompletableFuture<MazeHint>> retrieveHint(Integer mazeId, String cell) {
+
+        MazeHandler mazeHandler;
+
+        if (Api.isNull(mazeId, cell)) {
+            return RestOutput.badRequest();
+        }
+
+        mazeHandler = mazeHandlerMap().get(mazeId);
+        if (mazeHandler == null) {
+            Api.error("Maze to retrieveHint does not exist for user. NOT FOUND", mazeId, this);
+            return RestOutput.notFound();
+        }
+
+        return mazeHandler.retrieveHint(cell);
+    }
+
+    public RestOutput<Maze[]> retrieveMazes(Boolean wallBitmap) {
 
         Maze[] mazeArray;
 
+        if (Api.isNull(wallBitmap)) {
+            return RestOutput.badRequest();
+        }
+
         // Sorted set of all mazes for this user from the last to first
         mazeArray = mazeHandlerMap().values()
                                     .stream()
                                     .sorted(Comparator.reverseOrder())
-                                    .map(MazeHandler::retrieveMaze)
+                                    .map(mazeHandler -> mazeHandler.retrieveMaze(wallBitmap))
                                     .map(RestOutput::stream)
                                     .filter(Objects::nonNull)
                                     .toArray(Maze[]::new);
@@ -146,28 +222,36 @@ public class UserHandler {
         return RestOutput.ok(mazeArray);
     }
 
-    public RestOutput<MazeSolution> solveMinPath(Integer mazeId) {
+    public RestOutput<CompletableFuture<MazeSolution>> solveMinPath(Integer mazeId,
+                                                                   SolverBudget solverBudget,
+                                                                   Boolean moves,
+                                                                   Executor executor) {
 
         MazeHandler mazeHandler;
+        MazeSolution mazeSolution;
 
-        if (Api.isNull(mazeId)) {
+        if (Api.isNull(mazeId, solverBudget, moves, executor)) {
             return RestOutput.badRequest();
         }
 
         mazeHandler = mazeHandlerMap().get(mazeId);
         if (mazeHandler == null) {
             Api.error("Maze to solveMinPath does not exist for user.", mazeId, this);
-            return RestOutput.ok(new MazeSolution("Maze " + mazeId + " does not exit for this user."));
+            mazeSolution = new MazeSolution("Maze " + mazeId + " does not exit for this user.");
+            return RestOutput.ok(CompletableFuture.completedFuture(mazeSolution));
         }
 
-        return mazeHandler.solveMinPath();
+        return mazeHandler.solveMinPathAsync(solverBudget, moves, executor);
     }
 
-    public RestOutput<MazeSolution> solveMaxPath(Integer mazeId) {
+    public RestOutput<CompletableFuture<MazeSolution>> solveMaxPath(Integer mazeId,
+                                                                   SolverBudget solverBudget,
+                                                                   Boolean moves,
+                                                                   Executor executor) {
 
         MazeHandler mazeHandler;
 
-        if (Api.isNull(mazeId)) {
+        if (Api.isNull(mazeId, solverBudget, moves, executor)) {
             return RestOutput.badRequest();
         }
 
@@ -177,7 +261,115 @@ public class UserHandler {
             return RestOutput.notFound();
         }
 
-        return mazeHandler.solveMaxPath();
+        return mazeHandler.solveMaxPathAsync(solverBudget, moves, executor);
+    }
+
+    private RestOutput<CompletableFuture<MazeSolution>> solveMazePath(Integer mazeId,
+                                                                      Boolean maxPath,
+                                                                      SolverBudget solverBudget,
+                                                                      Boolean moves,
+                                                                      Executor executor) {
+
+        MazeHandler mazeHandler;
+
+        if (Api.isNull(mazeId, maxPath, solverBudget, moves, executor)) {
+            return RestOutput.badRequest();
+        }
+
+        mazeHandler = mazeHandlerMap().get(mazeId);
+        if (mazeHandler == null) {
+            Api.error("Maze to solveMazePath does not exist for user. NOT FOUND", mazeId, this);
+            return RestOutput.notFound();
+        }
+
+        if (maxPath) {
+            return mazeHandler.solveMaxPathAsync(solverBudget, moves, executor);
+        }
+        return mazeHandler.solveMinPathAsync(solverBudget, moves, executor);
+    }
+
+    public RestOutput<Result> solveMazes(MazeBatch mazeBatch,
+                                         SolverBudget solverBudget,
+                                         Boolean moves,
+                                         Predicate<MazeBatchSolution> watcher,
+                                         Executor executor) {
+
+        Integer[] mazeIdArray;
+        Boolean maxPath;
+        RestOutput<SolutionBatch> solutionBatchOutput;
+        SolutionBatch solutionBatch;
+
+        if (Api.isNull(mazeBatch, solverBudget, moves, watcher, executor)) {
+            return RestOutput.badRequest();
+        }
+        if (Api.isNull(mazeBatch.getMazeIds(), mazeBatch.getSteps())) {
+            return RestOutput.badRequest();
+        }
+
+        mazeIdArray = mazeBatch.getMazeIds();
+        if ((mazeIdArray.length == 0) || (mazeIdArray.length > Setup.MAZE_BATCH_SIZE_MAX)) {
+            Api.error("MazeIds to solveMazes must be between 1 and " + Setup.MAZE_BATCH_SIZE_MAX + ". BAD REQUEST",
+                      mazeBatch,
+                      this);
+            return RestOutput.badRequest();
+        }
+
+        if (Objects.equals("min", mazeBatch.getSteps())) {
+            maxPath = Boolean.FALSE;
+        } else if (Objects.equals("max", mazeBatch.getSteps())) {
+            maxPath = Boolean.TRUE;
+        } else {
+            Api.error("Steps to solveMazes must be min or max. BAD REQUEST", mazeBatch, this);
+            return RestOutput.badRequest();
+        }
+
+        solutionBatchOutput = SolutionBatch.with(mazeIdArray, (mazeId) -> {
+            return solveMazePath(mazeId, maxPath, solverBudget, moves, executor);
+        }, watcher, executor);
+        if (RestOutput.isNOK(solutionBatchOutput)) {
+            Api.error("SolutionBatch to solveMazes is NOT OK", solutionBatchOutput, mazeBatch, this);
+            return RestOutput.of(solutionBatchOutput);
+        }
+        solutionBatch = solutionBatchOutput.output();
+
+        // Fan out over the solver threads. Cached paths are sent at once and each other one once solved.
+        solutionBatch.start(Setup.MAZE_BATCH_PARALLELISM);
+
+        return RestOutput.OK;
+    }
+
+    public RestOutput<Result> watchMinPath(Integer mazeId, SolverBudget solverBudget, Predicate<MazeProgress> watcher) {
+
+        MazeHandler mazeHandler;
+
+        if (Api.isNull(mazeId, solverBudget, watcher)) {
+            return RestOutput.badRequest();
+        }
+
+        mazeHandler = mazeHandlerMap().get(mazeId);
+        if (mazeHandler == null) {
+            Api.error("Maze to watchMinPath does not exist for user. NOT FOUND", mazeId, this);
+            return RestOutput.notFound();
+        }
+
+        return mazeHandler.watchMinPath(solverBudget, watcher);
+    }
+
+    public RestOutput<Result> watchMaxPath(Integer mazeId, SolverBudget solverBudget, Predicate<MazeProgress> watcher) {
+
+        MazeHandler mazeHandler;
+
+        if (Api.isNull(mazeId, solverBudget, watcher)) {
+            return RestOutput.badRequest();
+        }
+
+        mazeHandler = mazeHandlerMap().get(mazeId);
+        if (mazeHandler == null) {
+            Api.error("Maze to watchMaxPath does not exist for user. NOT FOUND", mazeId, this);
+            return RestOutput.notFound();
+        }
+
+        return mazeHandler.watchMaxPath(solverBudget, watcher);
     }
 
     public RestOutput<UserRecord> buildUserRecord() {
@@ -8,16 +8,24 @@ public class Maze {
     private String   _gridSize;
     private String[] _walls;
 
+    // Base64 of one bit per cell row after row, instead of the walls
+    private String   _wallBitmap;
+
     public Maze() {
         this(null, null, null, null);
     }
 
     public Maze(Integer mazeId, String entrance, String gridSize, String[] walls) {
+        this(mazeId, entrance, gridSize, walls, null);
+    }
+
+    public Maze(Integer mazeId, String entrance, String gridSize, String[] walls, String wallBitmap) {
 
         setMazeId(mazeId);
         setEntrance(entrance);
         setGridSize(gridSize);
         setWalls(walls);
+        setWallBitmap(wallBitmap);
     }
 
     public Integer getMazeId() {
@@ -52,6 +60,14 @@ public class Maze {
         _walls = walls;
     }
 
+    public String getWallBitmap() {
+        return _wallBitmap;
+    }
+
+    public void setWallBitmap(String wallBitmap) {
+        _wallBitmap = wallBitmap;
+    }
+
     @Override
     public String toString() {
         return "Maze [_mazeId=" + _mazeId
@@ -61,6 +77,8 @@ public class Maze {
                + _gridSize
                + ", _walls="
                + _walls
+               + ", _wallBitmapLength="
+               + ((_wallBitmap == null) ? null : _wallBitmap.length())
                + "]";
     }
 }
@@ -0,0 +1,40 @@
+package maze.model;
+
+import java.util.Arrays;
+
+public class MazeBatch {
+
+    private Integer[] _mazeIds;
+    private String    _steps;
+
+    public MazeBatch() {
+        this(null, null);
+    }
+
+    public MazeBatch(Integer[] mazeIds, String steps) {
+
+        setMazeIds(mazeIds);
+        setSteps(steps);
+    }
+
+    public Integer[] getMazeIds() {
+        return _mazeIds;
+    }
+
+    public void setMazeIds(Integer[] mazeIds) {
+        _mazeIds = mazeIds;
+    }
+
+    public String getSteps() {
+        return _steps;
+    }
+
+    public void setSteps(String steps) {
+        _steps = steps;
+    }
+
+    @Override
+    public String toString() {
+        return "MazeBatch [_mazeIds=" + Arrays.toString(_mazeIds) + ", _steps=" + _steps + "]";
+    }
+}
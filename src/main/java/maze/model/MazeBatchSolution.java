@@ -0,0 +1,69 @@
+package maze.model;
+
+public class MazeBatchSolution {
+
+    private Integer      _mazeId;
+
+    // OK with a solution, or the reason why this maze could not be solved
+    private String       _status;
+    private MazeSolution _solution;
+
+    // Solutions still to come in this batch
+    private Integer      _remaining;
+
+    public MazeBatchSolution() {
+        this(null, null, null, null);
+    }
+
+    public MazeBatchSolution(Integer mazeId, String status, MazeSolution solution, Integer remaining) {
+
+        setMazeId(mazeId);
+        setStatus(status);
+        setSolution(solution);
+        setRemaining(remaining);
+    }
+
+    public Integer getMazeId() {
+        return _mazeId;
+    }
+
+    public void setMazeId(Integer mazeId) {
+        _mazeId = mazeId;
+    }
+
+    public String getStatus() {
+        return _status;
+    }
+
+    public void setStatus(String status) {
+        _status = status;
+    }
+
+    public MazeSolution getSolution() {
+        return _solution;
+    }
+
+    public void setSolution(MazeSolution solution) {
+        _solution = solution;
+    }
+
+    public Integer getRemaining() {
+        return _remaining;
+    }
+
+    public void setRemaining(Integer remaining) {
+        _remaining = remaining;
+    }
+
+    @Override
+    public String toString() {
+        return "MazeBatchSolution [_mazeId=" + _mazeId
+               + ", _status="
+               + _status
+               + ", _solution="
+               + _solution
+               + ", _remaining="
+               + _remaining
+               + "]";
+    }
+}
@@ -0,0 +1,62 @@
+package maze.model;
+
+public class MazeDistance {
+
+    private String  _cell;
+
+    // Steps from the cell to the exit along the shortest way
+    private Integer _distance;
+    private String  _error;
+
+    public MazeDistance() {
+
+        setCell(null);
+        setDistance(null);
+        setError(null);
+    }
+
+    public MazeDistance(String cell, Integer distance) {
+
+        // Cell with a way to the exit
+        setCell(cell);
+        setDistance(distance);
+        setError(null);
+    }
+
+    public MazeDistance(String cell, String error) {
+
+        // Cell without any way to the exit
+        setCell(cell);
+        setDistance(null);
+        setError(error);
+    }
+
+    public String getCell() {
+        return _cell;
+    }
+
+    public void setCell(String cell) {
+        _cell = cell;
+    }
+
+    public Integer getDistance() {
+        return _distance;
+    }
+
+    public void setDistance(Integer distance) {
+        _distance = distance;
+    }
+
+    public String getError() {
+        return _error;
+    }
+
+    public void setError(String error) {
+        _error = error;
+    }
+
+    @Override
+    public String toString() {
+        return "MazeDistance [_cell=" + _cell + ", _distance=" + _distance + ", _error=" + _error + "]";
+    }
+}
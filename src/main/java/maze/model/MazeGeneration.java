@@ -0,0 +1,65 @@
+package maze.model;
+
+public class MazeGeneration {
+
+    private String  _gridSize;
+    private Long    _seed;
+    private Double  _loopDensity;
+    private Integer _count;
+
+    public MazeGeneration() {
+        this(null, null, null, null);
+    }
+
+    public MazeGeneration(String gridSize, Long seed, Double loopDensity, Integer count) {
+
+        setGridSize(gridSize);
+        setSeed(seed);
+        setLoopDensity(loopDensity);
+        setCount(count);
+    }
+
+    public String getGridSize() {
+        return _gridSize;
+    }
+
+    public void setGridSize(String gridSize) {
+        _gridSize = gridSize;
+    }
+
+    public Long getSeed() {
+        return _seed;
+    }
+
+    public void setSeed(Long seed) {
+        _seed = seed;
+    }
+
+    public Double getLoopDensity() {
+        return _loopDensity;
+    }
+
+    public void setLoopDensity(Double loopDensity) {
+        _loopDensity = loopDensity;
+    }
+
+    public Integer getCount() {
+        return _count;
+    }
+
+    public void setCount(Integer count) {
+        _count = count;
+    }
+
+    @Override
+    public String toString() {
+        return "MazeGeneration [_gridSize=" + _gridSize
+               + ", _seed="
+               + _seed
+               + ", _loopDensity="
+               + _loopDensity
+               + ", _count="
+               + _count
+               + "]";
+    }
+}
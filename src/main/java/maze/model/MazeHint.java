@@ -0,0 +1,96 @@
+package maze.model;
+
+public class MazeHint {
+
+    private String  _cell;
+
+    // Next cell on the shortest way to the exit and the move to reach it (U, D, L or R), none at the exit
+    private String  _next;
+    private String  _move;
+
+    private Integer _distance;
+    private String  _error;
+
+    public MazeHint() {
+
+        setCell(null);
+        setNext(null);
+        setMove(null);
+        setDistance(null);
+        setError(null);
+    }
+
+    public MazeHint(String cell, String next, String move, Integer distance) {
+
+        // Cell with a way to the exit
+        setCell(cell);
+        setNext(next);
+        setMove(move);
+        setDistance(distance);
+        setError(null);
+    }
+
+    public MazeHint(String cell, String error) {
+
+        // Cell without any way to the exit
+        setCell(cell);
+        setNext(null);
+        setMove(null);
+        setDistance(null);
+        setError(error);
+    }
+
+    public String getCell() {
+        return _cell;
+    }
+
+    public void setCell(String cell) {
+        _cell = cell;
+    }
+
+    public String getNext() {
+        return _next;
+    }
+
+    public void setNext(String next) {
+        _next = next;
+    }
+
+    public String getMove() {
+        return _move;
+    }
+
+    public void setMove(String move) {
+        _move = move;
+    }
+
+    public Integer getDistance() {
+        return _distance;
+    }
+
+    public void setDistance(Integer distance) {
+        _distance = distance;
+    }
+
+    public String getError() {
+        return _error;
+    }
+
+    public void setError(String error) {
+        _error = error;
+    }
+
+    @Override
+    public String toString() {
+        return "MazeHint [_cell=" + _cell
+               + ", _next="
+               + _next
+               + ", _move="
+               + _move
+               + ", _distance="
+               + _distance
+               + ", _error="
+               + _error
+               + "]";
+    }
+}
@@ -0,0 +1,114 @@
+package maze.model;
+
+public class MazeImport {
+
+    // Position of the maze in the imported payload, from 0
+    private Integer _index;
+    private Integer _mazeId;
+    private String  _error;
+
+    // Sent last once every maze of the payload is processed
+    private Integer _accepted;
+    private Integer _rejected;
+    private Boolean _done;
+
+    public MazeImport() {
+
+        setIndex(null);
+        setMazeId(null);
+        setError(null);
+        setAccepted(null);
+        setRejected(null);
+        setDone(null);
+    }
+
+    public MazeImport(Integer index, Integer mazeId) {
+
+        // Maze properly imported
+        this();
+        setIndex(index);
+        setMazeId(mazeId);
+    }
+
+    public MazeImport(Integer index, String error) {
+
+        // Maze could not be properly imported
+        this();
+        setIndex(index);
+        setError(error);
+    }
+
+    public MazeImport(Integer accepted, Integer rejected, String error) {
+
+        // Outcome of the whole import, with an error when the payload could not be read to its end
+        this();
+        setError(error);
+        setAccepted(accepted);
+        setRejected(rejected);
+        setDone(Boolean.TRUE);
+    }
+
+    public Integer getIndex() {
+        return _index;
+    }
+
+    public void setIndex(Integer index) {
+        _index = index;
+    }
+
+    public Integer getMazeId() {
+        return _mazeId;
+    }
+
+    public void setMazeId(Integer mazeId) {
+        _mazeId = mazeId;
+    }
+
+    public String getError() {
+        return _error;
+    }
+
+    public void setError(String error) {
+        _error = error;
+    }
+
+    public Integer getAccepted() {
+        return _accepted;
+    }
+
+    public void setAccepted(Integer accepted) {
+        _accepted = accepted;
+    }
+
+    public Integer getRejected() {
+        return _rejected;
+    }
+
+    public void setRejected(Integer rejected) {
+        _rejected = rejected;
+    }
+
+    public Boolean getDone() {
+        return _done;
+    }
+
+    public void setDone(Boolean done) {
+        _done = done;
+    }
+
+    @Override
+    public String toString() {
+        return "MazeImport [_index=" + _index
+               + ", _mazeId="
+               + _mazeId
+               + ", _error="
+               + _error
+               + ", _accepted="
+               + _accepted
+               + ", _rejected="
+               + _rejected
+               + ", _done="
+               + _done
+               + "]";
+    }
+}
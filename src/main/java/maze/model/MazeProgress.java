@@ -0,0 +1,124 @@
+package maze.model;
+
+public class MazeProgress {
+
+    private String[] _path;
+
+    // Best path so far stops short of the exit, at the end of the blocks solved so far
+    private Boolean  _partial;
+
+    private Long     _iterations;
+    private Long     _elapsedMs;
+    private Boolean  _optimal;
+    private Boolean  _done;
+    private String   _error;
+
+    public MazeProgress() {
+
+        setPath(null);
+        setPartial(null);
+        setIterations(null);
+        setElapsedMs(null);
+        setOptimal(null);
+        setDone(null);
+        setError(null);
+    }
+
+    public MazeProgress(String[] path, Boolean partial, Long iterations, Long elapsedMs) {
+
+        // Best path found so far while the solver is still running
+        setPath(path);
+        setPartial(partial);
+        setIterations(iterations);
+        setElapsedMs(elapsedMs);
+        setOptimal(Boolean.FALSE);
+        setDone(Boolean.FALSE);
+        setError(null);
+    }
+
+    public MazeProgress(MazeSolution mazeSolution, Long iterations, Long elapsedMs) {
+
+        // Outcome of the solver
+        setPath(mazeSolution.getPath());
+        setPartial(Boolean.FALSE);
+        setIterations(iterations);
+        setElapsedMs(elapsedMs);
+        setOptimal(mazeSolution.getOptimal());
+        setDone(Boolean.TRUE);
+        setError(mazeSolution.getError());
+    }
+
+    public String[] getPath() {
+        return _path;
+    }
+
+    public void setPath(String[] path) {
+        _path = path;
+    }
+
+    public Boolean getPartial() {
+        return _partial;
+    }
+
+    public void setPartial(Boolean partial) {
+        _partial = partial;
+    }
+
+    public Long getIterations() {
+        return _iterations;
+    }
+
+    public void setIterations(Long iterations) {
+        _iterations = iterations;
+    }
+
+    public Long getElapsedMs() {
+        return _elapsedMs;
+    }
+
+    public void setElapsedMs(Long elapsedMs) {
+        _elapsedMs = elapsedMs;
+    }
+
+    public Boolean getOptimal() {
+        return _optimal;
+    }
+
+    public void setOptimal(Boolean optimal) {
+        _optimal = optimal;
+    }
+
+    public Boolean getDone() {
+        return _done;
+    }
+
+    public void setDone(Boolean done) {
+        _done = done;
+    }
+
+    public String getError() {
+        return _error;
+    }
+
+    public void setError(String error) {
+        _error = error;
+    }
+
+    @Override
+    public String toString() {
+        return "MazeProgress [_path=" + _path
+               + ", _partial="
+               + _partial
+               + ", _iterations="
+               + _iterations
+               + ", _elapsedMs="
+               + _elapsedMs
+               + ", _optimal="
+               + _optimal
+               + ", _done="
+               + _done
+               + ", _error="
+               + _error
+               + "]";
+    }
+}
@@ -3,18 +3,40 @@ package maze.model;
 public class MazeSolution {
 
     private String[] _path;
+
+    // Start cell and one letter per step (U, D, L or R), instead of the path
+    private String   _start;
+    private String   _moves;
+
+    private Boolean  _optimal;
     private String   _error;
 
     public MazeSolution() {
 
         setPath(null);
+        setStart(null);
+        setMoves(null);
+        setOptimal(null);
         setError(null);
     }
 
-    public MazeSolution(String[] path) {
+    public MazeSolution(String[] path, Boolean optimal) {
 
-        // Maze with a proper solution
+        // Maze with a proper solution, which may only be the best one found within the solver budget
         setPath(path);
+        setStart(null);
+        setMoves(null);
+        setOptimal(optimal);
+        setError(null);
+    }
+
+    public MazeSolution(String start, String moves, Boolean optimal) {
+
+        // Same solution given as moves from the start cell
+        setPath(null);
+        setStart(start);
+        setMoves(moves);
+        setOptimal(optimal);
         setError(null);
     }
 
@@ -22,6 +44,9 @@ public class MazeSolution {
 
         // Maze without a proper solution
         setPath(null);
+        setStart(null);
+        setMoves(null);
+        setOptimal(null);
         setError(error);
     }
 
@@ -33,6 +58,30 @@ public class MazeSolution {
         _path = path;
     }
 
+    public String getStart() {
+        return _start;
+    }
+
+    public void setStart(String start) {
+        _start = start;
+    }
+
+    public String getMoves() {
+        return _moves;
+    }
+
+    public void setMoves(String moves) {
+        _moves = moves;
+    }
+
+    public Boolean getOptimal() {
+        return _optimal;
+    }
+
+    public void setOptimal(Boolean optimal) {
+        _optimal = optimal;
+    }
+
     public String getError() {
         return _error;
     }
@@ -43,7 +92,16 @@ public class MazeSolution {
 
     @Override
     public String toString() {
-        return "MazeSolution [_path=" + _path + ", _error=" + _error + "]";
+        return "MazeSolution [_path=" + _path
+               + ", _start="
+               + _start
+               + ", _moves="
+               + _moves
+               + ", _optimal="
+               + _optimal
+               + ", _error="
+               + _error
+               + "]";
     }
 
 }
@@ -0,0 +1,109 @@
+package maze.model;
+
+public class SolverMetrics {
+
+    private Integer _threads;
+    private Integer _activeThreads;
+    private Integer _queueDepth;
+    private Integer _queueCapacity;
+    private Long    _startedTasks;
+    private Long    _rejectedTasks;
+    private Long    _averageWaitMs;
+    private Long    _maxWaitMs;
+
+    public SolverMetrics() {
+
+        setThreads(null);
+        setActiveThreads(null);
+        setQueueDepth(null);
+        setQueueCapacity(null);
+        setStartedTasks(null);
+        setRejectedTasks(null);
+        setAverageWaitMs(null);
+        setMaxWaitMs(null);
+    }
+
+    public Integer getThreads() {
+        return _threads;
+    }
+
+    public void setThreads(Integer threads) {
+        _threads = threads;
+    }
+
+    public Integer getActiveThreads() {
+        return _activeThreads;
+    }
+
+    public void setActiveThreads(Integer activeThreads) {
+        _activeThreads = activeThreads;
+    }
+
+    public Integer getQueueDepth() {
+        return _queueDepth;
+    }
+
+    public void setQueueDepth(Integer queueDepth) {
+        _queueDepth = queueDepth;
+    }
+
+    public Integer getQueueCapacity() {
+        return _queueCapacity;
+    }
+
+    public void setQueueCapacity(Integer queueCapacity) {
+        _queueCapacity = queueCapacity;
+    }
+
+    public Long getStartedTasks() {
+        return _startedTasks;
+    }
+
+    public void setStartedTasks(Long startedTasks) {
+        _startedTasks = startedTasks;
+    }
+
+    public Long getRejectedTasks() {
+        return _rejectedTasks;
+    }
+
+    public void setRejectedTasks(Long rejectedTasks) {
+        _rejectedTasks = rejectedTasks;
+    }
+
+    public Long getAverageWaitMs() {
+        return _averageWaitMs;
+    }
+
+    public void setAverageWaitMs(Long averageWaitMs) {
+        _averageWaitMs = averageWaitMs;
+    }
+
+    public Long getMaxWaitMs() {
+        return _maxWaitMs;
+    }
+
+    public void setMaxWaitMs(Long maxWaitMs) {
+        _maxWaitMs = maxWaitMs;
+    }
+
+    @Override
+    public String toString() {
+        return "SolverMetrics [_threads=" + _threads
+               + ", _activeThreads="
+               + _activeThreads
+               + ", _queueDepth="
+               + _queueDepth
+               + ", _queueCapacity="
+               + _queueCapacity
+               + ", _startedTasks="
+               + _startedTasks
+               + ", _rejectedTasks="
+               + _rejectedTasks
+               + ", _averageWaitMs="
+               + _averageWaitMs
+               + ", _maxWaitMs="
+               + _maxWaitMs
+               + "]";
+    }
+}
@@ -2,7 +2,10 @@ package maze.rest;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
@@ -22,6 +25,7 @@ import org.eclipse.jetty.io.EofException;
 import org.glassfish.jersey.server.internal.process.MappableException;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import maze.Setup;
@@ -32,15 +36,16 @@ import maze.base.Result;
 
 public class RestCall<T> implements ConnectionCallback, TimeoutHandler, CompletionCallback {
 
-    private static final ExecutorService                           Executor     = Api.executorService("rest");
+    private static final ExecutorService                                              Executor     = Api.executorService("rest");
 
-    private static final ObjectMapper                              JsonMapper   = objectMapper();
-    private static final CacheControl                              CacheControl = buildNoCache();
+    private static final ObjectMapper                                                 JsonMapper   = objectMapper();
+    private static final CacheControl                                                 CacheControl = buildNoCache();
 
-    private final AsyncResponse                                    _asyncResponse;
-    private final Function<AtomicReference<Cookie>, RestOutput<T>> _method;
+    private final AsyncResponse                                                       _asyncResponse;
+    private final Function<AtomicReference<Cookie>, RestOutput<CompletableFuture<T>>> _method;
 
-    private RestCall(AsyncResponse asyncResponse, Function<AtomicReference<Cookie>, RestOutput<T>> method) {
+    private RestCall(AsyncResponse asyncResponse,
+                     Function<AtomicReference<Cookie>, RestOutput<CompletableFuture<T>>> method) {
 
         _asyncResponse = asyncResponse;
 
@@ -56,7 +61,7 @@ public class RestCall<T> implements ConnectionCallback, TimeoutHandler, Completi
         return _asyncResponse;
     }
 
-    private Function<AtomicReference<Cookie>, RestOutput<T>> method() {
+    private Function<AtomicReference<Cookie>, RestOutput<CompletableFuture<T>>> method() {
 
         return _method;
     }
@@ -140,19 +145,12 @@ public class RestCall<T> implements ConnectionCallback, TimeoutHandler, Completi
         }
     }
 
-    protected void execute() {
+    private void complete(RestOutput<T> restOutput, AtomicReference<Cookie> cookieReference) {
 
-        AtomicReference<Cookie> cookieReference;
-        RestOutput<T> restOutput;
         T output;
 
         try {
 
-            cookieReference = new AtomicReference<Cookie>(null);
-
-            // Process the rest method
-            restOutput = method().apply(cookieReference);
-
             if (RestOutput.isNOK(restOutput)) {
                 Api.error("RestCall is NOT OK", restOutput, this);
                 switch (restOutput.restCode()) {
@@ -193,6 +191,59 @@ public class RestCall<T> implements ConnectionCallback, TimeoutHandler, Completi
             // Resume with a JSON payload
             resume(RestCode.OK, okResponse(Optional.ofNullable(cookieReference.get()), output));
 
+        } catch (Throwable t) {
+            Api.error(t, "RestCall complete failed. INTERNAL FAILURE", this);
+            resume(RestCode.INTERNAL_FAILURE, internalFailureResponse());
+        }
+    }
+
+    private void fail(Throwable throwable) {
+
+        Throwable cause;
+
+        cause = throwable;
+        if (CompletionException.class.isInstance(throwable) && (throwable.getCause() != null)) {
+            cause = throwable.getCause();
+        }
+
+        if (RejectedExecutionException.class.isInstance(cause)) {
+            // No room left to process the request now
+            Api.error("RestCall output was rejected. NOT AVAILABLE", this);
+            resume(RestCode.NOT_AVAILABLE, notAvailableResponse());
+            return;
+        }
+
+        Api.error(cause, "RestCall output failed. INTERNAL FAILURE", this);
+        resume(RestCode.INTERNAL_FAILURE, internalFailureResponse());
+    }
+
+    protected void execute() {
+
+        AtomicReference<Cookie> cookieReference;
+        RestOutput<CompletableFuture<T>> futureOutput;
+
+        try {
+
+            cookieReference = new AtomicReference<Cookie>(null);
+
+            // Process the rest method
+            futureOutput = method().apply(cookieReference);
+
+            if (RestOutput.isNOK(futureOutput)) {
+                complete(RestOutput.of(futureOutput), cookieReference);
+                return;
+            }
+
+            // Resume on the rest executor once the output completes, so that the solver thread completing it never
+            // serializes nor writes the response. No thread waits for it.
+            futureOutput.output().whenCompleteAsync((output, throwable) -> {
+                if (throwable != null) {
+                    fail(throwable);
+                    return;
+                }
+                complete(RestOutput.ok(output), cookieReference);
+            }, Executor);
+
         } catch (Throwable t) {
             Api.error(t, "RestCall execute failed. INTERNAL FAILURE", this);
             resume(RestCode.INTERNAL_FAILURE, internalFailureResponse());
@@ -209,6 +260,11 @@ public class RestCall<T> implements ConnectionCallback, TimeoutHandler, Completi
         return "RestCall [_asyncResponse=" + _asyncResponse + ", _method=" + _method + "]";
     }
 
+    protected static Executor executor() {
+
+        return Executor;
+    }
+
     private static CacheControl buildNoCache() {
 
         CacheControl cacheControl = new CacheControl();
@@ -227,6 +283,11 @@ public class RestCall<T> implements ConnectionCallback, TimeoutHandler, Completi
         return objectMapper;
     }
 
+    protected static String jsonText(Object output) throws JsonProcessingException {
+
+        return JsonMapper.writeValueAsString(output);
+    }
+
     private static Response buildRestErrorResponse(int statusCode) {
 
         StringBuilder stringBuilder;
@@ -318,6 +379,25 @@ public class RestCall<T> implements ConnectionCallback, TimeoutHandler, Completi
 
     public static <T> void run(AsyncResponse asyncResponse, Function<AtomicReference<Cookie>, RestOutput<T>> method) {
 
+        if (Api.isNull(asyncResponse, method)) {
+            return;
+        }
+
+        runAsync(asyncResponse, (cookieReference) -> {
+
+            RestOutput<T> restOutput;
+
+            restOutput = method.apply(cookieReference);
+            if (RestOutput.isNOK(restOutput)) {
+                return RestOutput.of(restOutput);
+            }
+            return RestOutput.ok(CompletableFuture.completedFuture(restOutput.output()));
+        });
+    }
+
+    public static <T> void runAsync(AsyncResponse asyncResponse,
+                                    Function<AtomicReference<Cookie>, RestOutput<CompletableFuture<T>>> method) {
+
         RestCall<T> restCall;
 
         if (Api.isNull(asyncResponse, method)) {
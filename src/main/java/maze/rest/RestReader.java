@@ -0,0 +1,138 @@
+package maze.rest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import maze.base.Api;
+import maze.base.RestOutput;
+
+public class RestReader<T> implements Iterator<RestOutput<T>> {
+
+    private static final ObjectMapper JsonMapper = new ObjectMapper();
+
+    private final JsonParser          _jsonParser;
+    private final Class<T>            _itemClass;
+
+    // Items within a single JSON array, otherwise one JSON object after the other as NDJSON
+    private final boolean             _array;
+
+    // Token starting the next item, null at the end of the payload
+    private JsonToken                 _token;
+    private boolean                   _failed;
+
+    private RestReader(JsonParser jsonParser, Class<T> itemClass, boolean array, JsonToken token) {
+
+        _jsonParser = jsonParser;
+        _itemClass = itemClass;
+        _array = array;
+        _token = token;
+        _failed = false;
+    }
+
+    private JsonParser jsonParser() {
+
+        return _jsonParser;
+    }
+
+    private Class<T> itemClass() {
+
+        return _itemClass;
+    }
+
+    public boolean isFailed() {
+
+        return _failed;
+    }
+
+    @Override
+    public boolean hasNext() {
+
+        if (isFailed() || (_token == null)) {
+            return false;
+        }
+        return ((_array == false) || (_token != JsonToken.END_ARRAY));
+    }
+
+    @Override
+    public RestOutput<T> next() {
+
+        JsonNode jsonNode;
+
+        try {
+
+            if (_token != JsonToken.START_OBJECT) {
+                Api.error("RestReader item is not a JSON object. BAD REQUEST", _token, this);
+                jsonParser().skipChildren();
+                _token = jsonParser().nextToken();
+                return RestOutput.badRequest();
+            }
+
+            // Only this item is held in memory, the rest of the payload is still to be read
+            jsonNode = JsonMapper.readTree(jsonParser());
+            _token = jsonParser().nextToken();
+
+        } catch (IOException e) {
+            // The payload is not well formed. There is no telling where the next item starts.
+            Api.error(e, "RestReader failed to read the payload. BAD REQUEST", this);
+            _failed = true;
+            return RestOutput.badRequest();
+        }
+
+        try {
+            return RestOutput.ok(JsonMapper.treeToValue(jsonNode, itemClass()));
+        } catch (JsonProcessingException e) {
+            Api.error(e, "RestReader item does not match. BAD REQUEST", jsonNode, this);
+            return RestOutput.badRequest();
+        }
+    }
+
+    public void close() {
+
+        try {
+            jsonParser().close();
+        } catch (Throwable t) {
+            Api.error(t, "RestReader close failed", this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RestReader [_itemClass=" + _itemClass + ", _array=" + _array + ", _failed=" + _failed + "]";
+    }
+
+    public static <T> RestOutput<RestReader<T>> with(InputStream inputStream, Class<T> itemClass) {
+
+        JsonParser jsonParser;
+        JsonToken token;
+        boolean array;
+
+        if (Api.isNull(inputStream, itemClass)) {
+            return RestOutput.badRequest();
+        }
+
+        try {
+
+            jsonParser = JsonMapper.getFactory().createParser(inputStream);
+
+            // Either a JSON array of items or NDJSON
+            token = jsonParser.nextToken();
+            array = (token == JsonToken.START_ARRAY);
+            if (array) {
+                token = jsonParser.nextToken();
+            }
+
+            return RestOutput.ok(new RestReader<T>(jsonParser, itemClass, array, token));
+
+        } catch (IOException e) {
+            Api.error(e, "RestReader failed to open the payload. BAD REQUEST", itemClass);
+            return RestOutput.badRequest();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package maze.rest;
 
+import java.io.InputStream;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -15,6 +16,8 @@ import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Cookie;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
 
 import org.glassfish.jersey.server.ResourceConfig;
 
@@ -22,8 +25,14 @@ import maze.Setup;
 import maze.base.Api;
 import maze.base.RestOutput;
 import maze.handler.core.CoreHandler;
+import maze.handler.maze.SolverBudget;
 import maze.http.HttpService;
 import maze.model.Maze;
+import maze.model.MazeBatch;
+import maze.model.MazeBatchSolution;
+import maze.model.MazeGeneration;
+import maze.model.MazeImport;
+import maze.model.MazeProgress;
 import maze.model.User;
 import maze.model.UserToken;
 
@@ -45,6 +54,18 @@ public class RestService extends ResourceConfig {
         return _coreHandler;
     }
 
+    private boolean isWallFormat(String format) {
+
+        // Walls are listed by default for the clients which do not know the bitmap
+        return ((format == null) || Objects.equals("walls", format) || Objects.equals("bitmap", format));
+    }
+
+    private boolean isPathFormat(String format) {
+
+        // The path is listed cell by cell by default for the clients which do not know the moves
+        return ((format == null) || Objects.equals("path", format) || Objects.equals("moves", format));
+    }
+
     public String pathSpecification() {
 
         return "/*";
@@ -137,11 +158,97 @@ public class RestService extends ResourceConfig {
         });
     }
 
+    @POST
+    @Path("/maze/import")
+    @Consumes({ Setup.NDJSON_MEDIA_TYPE, Setup.JSON_MEDIA_TYPE })
+    @Produces(Setup.EVENT_STREAM_MEDIA_TYPE)
+    public void postMazeImport(@Context HttpServletRequest httpRequest,
+                               InputStream inputStream,
+                               @Context SseEventSink sseEventSink,
+                               @Context Sse sse) {
+
+        RestStream.run(sseEventSink, sse, (RestStream<MazeImport> restStream) -> {
+
+            Optional<UserToken> userTokenOptional;
+            UserToken userToken;
+            RestOutput<RestReader<Maze>> mazeReaderOutput;
+            RestReader<Maze> mazeReader;
+            RestOutput<MazeImport> mazeImportOutput;
+            MazeImport mazeImport;
+
+            // Search the UserToken from the Request
+            userTokenOptional = HttpService.searchUserToken(httpRequest);
+            if (userTokenOptional.isEmpty()) {
+                Api.error("UserToken is not defined to postMazeImport. FORBIDDEN");
+                return RestOutput.forbidden();
+            }
+            userToken = userTokenOptional.get();
+
+            // Read the mazes one after the other, as NDJSON or as a JSON array
+            mazeReaderOutput = RestReader.with(inputStream, Maze.class);
+            if (RestOutput.isNOK(mazeReaderOutput)) {
+                Api.error("Post Maze Import requires a JSON payload. BAD REQUEST", mazeReaderOutput);
+                return RestOutput.of(mazeReaderOutput);
+            }
+            mazeReader = mazeReaderOutput.output();
+
+            try {
+                // Stream the outcome of each maze once its batch is stored
+                mazeImportOutput = coreHandler().importMazes(userToken,
+                                                             mazeReader,
+                                                             (item) -> restStream.send(item, false));
+            } finally {
+                mazeReader.close();
+            }
+            if (RestOutput.isNOK(mazeImportOutput)) {
+                Api.error("importMazes is NOT OK", mazeImportOutput, this);
+                return RestOutput.of(mazeImportOutput);
+            }
+            mazeImport = mazeImportOutput.output();
+
+            if (mazeReader.isFailed()) {
+                mazeImport.setError("Payload is not well formed after the last maze read.");
+            }
+
+            // The outcome of the whole import closes the stream
+            restStream.send(mazeImport, true);
+
+            return RestOutput.OK;
+        });
+    }
+
+    @POST
+    @Path("/maze/generate")
+    @Consumes(Setup.JSON_MEDIA_TYPE)
+    @Produces(Setup.JSON_MEDIA_TYPE)
+    public void postMazeGeneration(@Context HttpServletRequest httpRequest,
+                                   MazeGeneration mazeGeneration,
+                                   @Suspended final AsyncResponse asyncResponse) {
+
+        RestCall.run(asyncResponse, (cookieReference) -> {
+
+            Optional<UserToken> userTokenOptional;
+            UserToken userToken;
+
+            // Search the UserToken from the Request
+            userTokenOptional = HttpService.searchUserToken(httpRequest);
+            if (userTokenOptional.isEmpty()) {
+                Api.error("UserToken is not defined to postMazeGeneration. FORBIDDEN", mazeGeneration);
+                return RestOutput.forbidden();
+            }
+            userToken = userTokenOptional.get();
+
+            // Generate valid mazes without adding them for this user
+            return coreHandler().generateMazes(userToken, mazeGeneration);
+        });
+    }
+
     @GET
     @Path("/maze/{mazeId}")
     @Produces(Setup.JSON_MEDIA_TYPE)
     public void getMaze(@Context HttpServletRequest httpRequest,
                         @PathParam("mazeId") Integer mazeId,
+                        @QueryParam("format") String format,
                         @Suspended final AsyncResponse asyncResponse) {
 
         RestCall.run(asyncResponse, (cookieReference) -> {
@@ -157,14 +264,21 @@ public class RestService extends ResourceConfig {
             }
             userToken = userTokenOptional.get();
 
-            return coreHandler().retrieveMaze(userToken, mazeId);
+            if (isWallFormat(format) == false) {
+                Api.error("Get Maze requires format parameter to be walls or bitmap. BAD REQUEST", format);
+                return RestOutput.badRequest();
+            }
+
+            return coreHandler().retrieveMaze(userToken, mazeId, Objects.equals("bitmap", format));
         });
     }
 
     @GET
     @Path("/maze")
     @Produces(Setup.JSON_MEDIA_TYPE)
-    public void getMazes(@Context HttpServletRequest httpRequest, @Suspended final AsyncResponse asyncResponse) {
+    public void getMazes(@Context HttpServletRequest httpRequest,
+                         @QueryParam("format") String format,
+                         @Suspended final AsyncResponse asyncResponse) {
 
         RestCall.run(asyncResponse, (cookieReference) -> {
 
@@ -179,7 +293,74 @@ public class RestService extends ResourceConfig {
             }
             userToken = userTokenOptional.get();
 
-            return coreHandler().retrieveMazes(userToken);
+            if (isWallFormat(format) == false) {
+                Api.error("Get Mazes requires format parameter to be walls or bitmap. BAD REQUEST", format);
+                return RestOutput.badRequest();
+            }
+
+            return coreHandler().retrieveMazes(userToken, Objects.equals("bitmap", format));
+        });
+    }
+
+    @GET
+    @Path("/maze/{mazeId}/distance")
+    @Produces(Setup.JSON_MEDIA_TYPE)
+    public void getMazeDistance(@Context HttpServletRequest httpRequest,
+                                @PathParam("mazeId") Integer mazeId,
+                                @QueryParam("cell") String cell,
+                                @Suspended final AsyncResponse asyncResponse) {
+
+        RestCall.runAsync(asyncResponse, (cookieReference) -> {
+
+            Optional<UserToken> userTokenOptional;
+            UserToken userToken;
+
+            // Search the UserToken from the Request
+            userTokenOptional = HttpService.searchUserToken(httpRequest);
+            if (userTokenOptional.isEmpty()) {
+                Api.error("UserToken is not defined to getMazeDistance. FORBIDDEN", mazeId);
+                return RestOutput.forbidden();
+            }
+            userToken = userTokenOptional.get();
+
+            if (cell == null) {
+                Api.error("Get Maze Distance requires cell parameter. BAD REQUEST", mazeId);
+                return RestOutput.badRequest();
+            }
+
+            // Steps from the cell to the exit
+            return coreHandler().retrieveDistance(userToken, mazeId, cell);
+        });
+    }
+
+    @GET
+    @Path("/maze/{mazeId}/hint")
+    @Produces(Setup.JSON_MEDIA_TYPE)
+    public void getMazeHint(@Context HttpServletRequest httpRequest,
+                            @PathParam("mazeId") Integer mazeId,
+                            @QueryParam("cell") String cell,
+                            @Suspended final AsyncResponse asyncResponse) {
+
+        RestCall.runAsync(asyncResponse, (cookieReference) -> {
+
+            Optional<UserToken> userTokenOptional;
+            UserToken userToken;
+
+            // Search the UserToken from the Request
+            userTokenOptional = HttpService.searchUserToken(httpRequest);
+            if (userTokenOptional.isEmpty()) {
+                Api.error("UserToken is not defined to getMazeHint. FORBIDDEN", mazeId);
+                return RestOutput.forbidden();
+            }
+            userToken = userTokenOptional.get();
+
+            if (cell == null) {
+                Api.error("Get Maze Hint requires cell parameter. BAD REQUEST", mazeId);
+                return RestOutput.badRequest();
+            }
+
+            // Next step from the cell on the shortest way to the exit
+            return coreHandler().retrieveHint(userToken, mazeId, cell);
         });
     }
 
@@ -189,12 +370,19 @@ public class RestService extends ResourceConfig {
     public void getMazeSolution(@Context HttpServletRequest httpRequest,
                                 @PathParam("mazeId") Integer mazeId,
                                 @QueryParam("steps") String steps,
+                                @QueryParam("iterations") Long iterations,
+                                @QueryParam("timeMs") Long timeMs,
+                                @QueryParam("cpuMs") Long cpuMs,
+                                @QueryParam("format") String format,
                                 @Suspended final AsyncResponse asyncResponse) {
 
-        RestCall.run(asyncResponse, (cookieReference) -> {
+        RestCall.runAsync(asyncResponse, (cookieReference) -> {
 
             Optional<UserToken> userTokenOptional;
             UserToken userToken;
+            RestOutput<SolverBudget> solverBudgetOutput;
+            SolverBudget solverBudget;
+            Boolean moves;
 
             // Search the UserToken from the Request
             userTokenOptional = HttpService.searchUserToken(httpRequest);
@@ -204,19 +392,161 @@ public class RestService extends ResourceConfig {
             }
             userToken = userTokenOptional.get();
 
+            // Solve within the budget, by default short of the REST call time out
+            solverBudgetOutput = SolverBudget.with(iterations, timeMs, cpuMs);
+            if (RestOutput.isNOK(solverBudgetOutput)) {
+                Api.error("Get Maze Solution requires positive iterations, timeMs and cpuMs parameters. BAD REQUEST");
+                return RestOutput.of(solverBudgetOutput);
+            }
+            solverBudget = solverBudgetOutput.output();
+
+            if (isPathFormat(format) == false) {
+                Api.error("Get Maze Solution requires format parameter to be path or moves. BAD REQUEST", format);
+                return RestOutput.badRequest();
+            }
+            moves = Objects.equals("moves", format);
+
             if (Objects.equals("min", steps)) {
                 // Return the Min Path for this Maze
-                return coreHandler().solveMinPath(userToken, mazeId);
+                return coreHandler().solveMinPath(userToken, mazeId, solverBudget, moves, RestCall.executor());
             }
             if (Objects.equals("max", steps)) {
                 // Return the Max Path for this Maze
-                return coreHandler().solveMaxPath(userToken, mazeId);
+                return coreHandler().solveMaxPath(userToken, mazeId, solverBudget, moves, RestCall.executor());
             }
             Api.error("Get Maze Solution requires steps parameter to be min or max. BAD REQUEST");
             return RestOutput.badRequest();
         });
     }
 
+    @POST
+    @Path("/maze/solutions")
+    @Consumes(Setup.JSON_MEDIA_TYPE)
+    @Produces(Setup.EVENT_STREAM_MEDIA_TYPE)
+    public void postMazeSolutions(@Context HttpServletRequest httpRequest,
+                                  MazeBatch mazeBatch,
+                                  @QueryParam("iterations") Long iterations,
+                                  @QueryParam("timeMs") Long timeMs,
+                                  @QueryParam("cpuMs") Long cpuMs,
+                                  @QueryParam("format") String format,
+                                  @Context SseEventSink sseEventSink,
+                                  @Context Sse sse) {
+
+        RestStream.run(sseEventSink, sse, (RestStream<MazeBatchSolution> restStream) -> {
+
+            Optional<UserToken> userTokenOptional;
+            UserToken userToken;
+            RestOutput<SolverBudget> solverBudgetOutput;
+            SolverBudget solverBudget;
+
+            // Search the UserToken from the Request
+            userTokenOptional = HttpService.searchUserToken(httpRequest);
+            if (userTokenOptional.isEmpty()) {
+                Api.error("UserToken is not defined to postMazeSolutions. FORBIDDEN", mazeBatch);
+                return RestOutput.forbidden();
+            }
+            userToken = userTokenOptional.get();
+
+            // Solve each maze within the budget, by default short of the REST call time out
+            solverBudgetOutput = SolverBudget.with(iterations, timeMs, cpuMs);
+            if (RestOutput.isNOK(solverBudgetOutput)) {
+                Api.error("Post Maze Solutions requires positive iterations, timeMs and cpuMs parameters. BAD REQUEST");
+                return RestOutput.of(solverBudgetOutput);
+            }
+            solverBudget = solverBudgetOutput.output();
+
+            if (isPathFormat(format) == false) {
+                Api.error("Post Maze Solutions requires format parameter to be path or moves. BAD REQUEST", format);
+                return RestOutput.badRequest();
+            }
+
+            // Stream the solution of each maze as soon as it is available, the last one closing the stream
+            return coreHandler().solveMazes(userToken,
+                                            mazeBatch,
+                                            solverBudget,
+                                            Objects.equals("moves", format),
+                                            (solution) -> restStream.send(solution, solution.getRemaining() == 0),
+                                            RestStream.executor());
+        });
+    }
+
+    @GET
+    @Path("/solver/metrics")
+    @Produces(Setup.JSON_MEDIA_TYPE)
+    public void getSolverMetrics(@Context HttpServletRequest httpRequest, @Suspended final AsyncResponse asyncResponse) {
+
+        RestCall.run(asyncResponse, (cookieReference) -> {
+
+            Optional<UserToken> userTokenOptional;
+            UserToken userToken;
+
+            // Search the UserToken from the Request
+            userTokenOptional = HttpService.searchUserToken(httpRequest);
+            if (userTokenOptional.isEmpty()) {
+                Api.error("UserToken is not defined to getSolverMetrics. FORBIDDEN");
+                return RestOutput.forbidden();
+            }
+            userToken = userTokenOptional.get();
+
+            // Return the queue depth and wait time of the solver threads
+            return coreHandler().solverMetrics(userToken);
+        });
+    }
+
+    @GET
+    @Path("/maze/{mazeId}/solution/stream")
+    @Produces(Setup.EVENT_STREAM_MEDIA_TYPE)
+    public void streamMazeSolution(@Context HttpServletRequest httpRequest,
+                                   @PathParam("mazeId") Integer mazeId,
+                                   @QueryParam("steps") String steps,
+                                   @QueryParam("iterations") Long iterations,
+                                   @QueryParam("timeMs") Long timeMs,
+                                   @QueryParam("cpuMs") Long cpuMs,
+                                   @Context SseEventSink sseEventSink,
+                                   @Context Sse sse) {
+
+        RestStream.run(sseEventSink, sse, (RestStream<MazeProgress> restStream) -> {
+
+            Optional<UserToken> userTokenOptional;
+            UserToken userToken;
+            RestOutput<SolverBudget> solverBudgetOutput;
+            SolverBudget solverBudget;
+
+            // Search the UserToken from the Request
+            userTokenOptional = HttpService.searchUserToken(httpRequest);
+            if (userTokenOptional.isEmpty()) {
+                Api.error("UserToken is not defined to streamMazeSolution. FORBIDDEN");
+                return RestOutput.forbidden();
+            }
+            userToken = userTokenOptional.get();
+
+            // Solve within the budget, by default short of the REST call time out
+            solverBudgetOutput = SolverBudget.with(iterations, timeMs, cpuMs);
+            if (RestOutput.isNOK(solverBudgetOutput)) {
+                Api.error("Stream Maze Solution requires positive iterations, timeMs and cpuMs parameters. BAD REQUEST");
+                return RestOutput.of(solverBudgetOutput);
+            }
+            solverBudget = solverBudgetOutput.output();
+
+            if (Objects.equals("min", steps)) {
+                // Stream the Min Path for this Maze
+                return coreHandler().watchMinPath(userToken,
+                                                  mazeId,
+                                                  solverBudget,
+                                                  (mazeProgress) -> restStream.send(mazeProgress, mazeProgress.getDone()));
+            }
+            if (Objects.equals("max", steps)) {
+                // Stream the progress of the Max Path for this Maze up to its solution
+                return coreHandler().watchMaxPath(userToken,
+                                                  mazeId,
+                                                  solverBudget,
+                                                  (mazeProgress) -> restStream.send(mazeProgress, mazeProgress.getDone()));
+            }
+            Api.error("Stream Maze Solution requires steps parameter to be min or max. BAD REQUEST");
+            return RestOutput.badRequest();
+        });
+    }
+
     @Override
     public String toString() {
         return "RestService [_coreHandler=" + _coreHandler + "]";
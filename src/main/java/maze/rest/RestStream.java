@@ -0,0 +1,134 @@
+package maze.rest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+
+import maze.base.Api;
+import maze.base.RestOutput;
+import maze.base.Result;
+
+public class RestStream<T> {
+
+    private static final ExecutorService                      Executor      = Api.executorService("stream");
+
+    // Event sent instead of an http status once the stream is open
+    private static final String                               FAILURE_EVENT = "failure";
+
+    private final SseEventSink                                _sseEventSink;
+    private final Sse                                         _sse;
+    private final Function<RestStream<T>, RestOutput<Result>> _method;
+
+    private RestStream(SseEventSink sseEventSink, Sse sse, Function<RestStream<T>, RestOutput<Result>> method) {
+
+        _sseEventSink = sseEventSink;
+        _sse = sse;
+        _method = method;
+    }
+
+    private SseEventSink sseEventSink() {
+
+        return _sseEventSink;
+    }
+
+    private Sse sse() {
+
+        return _sse;
+    }
+
+    private Function<RestStream<T>, RestOutput<Result>> method() {
+
+        return _method;
+    }
+
+    private synchronized void close() {
+
+        try {
+            sseEventSink().close();
+        } catch (Throwable t) {
+            Api.error(t, "RestStream close failed", this);
+        }
+    }
+
+    public synchronized boolean send(T output, boolean last) {
+
+        if (sseEventSink().isClosed()) {
+            // The client went away
+            return false;
+        }
+
+        try {
+            // Send the output as a JSON payload
+            sseEventSink().send(sse().newEvent(RestCall.jsonText(output))).whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    Api.error(throwable, "RestStream send failed", this);
+                    close();
+                }
+            });
+
+        } catch (Throwable t) {
+            Api.error(t, "RestStream send failed", this);
+            close();
+            return false;
+        }
+
+        if (last) {
+            close();
+            return false;
+        }
+        return true;
+    }
+
+    protected void execute() {
+
+        RestOutput<Result> restOutput;
+
+        try {
+
+            // Process the rest method, which keeps the stream to send its outputs
+            restOutput = method().apply(this);
+
+            if (RestOutput.isNOK(restOutput)) {
+                Api.error("RestStream is NOT OK", restOutput, this);
+                sseEventSink().send(sse().newEvent(FAILURE_EVENT, restOutput.restCode().toString()));
+                close();
+            }
+
+        } catch (Throwable t) {
+            Api.error(t, "RestStream execute failed. INTERNAL FAILURE", this);
+            close();
+        }
+    }
+
+    protected void run() {
+
+        CompletableFuture.runAsync(this::execute, Executor);
+    }
+
+    @Override
+    public String toString() {
+        return "RestStream [_sseEventSink=" + _sseEventSink + ", _method=" + _method + "]";
+    }
+
+    protected static Executor executor() {
+
+        return Executor;
+    }
+
+    public static <T> void run(SseEventSink sseEventSink, Sse sse, Function<RestStream<T>, RestOutput<Result>> method) {
+
+        RestStream<T> restStream;
+
+        if (Api.isNull(sseEventSink, sse, method)) {
+            return;
+        }
+
+        restStream = new RestStream<T>(sseEventSink, sse, method);
+
+        restStream.run();
+    }
+}
@@ -60,6 +60,11 @@ public abstract class Collection<T_Record> {
         return entryId + " text NOT NULL";
     }
 
+    protected String defaultTextEntry(String entryId) {
+
+        return entryId + " text NOT NULL DEFAULT ''";
+    }
+
     protected String primaryKeyEntry(String... entryArray) {
 
         return "PRIMARY KEY (" + joinComma(entryArray) + ")";
@@ -144,6 +149,35 @@ public abstract class Collection<T_Record> {
         return createTable(entryArray);
     }
 
+    protected RestOutput<Result> addColumns(String... entryArray) {
+
+        String updateSQL;
+
+        if (Api.isNullArray(entryArray)) {
+            return RestOutput.badRequest();
+        }
+
+        updateSQL = join("ALTER TABLE ",
+                         name(),
+                         " ",
+                         joinComma(Stream.of(entryArray)
+                                         .map(entry -> "ADD COLUMN IF NOT EXISTS " + entry)
+                                         .toArray(String[]::new)),
+                         ";");
+
+        try (Connection connection = connection()) {
+            try (Statement statement = connection.createStatement()) {
+
+                statement.executeUpdate(updateSQL);
+
+                return RestOutput.OK;
+            }
+        } catch (Throwable t) {
+            Api.error(t, "Failure to addColumns. INTERNAL FAILURE", updateSQL, this);
+            return RestOutput.internalFailure();
+        }
+    }
+
     protected RestOutput<Result> storeRecord(T_Record record) {
 
         String[] valueArray;
@@ -183,6 +217,101 @@ public abstract class Collection<T_Record> {
         }
     }
 
+    protected RestOutput<Result> storeRecords(List<T_Record> recordList) {
+
+        String[] rowArray;
+        String[] valueArray;
+        String updateSQL;
+
+        if (Api.isNull(recordList) || recordList.isEmpty()) {
+            return RestOutput.badRequest();
+        }
+
+        // One row of single quoted text values per record
+        rowArray = new String[recordList.size()];
+        for (int i = 0; i < rowArray.length; i++) {
+
+            valueArray = from(recordList.get(i));
+            if (valueArray == null) {
+                Api.error("storeRecords failed. INTERNAL FAILURE", recordList.get(i), this);
+                return RestOutput.internalFailure();
+            }
+            valueArray = Stream.of(valueArray).map(value -> "'" + value + "'").toArray(String[]::new);
+
+            rowArray[i] = join("(", joinComma(valueArray), ")");
+        }
+
+        // A single multi-row INSERT on a single connection, all the records or none of them
+        updateSQL = join("INSERT INTO ",
+                         name(),
+                         "(",
+                         joinComma(fieldArray()),
+                         ") VALUES ",
+                         joinComma(rowArray),
+                         ";");
+
+        try (Connection connection = connection()) {
+            try (Statement statement = connection.createStatement()) {
+
+                statement.executeUpdate(updateSQL);
+
+                return RestOutput.OK;
+            }
+        } catch (Throwable t) {
+            Api.error(t, "Failure to storeRecords. INTERNAL FAILURE", recordList.size(), this);
+            return RestOutput.internalFailure();
+        }
+    }
+
+    protected RestOutput<Result> updateRecord(String[] keyArray,
+                                              String[] keyValueArray,
+                                              String[] fieldArray,
+                                              String[] valueArray) {
+
+        String[] assignmentArray;
+        String[] conditionArray;
+        String updateSQL;
+
+        if (Api.isNull(keyArray, keyValueArray, fieldArray, valueArray)
+            || (keyArray.length != keyValueArray.length)
+            || (fieldArray.length != valueArray.length)) {
+            return RestOutput.badRequest();
+        }
+
+        // Add single quote for each text value
+        assignmentArray = new String[fieldArray.length];
+        for (int i = 0; i < fieldArray.length; i++) {
+            assignmentArray[i] = fieldArray[i] + "='" + valueArray[i] + "'";
+        }
+        conditionArray = new String[keyArray.length];
+        for (int i = 0; i < keyArray.length; i++) {
+            conditionArray[i] = keyArray[i] + "='" + keyValueArray[i] + "'";
+        }
+
+        updateSQL = join("UPDATE ",
+                         name(),
+                         " SET ",
+                         joinComma(assignmentArray),
+                         " WHERE ",
+                         String.join(" AND ", conditionArray),
+                         ";");
+
+        try (Connection connection = connection()) {
+            try (Statement statement = connection.createStatement()) {
+
+                if (statement.executeUpdate(updateSQL) == 0) {
+                    Api.error("updateRecord found no record. NOT FOUND", updateSQL, this);
+                    return RestOutput.notFound();
+                }
+
+                return RestOutput.OK;
+            }
+        } catch (Throwable t) {
+            Api.error(t, "Failure to updateRecord. INTERNAL FAILURE", updateSQL, this);
+            return RestOutput.internalFailure();
+        }
+    }
+
     protected RestOutput<List<T_Record>> loadRecords() {
 
         List<T_Record> recordList;
@@ -199,6 +199,21 @@ public class StoreService {
         return mazeCollection().storeMazeRecord(mazeRecord);
     }
 
+    public RestOutput<Result> storeMazeRecords(List<MazeRecord> mazeRecordList) {
+
+        return mazeCollection().storeMazeRecords(mazeRecordList);
+    }
+
+    public RestOutput<Result> storeMazePaths(MazeRecord mazeRecord) {
+
+        return mazeCollection().storeMazePaths(mazeRecord);
+    }
+
+    public RestOutput<Result> storeMazeWalls(MazeRecord mazeRecord) {
+
+        return mazeCollection().storeMazeWalls(mazeRecord);
+    }
+
     public RestOutput<List<MazeRecord>> loadMazeRecords() {
 
         return mazeCollection().loadMazeRecords();
@@ -12,20 +12,42 @@ import maze.store.StoreService;
 
 public class MazeCollection extends Collection<MazeRecord> {
 
-    private static final String   COLLECTION   = "maze_collection";
-
-    private static final String   UserId       = "user_id";
-    private static final String   MazeId       = "maze_id";
-    private static final String   MazeEntrance = "maze_entrance";
-    private static final String   MazeGridSize = "maze_grid_size";
-    private static final String   MazeWalls    = "maze_walls";
-
-    private static final String[] FieldArray   = new String[] { UserId, MazeId, MazeEntrance, MazeGridSize, MazeWalls };
+    private static final String   COLLECTION     = "maze_collection";
+
+    private static final String   UserId         = "user_id";
+    private static final String   MazeId         = "maze_id";
+    private static final String   MazeEntrance   = "maze_entrance";
+    private static final String   MazeGridSize   = "maze_grid_size";
+    private static final String   MazeWalls      = "maze_walls";
+    private static final String   MazeMinStatus  = "maze_min_status";
+    private static final String   MazeMinPath    = "maze_min_path";
+    private static final String   MazeMaxStatus  = "maze_max_status";
+    private static final String   MazeMaxPath    = "maze_max_path";
+    private static final String   MazeWallBitmap = "maze_wall_bitmap";
+
+    private static final String[] FieldArray     = new String[] { UserId,
+                                                                  MazeId,
+                                                                  MazeEntrance,
+                                                                  MazeGridSize,
+                                                                  MazeWalls,
+                                                                  MazeMinStatus,
+                                                                  MazeMinPath,
+                                                                  MazeMaxStatus,
+                                                                  MazeMaxPath,
+                                                                  MazeWallBitmap };
 
     public MazeCollection(StoreService storeService) {
         super(COLLECTION, FieldArray, storeService);
     }
 
+    private String[] split(String text) {
+
+        if (text.isBlank()) {
+            return new String[0];
+        }
+        return text.split(",");
+    }
+
     @Override
     protected MazeRecord to(ResultSet resultSet) throws SQLException {
 
@@ -33,8 +55,12 @@ public class MazeCollection extends Collection<MazeRecord> {
         int mazeId;
         String entrance;
         String gridSize;
-        String wallsText;
         String[] walls;
+        String wallBitmap;
+        String minStatus;
+        String[] minPath;
+        String maxStatus;
+        String[] maxPath;
 
         if (Api.isNull(resultSet)) {
             return null;
@@ -44,15 +70,25 @@ public class MazeCollection extends Collection<MazeRecord> {
         mazeId = resultSet.getInt(2);
         entrance = resultSet.getString(3);
         gridSize = resultSet.getString(4);
-
-        wallsText = resultSet.getString(5);
-        if (wallsText.isBlank()) {
-            walls = new String[0];
-        } else {
-            walls = wallsText.split(",");
-        }
-
-        return new MazeRecord(userId, mazeId, entrance, gridSize, walls);
+        walls = split(resultSet.getString(5));
+
+        minStatus = resultSet.getString(6);
+        minPath = split(resultSet.getString(7));
+        maxStatus = resultSet.getString(8);
+        maxPath = split(resultSet.getString(9));
+
+        wallBitmap = resultSet.getString(10);
+
+        return new MazeRecord(userId,
+                              mazeId,
+                              entrance,
+                              gridSize,
+                              walls,
+                              wallBitmap,
+                              minStatus,
+                              minPath,
+                              maxStatus,
+                              maxPath);
     }
 
     @Override
@@ -66,17 +102,40 @@ public class MazeCollection extends Collection<MazeRecord> {
                               mazeRecord.mazeId().toString(),
                               mazeRecord.entrance(),
                               mazeRecord.gridSize(),
-                              mazeRecord.wallsText() };
+                              mazeRecord.wallsText(),
+                              mazeRecord.minStatus(),
+                              mazeRecord.minPathText(),
+                              mazeRecord.maxStatus(),
+                              mazeRecord.maxPathText(),
+                              mazeRecord.wallBitmap() };
     }
 
     public RestOutput<Result> initCollection() {
 
-        return init(textEntry(UserId),
-                    textEntry(MazeId),
-                    textEntry(MazeEntrance),
-                    textEntry(MazeGridSize),
-                    textEntry(MazeWalls),
-                    primaryKeyEntry(UserId, MazeId));
+        RestOutput<Result> resultOutput;
+
+        resultOutput = init(textEntry(UserId),
+                            textEntry(MazeId),
+                            textEntry(MazeEntrance),
+                            textEntry(MazeGridSize),
+                            textEntry(MazeWalls),
+                            defaultTextEntry(MazeMinStatus),
+                            defaultTextEntry(MazeMinPath),
+                            defaultTextEntry(MazeMaxStatus),
+                            defaultTextEntry(MazeMaxPath),
+                            defaultTextEntry(MazeWallBitmap),
+                            primaryKeyEntry(UserId, MazeId));
+        if (RestOutput.isNOK(resultOutput)) {
+            Api.error("init to initCollection is NOT OK", resultOutput, this);
+            return RestOutput.of(resultOutput);
+        }
+
+        // Mazes stored before the paths were kept start unsolved. Their list of walls becomes a bitmap on restart.
+        return addColumns(defaultTextEntry(MazeMinStatus),
+                          defaultTextEntry(MazeMinPath),
+                          defaultTextEntry(MazeMaxStatus),
+                          defaultTextEntry(MazeMaxPath),
+                          defaultTextEntry(MazeWallBitmap));
     }
 
     public RestOutput<Result> storeMazeRecord(MazeRecord mazeRecord) {
@@ -84,6 +143,38 @@ public class MazeCollection extends Collection<MazeRecord> {
         return storeRecord(mazeRecord);
     }
 
+    public RestOutput<Result> storeMazeRecords(List<MazeRecord> mazeRecordList) {
+
+        return storeRecords(mazeRecordList);
+    }
+
+    public RestOutput<Result> storeMazePaths(MazeRecord mazeRecord) {
+
+        if (Api.isNull(mazeRecord)) {
+            return RestOutput.badRequest();
+        }
+
+        return updateRecord(new String[] { UserId, MazeId },
+                            new String[] { mazeRecord.userId(), mazeRecord.mazeId().toString() },
+                            new String[] { MazeMinStatus, MazeMinPath, MazeMaxStatus, MazeMaxPath },
+                            new String[] { mazeRecord.minStatus(),
+                                           mazeRecord.minPathText(),
+                                           mazeRecord.maxStatus(),
+                                           mazeRecord.maxPathText() });
+    }
+
+    public RestOutput<Result> storeMazeWalls(MazeRecord mazeRecord) {
+
+        if (Api.isNull(mazeRecord)) {
+            return RestOutput.badRequest();
+        }
+
+        return updateRecord(new String[] { UserId, MazeId },
+                            new String[] { mazeRecord.userId(), mazeRecord.mazeId().toString() },
+                            new String[] { MazeWalls, MazeWallBitmap },
+                            new String[] { mazeRecord.wallsText(), mazeRecord.wallBitmap() });
+    }
+
     public RestOutput<List<MazeRecord>> loadMazeRecords() {
 
         return loadRecords();
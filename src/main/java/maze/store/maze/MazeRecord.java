@@ -2,19 +2,49 @@ package maze.store.maze;
 
 public class MazeRecord {
 
-    private final String   _userId;
-    private final Integer  _mazeId;
-    private final String   _entrance;
-    private final String   _gridSize;
-    private final String[] _walls;
+    // Status of a path solved for a maze
+    public static final String PATH_UNSOLVED  = "";
+    public static final String PATH_FOUND     = "found";
+    public static final String PATH_NONE      = "no_path";
+    public static final String PATH_MULTIPLE  = "multiple_paths";
 
-    public MazeRecord(String userId, Integer mazeId, String entrance, String gridSize, String[] walls) {
+    private final String       _userId;
+    private final Integer      _mazeId;
+    private final String       _entrance;
+    private final String       _gridSize;
+    private final String[]     _walls;
+
+    // Canonical form of the walls. Mazes stored before it only have the list of walls.
+    private final String       _wallBitmap;
+
+    // Proven paths only, so that a restart never has to solve them again
+    private final String       _minStatus;
+    private final String[]     _minPath;
+    private final String       _maxStatus;
+    private final String[]     _maxPath;
+
+    public MazeRecord(String userId,
+                      Integer mazeId,
+                      String entrance,
+                      String gridSize,
+                      String[] walls,
+                      String wallBitmap,
+                      String minStatus,
+                      String[] minPath,
+                      String maxStatus,
+                      String[] maxPath) {
 
         _userId = userId;
         _mazeId = mazeId;
         _entrance = entrance;
         _gridSize = gridSize;
         _walls = walls;
+        _wallBitmap = wallBitmap;
+
+        _minStatus = minStatus;
+        _minPath = minPath;
+        _maxStatus = maxStatus;
+        _maxPath = maxPath;
     }
 
     public String userId() {
@@ -42,6 +72,36 @@ public class MazeRecord {
         return String.join(",", walls());
     }
 
+    public String wallBitmap() {
+        return _wallBitmap;
+    }
+
+    public String minStatus() {
+        return _minStatus;
+    }
+
+    public String[] minPath() {
+        return _minPath;
+    }
+
+    public String minPathText() {
+
+        return String.join(",", minPath());
+    }
+
+    public String maxStatus() {
+        return _maxStatus;
+    }
+
+    public String[] maxPath() {
+        return _maxPath;
+    }
+
+    public String maxPathText() {
+
+        return String.join(",", maxPath());
+    }
+
     @Override
     public String toString() {
         return "MazeRecord [_userId=" + _userId
@@ -53,6 +113,12 @@ public class MazeRecord {
                + _gridSize
                + ", _walls="
                + _walls
+               + ", _wallBitmapLength="
+               + ((_wallBitmap == null) ? null : _wallBitmap.length())
+               + ", _minStatus="
+               + _minStatus
+               + ", _maxStatus="
+               + _maxStatus
                + "]";
     }
 }
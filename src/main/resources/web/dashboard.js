@@ -81,7 +81,15 @@ function computePathSet(path) {
 
 function nameGridPoint(col, row) {
 
-    return String.fromCharCode(64 + col) + row;
+    var name = "";
+
+    // Columns go from A to Z, then AA to ZZ, then AAA and so on
+    while (col > 0) {
+        col--;
+        name = String.fromCharCode(65 + (col % 26)) + name;
+        col = Math.floor(col / 26);
+    }
+    return name + row;
 }
 
 function typeGridPoint(name, maze, pathSet) {
@@ -468,40 +476,50 @@ function solveMaxPath(maze) {
     maze.minPathSet = null;
     maze.maxPathSet = null;
 
-    var path = "/maze/" + maze.mazeId + "/solution?steps=max";
+    var path = "/maze/" + maze.mazeId + "/solution/stream?steps=max";
 
-    var xhr = new XMLHttpRequest();
-    xhr.open("GET", path, true);
-    xhr.setRequestHeader('Accept', 'application/json');
-    xhr.setRequestHeader("User-Token", loadUserToken());
+    // Display each longer path while the solver is running
+    var eventSource = new EventSource(path);
 
-    xhr.onreadystatechange = function() {
-        if (xhr.readyState == 4) {
-            if (xhr.status == 200) {
-                var mazeSolution = JSON.parse(xhr.responseText);
+    eventSource.onmessage = function(event) {
 
-                if (mazeSolution.error != null) {
-                    alert("Solving maze failed :\n\n" + mazeSolution.error);
-                    return;
-                }
+        var mazeProgress = JSON.parse(event.data);
 
-                // Build the Path Set from the solution
-                var pathSet = buildPathSet(mazeSolution);
-                if (pathSet == null) {
-                    alert("Path solution is not defined");
-                    return;
-                }
-                maze.maxPathSet = pathSet;
+        if (mazeProgress.done == true) {
+            // Stop the browser from opening the stream again
+            eventSource.close();
 
-                // Refresh the display of this maze
-                refreshMaze(maze);
-            } else {
-                alert("Failure to solve max path for maze. Error = " + xhr.status);
+            if (mazeProgress.error != null) {
+                alert("Solving maze failed :\n\n" + mazeProgress.error);
+                return;
             }
         }
+
+        // Build the Path Set from the progress
+        var pathSet = buildPathSet(mazeProgress);
+        if (pathSet == null) {
+            return;
+        }
+        maze.maxPathSet = pathSet;
+
+        // Refresh the display of this maze
+        refreshMaze(maze);
+
+        if ((mazeProgress.done == true) && (mazeProgress.optimal == false)) {
+            alert("Max path is the longest found within the solver budget.");
+        }
     };
 
-    xhr.send();
+    eventSource.addEventListener("failure", function(event) {
+        eventSource.close();
+        alert("Failure to solve max path for maze. Error = " + event.data);
+    });
+
+    eventSource.onerror = function() {
+        if (eventSource.readyState == EventSource.CLOSED) {
+            alert("Failure to solve max path for maze.");
+        }
+    };
 }
 
 function displayMaze(maze, mazeTableBody) {
@@ -6,6 +6,8 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
@@ -19,6 +21,9 @@ import org.glassfish.jersey.test.JerseyTest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import maze.base.Api;
 import maze.base.RestOutput;
 import maze.base.Result;
@@ -26,6 +31,7 @@ import maze.handler.core.CoreHandler;
 import maze.http.HttpCode;
 import maze.model.Maze;
 import maze.model.MazeCreation;
+import maze.model.MazeImport;
 import maze.model.MazeSolution;
 import maze.model.User;
 import maze.model.UserToken;
@@ -231,6 +237,7 @@ public class RestServiceTest extends JerseyTest {
         assertArrayEquals("MazeSolution should include this solution path",
                           mazeSolution.getPath(),
                           new String[] { "E1", "D1", "C1", "C2", "C3", "C4", "C5" });
+        assertEquals("MazeSolution should be optimal", Boolean.TRUE, mazeSolution.getOptimal());
         assertNull("MazeSolution should not include any error", mazeSolution.getError());
     }
 
@@ -310,4 +317,90 @@ public class RestServiceTest extends JerseyTest {
                      "Maze has multiple paths to exit for Max Path.",
                      mazeSolution.getError());
     }
+
+    @Test
+    public void createValidUser_thenImportMazes_withPartialFailure() {
+
+        String userId;
+        User user;
+        UserToken userToken;
+        Maze maze;
+        Maze mazeWithoutWalls;
+        Maze mazeWithId;
+        ObjectMapper objectMapper;
+        String payload;
+        List<MazeImport> mazeImportList;
+
+        userId = generateValidUsername();
+        user = new User(userId, "aQTT$d3mn");
+
+        // Post this User
+        Response response1 = target("/user").request(MediaType.APPLICATION_JSON_TYPE)
+                                            .post(Entity.entity(user, MediaType.APPLICATION_JSON_TYPE));
+
+        assertEquals("Http Response should be 200-OK", HttpCode.OK_200, response1.getStatus());
+
+        userToken = response1.readEntity(UserToken.class);
+        assertTrue("User Token should be returned", (userToken.getToken() != null));
+
+        maze = new Maze(null, "A2", "6x4", new String[] { "A1", "E1", "C2", "C3", "F3", "A4", "B4", "C4", "D4", "F4" });
+        mazeWithoutWalls = new Maze(null, "A2", "6x4", null);
+        mazeWithId = new Maze(1000, "E1", "5x5", new String[] { "B2", "D2", "E2", "B3", "E4", "A5", "B5", "D5", "E5" });
+
+        // A valid maze, a maze without walls, a maze with its own id, the same id again and an item which is not a maze
+        objectMapper = new ObjectMapper();
+        try {
+            payload = String.join("\n",
+                                  objectMapper.writeValueAsString(maze),
+                                  objectMapper.writeValueAsString(mazeWithoutWalls),
+                                  objectMapper.writeValueAsString(mazeWithId),
+                                  objectMapper.writeValueAsString(mazeWithId),
+                                  "42");
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Maze is not written as JSON", e);
+        }
+
+        // Post these Mazes as NDJSON
+        Response response2 = target("/maze/import").request(Setup.EVENT_STREAM_MEDIA_TYPE)
+                                                   .cookie(Setup.USER_TOKEN, userToken.toText())
+                                                   .post(Entity.entity(payload, Setup.NDJSON_MEDIA_TYPE));
+
+        assertEquals("Http Response should be 200-OK", HttpCode.OK_200, response2.getStatus());
+
+        // One event per maze, then the outcome of the whole import
+        mazeImportList = new ArrayList<MazeImport>();
+        for (String line : response2.readEntity(String.class).split("\n")) {
+            if (line.startsWith("data:")) {
+                try {
+                    mazeImportList.add(objectMapper.readValue(line.substring(5).trim(), MazeImport.class));
+                } catch (JsonProcessingException e) {
+                    throw new RuntimeException("MazeImport event is not well formed", e);
+                }
+            }
+        }
+
+        assertEquals("MazeImport should be sent for each maze and the import", 6, mazeImportList.size());
+
+        assertNull("Valid maze should be imported", mazeImportList.get(0).getError());
+        assertTrue("Valid maze should have a maze Id", (mazeImportList.get(0).getMazeId() >= 1));
+        assertTrue("Maze without walls should be rejected", (mazeImportList.get(1).getError() != null));
+        assertEquals("Maze with its own id should be imported",
+                     Integer.valueOf(1000),
+                     mazeImportList.get(2).getMazeId());
+        assertEquals("Maze with the same id should not be stored",
+                     "Imported maze could not be stored.",
+                     mazeImportList.get(3).getError());
+        assertTrue("Item which is not a maze should be rejected", (mazeImportList.get(4).getError() != null));
+
+        assertEquals("Import should be done", Boolean.TRUE, mazeImportList.get(5).getDone());
+        assertEquals("Import should accept 2 mazes", Integer.valueOf(2), mazeImportList.get(5).getAccepted());
+        assertEquals("Import should reject 3 mazes", Integer.valueOf(3), mazeImportList.get(5).getRejected());
+
+        // Only the stored mazes are added
+        Response response3 = target("/maze/1000").request(MediaType.APPLICATION_JSON_TYPE)
+                                                 .cookie(Setup.USER_TOKEN, userToken.toText())
+                                                 .get();
+
+        assertEquals("Http Response should be 200-OK", HttpCode.OK_200, response3.getStatus());
+    }
 }
@@ -0,0 +1,114 @@
+package maze.handler.maze;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class BreadthFirstSolverTest {
+
+    private MazeGrid randomGrid(Random random, int colMax, int rowMax, MazePoint entrance, MazePoint exit) {
+
+        MazeGrid grid;
+        double density;
+
+        grid = MazeGrid.with(colMax, rowMax);
+        density = 0.2 + random.nextDouble() * 0.3;
+
+        for (int row = 1; row <= rowMax; row++) {
+            for (int col = 1; col <= colMax; col++) {
+                if (random.nextDouble() < density) {
+                    grid.setWall(col, row);
+                }
+            }
+        }
+        grid.clearWall(entrance.col(), entrance.row());
+        grid.clearWall(exit.col(), exit.row());
+
+        return grid;
+    }
+
+    @Test
+    public void solveLikeMinMazeSolver() {
+
+        Random random;
+        int colMax;
+        int rowMax;
+        MazePoint entrance;
+        MazePoint exit;
+        MazeGrid grid;
+        MazePath expectedPath;
+        MazePath mazePath;
+
+        random = new Random(3L);
+
+        for (int i = 0; i < 2000; i++) {
+
+            colMax = 2 + random.nextInt(7);
+            rowMax = 2 + random.nextInt(7);
+            entrance = new MazePoint(1, 1 + random.nextInt(rowMax));
+            exit = new MazePoint(1 + random.nextInt(colMax), rowMax);
+            if (entrance.equals(exit)) {
+                continue;
+            }
+            grid = randomGrid(random, colMax, rowMax, entrance, exit);
+
+            // The backtracking solver marks its cells on a grid of its own
+            expectedPath = new MinMazeSolver(entrance, exit, grid.copy()).solve();
+            mazePath = new BreadthFirstSolver(entrance, exit, grid).solve();
+
+            if (expectedPath.isNoPath() || expectedPath.isMultiplePaths()) {
+                assertSame("Grid " + i, expectedPath, mazePath);
+                continue;
+            }
+            assertEquals("Grid " + i, expectedPath.toText(), mazePath.toText());
+        }
+    }
+
+    @Test
+    public void solveSinglePath() {
+
+        MazeGrid grid;
+        MazePath mazePath;
+
+        // A1 B1 C1
+        // A2 ## C2
+        // ## ## C3
+        grid = MazeGrid.with(3, 3);
+        grid.setWall(2, 2);
+        grid.setWall(1, 3);
+        grid.setWall(2, 3);
+
+        mazePath = new BreadthFirstSolver(new MazePoint(1, 2), new MazePoint(3, 3), grid).solve();
+
+        assertEquals("A2,A1,B1,C1,C2,C3", mazePath.toText());
+    }
+
+    @Test
+    public void solveWithoutPath() {
+
+        MazeGrid grid;
+
+        grid = MazeGrid.with(3, 3);
+        grid.setWall(1, 2);
+        grid.setWall(2, 2);
+        grid.setWall(3, 2);
+
+        assertSame(MazePath.NO_PATH, new BreadthFirstSolver(new MazePoint(1, 1), new MazePoint(2, 3), grid).solve());
+    }
+
+    @Test
+    public void solveWithMultipleShortestPaths() {
+
+        MazeGrid grid;
+
+        // Both ways around the wall in B2 are as short
+        grid = MazeGrid.with(3, 3);
+        grid.setWall(2, 2);
+
+        assertSame(MazePath.MULTIPLE_PATHS,
+                   new BreadthFirstSolver(new MazePoint(2, 1), new MazePoint(2, 3), grid).solve());
+    }
+}
@@ -0,0 +1,127 @@
+package maze.handler.maze;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class DistanceFieldCacheTest {
+
+    private MazeGrid grid(int colMax, int rowMax) {
+
+        MazeGrid grid;
+
+        // Single column open from the entrance at A1 down to the exit
+        grid = MazeGrid.with(colMax, rowMax);
+        for (int row = 1; row < rowMax; row++) {
+            for (int col = 2; col <= colMax; col++) {
+                grid.setWall(col, row);
+            }
+        }
+        return grid;
+    }
+
+    @Test
+    public void computeOnceForIdenticalMazes() {
+
+        DistanceFieldCache distanceFieldCache;
+        AtomicInteger computeCount;
+        MazeGrid grid;
+        CompletableFuture<DistanceField> future;
+
+        distanceFieldCache = new DistanceFieldCache("test", 1000L);
+        computeCount = new AtomicInteger(0);
+        grid = grid(3, 3);
+
+        future = distanceFieldCache.distanceFieldAsync(new MazeKey(new MazePoint(1, 1), grid), () -> {
+            computeCount.incrementAndGet();
+            return DistanceField.with(new MazePoint(1, 3), grid);
+        }, Runnable::run);
+
+        // An identical maze shares the same distance field
+        assertSame(future, distanceFieldCache.distanceFieldAsync(new MazeKey(new MazePoint(1, 1), grid(3, 3)), () -> {
+            computeCount.incrementAndGet();
+            return DistanceField.with(new MazePoint(1, 3), grid);
+        }, Runnable::run));
+
+        assertEquals(2, future.join().distance(grid.index(1, 1)));
+        assertEquals(1, computeCount.get());
+        assertEquals(1L, distanceFieldCache.hitCount());
+        assertEquals(1L, distanceFieldCache.missCount());
+        assertEquals(25L, distanceFieldCache.cellCount());
+    }
+
+    @Test
+    public void evictLeastRecentlyUsedBeyondCellMax() {
+
+        DistanceFieldCache distanceFieldCache;
+        MazeKey firstKey;
+        MazeKey secondKey;
+        MazeKey thirdKey;
+        CompletableFuture<DistanceField> firstFuture;
+
+        // Room for two 3x3 grids of 25 cells with their borders, but not for a third grid on top of them
+        distanceFieldCache = new DistanceFieldCache("test", 60L);
+
+        firstKey = new MazeKey(new MazePoint(1, 1), grid(3, 3));
+        secondKey = new MazeKey(new MazePoint(1, 2), grid(3, 3));
+        thirdKey = new MazeKey(new MazePoint(1, 1), grid(4, 3));
+
+        firstFuture = distanceFieldCache.distanceFieldAsync(firstKey,
+                                                            () -> DistanceField.with(new MazePoint(1, 3), grid(3, 3)),
+                                                            Runnable::run);
+        distanceFieldCache.distanceFieldAsync(secondKey,
+                                              () -> DistanceField.with(new MazePoint(1, 3), grid(3, 3)),
+                                              Runnable::run);
+        assertEquals(50L, distanceFieldCache.cellCount());
+
+        // The first one is used again, so that the second one is the least recently used
+        assertSame(firstFuture, distanceFieldCache.distanceFieldAsync(firstKey, () -> null, Runnable::run));
+
+        distanceFieldCache.distanceFieldAsync(thirdKey,
+                                              () -> DistanceField.with(new MazePoint(1, 3), grid(4, 3)),
+                                              Runnable::run);
+
+        // Only the second one goes to make room for the 30 cells of the 4x3 grid
+        assertEquals(2, distanceFieldCache.size());
+        assertEquals(55L, distanceFieldCache.cellCount());
+        assertEquals(1L, distanceFieldCache.evictionCount());
+        assertSame(firstFuture, distanceFieldCache.distanceFieldAsync(firstKey, () -> null, Runnable::run));
+        assertNotSame(firstFuture, distanceFieldCache.distanceFieldAsync(secondKey,
+                                                                         () -> DistanceField.with(new MazePoint(1, 3),
+                                                                                                  grid(3, 3)),
+                                                                         Runnable::run));
+    }
+
+    @Test
+    public void computeAgainOnceFailed() {
+
+        DistanceFieldCache distanceFieldCache;
+        MazeKey mazeKey;
+        CompletableFuture<DistanceField> future;
+
+        distanceFieldCache = new DistanceFieldCache("test", 1000L);
+        mazeKey = new MazeKey(new MazePoint(1, 1), grid(3, 3));
+
+        future = distanceFieldCache.distanceFieldAsync(mazeKey,
+                                                       () -> DistanceField.with(new MazePoint(1, 3), grid(3, 3)),
+                                                       (runnable) -> {
+                                                           throw new RejectedExecutionException("Queue is full");
+                                                       });
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(0L, distanceFieldCache.cellCount());
+
+        // Nothing failed is kept for the next caller
+        future = distanceFieldCache.distanceFieldAsync(mazeKey,
+                                                       () -> DistanceField.with(new MazePoint(1, 3), grid(3, 3)),
+                                                       Runnable::run);
+        assertEquals(0, future.join().distance(grid(3, 3).index(1, 3)));
+        assertEquals(1, distanceFieldCache.size());
+    }
+}
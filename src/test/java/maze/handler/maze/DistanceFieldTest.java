@@ -0,0 +1,152 @@
+package maze.handler.maze;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class DistanceFieldTest {
+
+    private MazeGrid randomGrid(Random random, int colMax, int rowMax) {
+
+        MazeGrid grid;
+        double density;
+
+        grid = MazeGrid.with(colMax, rowMax);
+        density = random.nextDouble() * 0.5;
+
+        for (int row = 1; row <= rowMax; row++) {
+            for (int col = 1; col <= colMax; col++) {
+                if (random.nextDouble() < density) {
+                    grid.setWall(col, row);
+                }
+            }
+        }
+        return grid;
+    }
+
+    @Test
+    public void distanceAndNextDirection() {
+
+        MazeGrid grid;
+        DistanceField distanceField;
+
+        // Single way from A1 through A2 and B2 to the exit at B3, with a side way from C1 through C2
+        grid = MazeGrid.with(3, 3);
+        grid.setWall(2, 1);
+        grid.setWall(1, 3);
+        grid.setWall(3, 3);
+
+        distanceField = DistanceField.with(new MazePoint(2, 3), grid);
+
+        assertEquals(0, distanceField.distance(grid.index(2, 3)));
+        assertEquals(1, distanceField.distance(grid.index(2, 2)));
+        assertEquals(2, distanceField.distance(grid.index(1, 2)));
+        assertEquals(2, distanceField.distance(grid.index(3, 2)));
+        assertEquals(3, distanceField.distance(grid.index(1, 1)));
+        assertEquals(3, distanceField.distance(grid.index(3, 1)));
+        assertEquals(DistanceField.UNREACHED, distanceField.distance(grid.index(2, 1)));
+        assertEquals(DistanceField.UNREACHED, distanceField.distance(grid.index(1, 3)));
+
+        assertEquals(MazeGrid.DOWN, distanceField.nextDirection(grid.index(1, 1)));
+        assertEquals(MazeGrid.RIGHT, distanceField.nextDirection(grid.index(1, 2)));
+        assertEquals(MazeGrid.LEFT, distanceField.nextDirection(grid.index(3, 2)));
+        assertEquals(MazeGrid.DOWN, distanceField.nextDirection(grid.index(3, 1)));
+        assertEquals(MazeGrid.DOWN, distanceField.nextDirection(grid.index(2, 2)));
+
+        // Nowhere to go from the exit or from a wall
+        assertEquals(DistanceField.NO_DIRECTION, distanceField.nextDirection(grid.index(2, 3)));
+        assertEquals(DistanceField.NO_DIRECTION, distanceField.nextDirection(grid.index(2, 1)));
+    }
+
+    @Test
+    public void unreachedWithoutPathToExit() {
+
+        MazeGrid grid;
+        DistanceField distanceField;
+
+        // A1 and A2 are walled off from the exit at B3, C1 reaches it through C2 and C3
+        grid = MazeGrid.with(3, 3);
+        grid.setWall(2, 1);
+        grid.setWall(2, 2);
+        grid.setWall(1, 3);
+
+        distanceField = DistanceField.with(new MazePoint(2, 3), grid);
+
+        assertEquals(DistanceField.UNREACHED, distanceField.distance(grid.index(1, 1)));
+        assertEquals(DistanceField.UNREACHED, distanceField.distance(grid.index(1, 2)));
+        assertEquals(DistanceField.NO_DIRECTION, distanceField.nextDirection(grid.index(1, 1)));
+        assertEquals(3, distanceField.distance(grid.index(3, 1)));
+    }
+
+    @Test
+    public void followNextDirectionToExit() {
+
+        Random random;
+        MazeGrid grid;
+        MazePoint exit;
+        DistanceField distanceField;
+        int distance;
+        int cell;
+        int nextCell;
+        boolean hasCloserNeighbor;
+
+        random = new Random(25L);
+
+        for (int i = 0; i < 2000; i++) {
+
+            grid = randomGrid(random, 1 + random.nextInt(15), 1 + random.nextInt(15));
+            exit = new MazePoint(1 + random.nextInt(grid.colMax()), grid.rowMax());
+            grid.clearWall(exit.col(), exit.row());
+
+            distanceField = DistanceField.with(exit, grid);
+
+            for (int row = 1; row <= grid.rowMax(); row++) {
+                for (int col = 1; col <= grid.colMax(); col++) {
+
+                    cell = grid.index(col, row);
+                    distance = distanceField.distance(cell);
+
+                    if (distance == DistanceField.UNREACHED) {
+                        // No free neighbor of an unreached free cell is reached
+                        for (int direction = 0; (grid.isWall(cell) == false)
+                                                && (direction < MazeGrid.DIRECTION_COUNT); direction++) {
+                            nextCell = cell + grid.offset(direction);
+                            assertTrue("Grid " + i,
+                                       grid.isWall(nextCell)
+                                                    || (distanceField.distance(nextCell) == DistanceField.UNREACHED));
+                        }
+                        continue;
+                    }
+                    assertFalse("Grid " + i, grid.isWall(cell));
+
+                    // Each step of the hint is one step closer to the exit, through free cells
+                    while (distance > 0) {
+
+                        nextCell = cell + grid.offset(distanceField.nextDirection(cell));
+                        assertFalse("Grid " + i, grid.isWall(nextCell));
+                        assertEquals("Grid " + i, distance - 1, distanceField.distance(nextCell));
+
+                        cell = nextCell;
+                        distance--;
+                    }
+                    assertEquals("Grid " + i, grid.index(exit), cell);
+
+                    // No free neighbor is closer than one step
+                    hasCloserNeighbor = false;
+                    for (int direction = 0; direction < MazeGrid.DIRECTION_COUNT; direction++) {
+                        nextCell = grid.index(col, row) + grid.offset(direction);
+                        if ((grid.isWall(nextCell) == false)
+                            && (distanceField.distance(nextCell) < distanceField.distance(grid.index(col, row)) - 1)) {
+                            hasCloserNeighbor = true;
+                        }
+                    }
+                    assertFalse("Grid " + i, hasCloserNeighbor);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package maze.handler.maze;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class JunctionSolverTest {
+
+    private MazeGrid randomGrid(Random random, int colMax, int rowMax, MazePoint entrance, MazePoint exit) {
+
+        MazeGrid grid;
+        double density;
+
+        grid = MazeGrid.with(colMax, rowMax);
+        density = 0.2 + random.nextDouble() * 0.3;
+
+        for (int row = 1; row <= rowMax; row++) {
+            for (int col = 1; col <= colMax; col++) {
+                if (random.nextDouble() < density) {
+                    grid.setWall(col, row);
+                }
+            }
+        }
+        grid.clearWall(entrance.col(), entrance.row());
+        grid.clearWall(exit.col(), exit.row());
+
+        return grid;
+    }
+
+    private void assertSamePath(String message, MazePath expectedPath, MazePath mazePath) {
+
+        if (expectedPath.isNoPath() || expectedPath.isMultiplePaths()) {
+            assertSame(message, expectedPath, mazePath);
+            return;
+        }
+        assertEquals(message, expectedPath.toText(), mazePath.toText());
+    }
+
+    @Test
+    public void solveLikeGridSolvers() {
+
+        Random random;
+        int colMax;
+        int rowMax;
+        MazePoint entrance;
+        MazePoint exit;
+        MazeGrid grid;
+        JunctionGraph junctionGraph;
+
+        random = new Random(12L);
+
+        for (int i = 0; i < 1500; i++) {
+
+            colMax = 2 + random.nextInt(6);
+            rowMax = 2 + random.nextInt(6);
+            entrance = new MazePoint(1, 1 + random.nextInt(rowMax));
+            exit = new MazePoint(1 + random.nextInt(colMax), rowMax);
+            if (entrance.equals(exit)) {
+                continue;
+            }
+            grid = randomGrid(random, colMax, rowMax, entrance, exit);
+
+            // Same grid as the solvers get in a MazeHandler
+            junctionGraph = new JunctionGraph(entrance,
+                                              exit,
+                                              grid.withoutDeadEnds(grid.index(entrance), grid.index(exit)));
+
+            assertSamePath("Min Path of grid " + i,
+                           new MinMazeSolver(entrance, exit, grid.copy()).solve(),
+                           new JunctionMinSolver(junctionGraph).solve());
+
+            assertSamePath("Max Path of grid " + i,
+                           new MaxMazeSolver(entrance, exit, grid.copy()).solve(),
+                           new JunctionMaxSolver(junctionGraph, new SolverContext()).solve());
+
+            // Either Max Path engine gives the same outcome
+            assertSamePath("Bounded Max Path of grid " + i,
+                           new BoundedMaxMazeSolver(entrance, exit, grid.copy()).solve(),
+                           new JunctionMaxSolver(junctionGraph, new SolverContext()).solve());
+        }
+    }
+
+    @Test
+    public void solveAroundSingleLoop() {
+
+        MazeGrid grid;
+        JunctionGraph junctionGraph;
+
+        // A1 B1 C1
+        // A2 ## C2
+        // A3 B3 C3
+        // ## ## C4
+        grid = MazeGrid.with(3, 4);
+        grid.setWall(2, 2);
+        grid.setWall(1, 4);
+        grid.setWall(2, 4);
+
+        junctionGraph = new JunctionGraph(new MazePoint(1, 2), new MazePoint(3, 4), grid);
+
+        assertEquals("A2,A3,B3,C3,C4", new JunctionMinSolver(junctionGraph).solve().toText());
+        assertEquals("A2,A1,B1,C1,C2,C3,C4",
+                     new JunctionMaxSolver(junctionGraph, new SolverContext()).solve().toText());
+    }
+}
@@ -0,0 +1,104 @@
+package maze.handler.maze;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import maze.model.MazeProgress;
+import maze.model.MazeSolution;
+
+public class MazeBroadcastTest {
+
+    @Test
+    public void publishWithoutWaitingForSlowWatcher() throws Exception {
+
+        MazeBroadcast mazeBroadcast;
+        CountDownLatch releaseLatch;
+        CountDownLatch doneLatch;
+        List<MazeProgress> progressList;
+        long startTime;
+
+        mazeBroadcast = new MazeBroadcast(new MazePoint(2, 3));
+        releaseLatch = new CountDownLatch(1);
+        doneLatch = new CountDownLatch(1);
+        progressList = new CopyOnWriteArrayList<MazeProgress>();
+
+        mazeBroadcast.watch((mazeProgress) -> {
+            try {
+                // Stuck until the solve is over
+                releaseLatch.await();
+            } catch (InterruptedException e) {
+                return false;
+            }
+            progressList.add(mazeProgress);
+            if (mazeProgress.getDone()) {
+                doneLatch.countDown();
+            }
+            return true;
+        });
+
+        startTime = System.nanoTime();
+        mazeBroadcast.publishIteration(10L);
+        mazeBroadcast.publishSolution(new MazeSolution(new String[] { "B1", "B2", "B3" }, Boolean.TRUE), 20L);
+        assertTrue(System.nanoTime() - startTime < TimeUnit.SECONDS.toNanos(1));
+
+        releaseLatch.countDown();
+        assertTrue(doneLatch.await(5, TimeUnit.SECONDS));
+
+        // The solution is always the last progress told
+        assertEquals(Boolean.TRUE, progressList.get(progressList.size() - 1).getDone());
+        assertEquals(20L, progressList.get(progressList.size() - 1).getIterations().longValue());
+    }
+
+    @Test
+    public void catchUpWithSolution() throws Exception {
+
+        MazeBroadcast mazeBroadcast;
+        CountDownLatch doneLatch;
+
+        mazeBroadcast = new MazeBroadcast(new MazePoint(2, 3));
+        mazeBroadcast.publishSolution(new MazeSolution("Maze has no path to exit for Max Path."), 0L);
+
+        doneLatch = new CountDownLatch(1);
+        mazeBroadcast.watch((mazeProgress) -> {
+            if (mazeProgress.getDone()) {
+                doneLatch.countDown();
+            }
+            return true;
+        });
+
+        assertTrue(doneLatch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void markPathShortOfExitAsPartial() throws Exception {
+
+        MazeBroadcast mazeBroadcast;
+        CountDownLatch progressLatch;
+        List<MazeProgress> progressList;
+
+        mazeBroadcast = new MazeBroadcast(new MazePoint(2, 3));
+        progressLatch = new CountDownLatch(1);
+        progressList = new CopyOnWriteArrayList<MazeProgress>();
+
+        mazeBroadcast.watch((mazeProgress) -> {
+            progressList.add(mazeProgress);
+            progressLatch.countDown();
+            return true;
+        });
+
+        // Path up to the end of the first block
+        mazeBroadcast.publishPath(new MazePath(new MazePoint[] { new MazePoint(2, 1), new MazePoint(2, 2) }));
+
+        assertTrue(progressLatch.await(5, TimeUnit.SECONDS));
+        assertEquals(Boolean.TRUE, progressList.get(0).getPartial());
+        assertFalse(progressList.get(0).getDone());
+    }
+}
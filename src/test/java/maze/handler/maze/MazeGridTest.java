@@ -0,0 +1,74 @@
+package maze.handler.maze;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class MazeGridTest {
+
+    private MazeGrid randomGrid(Random random, int colMax, int rowMax) {
+
+        MazeGrid grid;
+        double density;
+
+        grid = MazeGrid.with(colMax, rowMax);
+        density = random.nextDouble();
+
+        for (int row = 1; row <= rowMax; row++) {
+            for (int col = 1; col <= colMax; col++) {
+                if (random.nextDouble() < density) {
+                    grid.setWall(col, row);
+                }
+            }
+        }
+        return grid;
+    }
+
+    @Test
+    public void setWallsFromWallBitmap() {
+
+        Random random;
+        MazeGrid grid;
+        byte[] bitmap;
+        MazeGrid restoredGrid;
+
+        random = new Random(21L);
+
+        for (int i = 0; i < 2000; i++) {
+
+            grid = randomGrid(random, 1 + random.nextInt(30), 1 + random.nextInt(30));
+
+            bitmap = grid.wallBitmap();
+            assertEquals("Grid " + i, MazeGrid.bitmapLength(grid.colMax(), grid.rowMax()), bitmap.length);
+
+            restoredGrid = MazeGrid.with(grid.colMax(), grid.rowMax());
+            restoredGrid.setWalls(bitmap);
+
+            for (int row = 1; row <= grid.rowMax(); row++) {
+                for (int col = 1; col <= grid.colMax(); col++) {
+                    assertEquals("Grid " + i + " cell " + col + "x" + row,
+                                 grid.isWall(col, row),
+                                 restoredGrid.isWall(col, row));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void wallBitmapRowAfterRow() {
+
+        MazeGrid grid;
+
+        // First cell in the highest bit of the first byte, the ninth one in the second byte
+        grid = MazeGrid.with(3, 3);
+        grid.setWall(1, 1);
+        grid.setWall(3, 2);
+        grid.setWall(3, 3);
+
+        assertEquals(2, grid.wallBitmap().length);
+        assertEquals((byte) 0x84, grid.wallBitmap()[0]);
+        assertEquals((byte) 0x80, grid.wallBitmap()[1]);
+    }
+}
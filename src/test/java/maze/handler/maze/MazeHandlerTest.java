@@ -0,0 +1,286 @@
+package maze.handler.maze;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import maze.Setup;
+import maze.model.Maze;
+import maze.store.maze.MazeRecord;
+
+public class MazeHandlerTest {
+
+    private MazeGrid randomGrid(Random random, int colMax, int rowMax) {
+
+        MazeGrid grid;
+        double density;
+
+        grid = MazeGrid.with(colMax, rowMax);
+        density = random.nextDouble() * 0.5;
+
+        for (int row = 1; row <= rowMax; row++) {
+            for (int col = 1; col <= colMax; col++) {
+                if (random.nextDouble() < density) {
+                    grid.setWall(col, row);
+                }
+            }
+        }
+        return grid;
+    }
+
+    private boolean hasWall(int colFrom, int colTo, int rowFrom, int rowTo, MazeGrid grid) {
+
+        for (int row = rowFrom; row <= rowTo; row++) {
+            for (int col = colFrom; col <= colTo; col++) {
+                if (grid.isWall(col, row)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private int greedyEmptyArea(int col, int row, MazeGrid grid) {
+
+        int areaCol;
+        int areaRow;
+        boolean expandCol;
+        boolean expandRow;
+
+        if (grid.isWall(col, row)) {
+            return 0;
+        }
+
+        areaCol = col;
+        areaRow = row;
+        expandCol = true;
+        expandRow = true;
+
+        // Grow the area by a column then a row for as long as they are free, cell by cell
+        while (expandCol || expandRow) {
+
+            if (expandCol) {
+                if (hasWall(areaCol + 1, areaCol + 1, row, areaRow, grid)) {
+                    expandCol = false;
+                } else {
+                    areaCol++;
+                }
+            }
+
+            if (expandRow) {
+                if (hasWall(col, areaCol, areaRow + 1, areaRow + 1, grid)) {
+                    expandRow = false;
+                } else {
+                    areaRow++;
+                }
+            }
+        }
+
+        if ((areaCol == col) || (areaRow == row)) {
+            return 0;
+        }
+        return (areaCol + 1 - col) * (areaRow + 1 - row);
+    }
+
+    private Optional<MazePoint> greedyFindEmptyArea(AtomicInteger area, MazeGrid grid) {
+
+        int emptyArea;
+
+        for (int row = 1; row <= grid.rowMax(); row++) {
+            for (int col = 1; col <= grid.colMax(); col++) {
+
+                emptyArea = greedyEmptyArea(col, row, grid);
+                if (emptyArea > Setup.MAZE_EMPTY_AREA_MAX) {
+                    area.set(emptyArea);
+                    return Optional.of(new MazePoint(col, row));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private MazeRecord restoreMinPath(String status, String... minPath) {
+
+        MazeHandler mazeHandler;
+
+        // Single way from A1 through A2 and B2 to the exit at B3
+        mazeHandler = MazeHandler.with(new Maze(null, "A1", "3x3", new String[] { "B1", "A3", "C3" }),
+                                       () -> 1,
+                                       new AtomicReference<String>())
+                                 .output();
+
+        mazeHandler.restorePaths(new MazeRecord("user",
+                                                1,
+                                                "A1",
+                                                "3x3",
+                                                new String[0],
+                                                null,
+                                                status,
+                                                minPath,
+                                                MazeRecord.PATH_UNSOLVED,
+                                                new String[0]));
+
+        return mazeHandler.buildMazeRecord("user").output();
+    }
+
+    @Test
+    public void findEmptyAreaLikeGreedyGrowth() {
+
+        Random random;
+        MazeGrid grid;
+        AtomicInteger expectedArea;
+        AtomicInteger area;
+        Optional<MazePoint> expectedOptional;
+        Optional<MazePoint> emptyAreaOptional;
+
+        random = new Random(13L);
+
+        for (int i = 0; i < 5000; i++) {
+
+            grid = randomGrid(random, 1 + random.nextInt(12), 1 + random.nextInt(12));
+
+            expectedArea = new AtomicInteger(0);
+            area = new AtomicInteger(0);
+
+            expectedOptional = greedyFindEmptyArea(expectedArea, grid);
+            emptyAreaOptional = MazeHandler.findEmptyArea(area, grid);
+
+            assertEquals("Grid " + i, expectedOptional, emptyAreaOptional);
+            assertEquals("Grid " + i, expectedArea.get(), area.get());
+        }
+    }
+
+    @Test
+    public void findEmptyAreaAboveLimit() {
+
+        MazeGrid grid;
+        AtomicInteger area;
+        Optional<MazePoint> emptyAreaOptional;
+
+        // A 2x2 area is allowed
+        grid = MazeGrid.with(3, 3);
+        grid.setWall(3, 1);
+        grid.setWall(3, 2);
+        grid.setWall(1, 3);
+        grid.setWall(2, 3);
+        grid.setWall(3, 3);
+
+        area = new AtomicInteger(0);
+        assertFalse(MazeHandler.findEmptyArea(area, grid).isPresent());
+
+        // A 2x3 area is not
+        grid.clearWall(1, 3);
+        grid.clearWall(2, 3);
+
+        emptyAreaOptional = MazeHandler.findEmptyArea(area, grid);
+        assertTrue(emptyAreaOptional.isPresent());
+        assertEquals(new MazePoint(1, 1), emptyAreaOptional.get());
+        assertEquals(6, area.get());
+    }
+
+    @Test
+    public void restoreContiguousPath() {
+
+        MazeRecord mazeRecord;
+
+        mazeRecord = restoreMinPath(MazeRecord.PATH_FOUND, "A1", "A2", "B2", "B3");
+        assertEquals(MazeRecord.PATH_FOUND, mazeRecord.minStatus());
+        assertArrayEquals(new String[] { "A1", "A2", "B2", "B3" }, mazeRecord.minPath());
+
+        mazeRecord = restoreMinPath(MazeRecord.PATH_NONE);
+        assertEquals(MazeRecord.PATH_NONE, mazeRecord.minStatus());
+        assertArrayEquals(new String[0], mazeRecord.minPath());
+    }
+
+    @Test
+    public void rejectNonContiguousPath() {
+
+        MazeRecord mazeRecord;
+
+        // A1 to B2 is a diagonal step
+        mazeRecord = restoreMinPath(MazeRecord.PATH_FOUND, "A1", "B2", "B3");
+        assertEquals(MazeRecord.PATH_UNSOLVED, mazeRecord.minStatus());
+        assertArrayEquals(new String[0], mazeRecord.minPath());
+
+        // A2 to B3 is a diagonal step as well
+        mazeRecord = restoreMinPath(MazeRecord.PATH_FOUND, "A1", "A2", "B3");
+        assertEquals(MazeRecord.PATH_UNSOLVED, mazeRecord.minStatus());
+    }
+
+    @Test
+    public void rejectPathOffTheMaze() {
+
+        String[][] pathArray;
+
+        pathArray = new String[][] { { "A1", "B1", "B2", "B3" }, // Through a wall
+                                     { "A1", "A2", "B2" }, // Short of the exit
+                                     { "A2", "B2", "B3" }, // Away from the entrance
+                                     { "A1", "A2", "B2", "B4" } }; // Outside of the grid
+
+        for (String[] path : pathArray) {
+            assertEquals(String.join(",", path),
+                         MazeRecord.PATH_UNSOLVED,
+                         restoreMinPath(MazeRecord.PATH_FOUND, path).minStatus());
+        }
+
+        // Unknown status
+        assertEquals(MazeRecord.PATH_UNSOLVED, restoreMinPath("solved", "A1", "A2", "B2", "B3").minStatus());
+    }
+
+    @Test
+    public void releaseSolverStateOnceBothPathsKept() {
+
+        MazeHandler mazeHandler;
+
+        // Single way from A1 through A2 and B2 to the exit at B3, with a dead end through C2 and C1
+        mazeHandler = MazeHandler.with(new Maze(null, "A1", "3x3", new String[] { "B1", "A3", "C3" }),
+                                       () -> 1,
+                                       new AtomicReference<String>())
+                                 .output();
+
+        assertArrayEquals(new String[] { "A1", "A2", "B2", "B3" },
+                          mazeHandler.solveMinPath(SolverBudget.UNLIMITED).output().getPath());
+        assertArrayEquals(new String[] { "A1", "A2", "B2", "B3" },
+                          mazeHandler.solveMaxPath(SolverBudget.UNLIMITED).output().getPath());
+
+        // Nothing built to solve the maze is held once both paths are kept, and the paths are still answered
+        assertFalse(mazeHandler.holdsSolverState());
+        assertArrayEquals(new String[] { "A1", "A2", "B2", "B3" },
+                          mazeHandler.solveMinPath(SolverBudget.UNLIMITED).output().getPath());
+        assertFalse(mazeHandler.holdsSolverState());
+    }
+
+    @Test
+    public void restoreLegacyWalls() {
+
+        String[] walls;
+        MazeHandler legacyHandler;
+        Maze maze;
+        MazeHandler mazeHandler;
+
+        // Mazes stored before the wall bitmap only have their list of walls
+        walls = new String[] { "B1", "D1", "D2", "A3", "B3", "D4", "A5", "B5", "C5", "E5" };
+        legacyHandler = MazeHandler.with(new Maze(1, "A1", "5x5", walls), () -> 1, new AtomicReference<String>())
+                                   .output();
+
+        maze = legacyHandler.retrieveMaze(Boolean.TRUE).output();
+        assertEquals(null, maze.getWalls());
+
+        // Rewritten as a bitmap, the maze is the same
+        mazeHandler = MazeHandler.with(new Maze(1, "A1", "5x5", null, maze.getWallBitmap()),
+                                       () -> 1,
+                                       new AtomicReference<String>())
+                                 .output();
+
+        assertArrayEquals(walls, mazeHandler.retrieveMaze(Boolean.FALSE).output().getWalls());
+        assertEquals(maze.getWallBitmap(), mazeHandler.retrieveMaze(Boolean.TRUE).output().getWallBitmap());
+    }
+}
@@ -0,0 +1,194 @@
+package maze.handler.maze;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class MazePathTest {
+
+    private MazePoint[] randomWalk(Random random, int length) {
+
+        MazePoint[] mazePointArray;
+        int col;
+        int row;
+        int direction;
+
+        // Any walk between neighbors is a path, whether it crosses itself or not
+        mazePointArray = new MazePoint[length];
+        col = 1 + random.nextInt(20);
+        row = 1 + random.nextInt(20);
+        mazePointArray[0] = new MazePoint(col, row);
+
+        for (int i = 1; i < length; i++) {
+
+            do {
+                direction = random.nextInt(MazeGrid.DIRECTION_COUNT);
+            } while (((direction == MazeGrid.UP) && (row == 1)) || ((direction == MazeGrid.LEFT) && (col == 1)));
+
+            switch (direction) {
+            case MazeGrid.UP:
+                row--;
+                break;
+            case MazeGrid.DOWN:
+                row++;
+                break;
+            case MazeGrid.LEFT:
+                col--;
+                break;
+            default:
+                col++;
+                break;
+            }
+            mazePointArray[i] = new MazePoint(col, row);
+        }
+        return mazePointArray;
+    }
+
+    private String[] textArray(MazePoint[] mazePointArray) {
+
+        return Arrays.stream(mazePointArray).map(MazePoint::toText).toArray(String[]::new);
+    }
+
+    @Test
+    public void toTextArrayLikeCells() {
+
+        Random random;
+        MazePoint[] mazePointArray;
+        MazePath mazePath;
+
+        random = new Random(22L);
+
+        for (int i = 0; i < 2000; i++) {
+
+            mazePointArray = randomWalk(random, 1 + random.nextInt(40));
+            mazePath = new MazePath(mazePointArray);
+
+            assertEquals("Walk " + i, mazePointArray.length, mazePath.length());
+            assertEquals("Walk " + i, mazePointArray[0], mazePath.start());
+            assertArrayEquals("Walk " + i, textArray(mazePointArray), mazePath.toTextArray());
+            assertEquals("Walk " + i, mazePointArray.length - 1, mazePath.toMoves().length());
+            assertEquals("Walk " + i, new MazePath(mazePointArray), mazePath);
+        }
+    }
+
+    @Test
+    public void toMovesOneLetterPerStep() {
+
+        MazePath mazePath;
+
+        mazePath = new MazePath(new MazePoint[] { MazePoint.with("B2"),
+                                                  MazePoint.with("B3"),
+                                                  MazePoint.with("C3"),
+                                                  MazePoint.with("C2"),
+                                                  MazePoint.with("B2"),
+                                                  MazePoint.with("A2") });
+
+        assertEquals("DRULL", mazePath.toMoves());
+        assertEquals("B2,B3,C3,C2,B2,A2", mazePath.toText());
+
+        // A single cell has no move
+        mazePath = new MazePath(new MazePoint[] { MazePoint.with("A1") });
+        assertEquals("", mazePath.toMoves());
+        assertArrayEquals(new String[] { "A1" }, mazePath.toTextArray());
+    }
+
+    @Test
+    public void translateLikeEachCell() {
+
+        Random random;
+        MazePoint[] mazePointArray;
+        MazePoint[] translatedArray;
+        int colOffset;
+        int rowOffset;
+        MazePath mazePath;
+
+        random = new Random(23L);
+
+        for (int i = 0; i < 2000; i++) {
+
+            mazePointArray = randomWalk(random, 1 + random.nextInt(40));
+            colOffset = random.nextInt(10);
+            rowOffset = random.nextInt(10);
+
+            translatedArray = new MazePoint[mazePointArray.length];
+            for (int j = 0; j < mazePointArray.length; j++) {
+                translatedArray[j] = new MazePoint(mazePointArray[j].col() + colOffset,
+                                                   mazePointArray[j].row() + rowOffset);
+            }
+
+            mazePath = new MazePath(mazePointArray, (i % 2) == 0).translate(colOffset, rowOffset);
+
+            assertEquals("Walk " + i, new MazePath(translatedArray), mazePath);
+            assertArrayEquals("Walk " + i, textArray(translatedArray), mazePath.toTextArray());
+            assertEquals("Walk " + i, (i % 2) == 0, mazePath.isProven());
+        }
+
+        assertSame(MazePath.NO_PATH, MazePath.NO_PATH.translate(1, 1));
+    }
+
+    @Test
+    public void joinLikeWholePath() {
+
+        Random random;
+        MazePoint[] mazePointArray;
+        List<MazePath> mazePathList;
+        int from;
+        int to;
+        boolean proven;
+        MazePath mazePath;
+
+        random = new Random(24L);
+
+        for (int i = 0; i < 2000; i++) {
+
+            mazePointArray = randomWalk(random, 1 + random.nextInt(60));
+
+            // Consecutive pieces share their end and start point
+            mazePathList = new ArrayList<MazePath>();
+            proven = true;
+            from = 0;
+            do {
+                to = Math.min(mazePointArray.length - 1, from + random.nextInt(8));
+                mazePathList.add(new MazePath(Arrays.copyOfRange(mazePointArray, from, to + 1), random.nextInt(8) > 0));
+                proven &= mazePathList.get(mazePathList.size() - 1).isProven();
+                from = to;
+            } while (to < mazePointArray.length - 1);
+
+            mazePath = MazePath.join(mazePathList);
+
+            assertEquals("Walk " + i, new MazePath(mazePointArray), mazePath);
+            assertArrayEquals("Walk " + i, textArray(mazePointArray), mazePath.toTextArray());
+            assertEquals("Walk " + i, proven, mazePath.isProven());
+        }
+
+        assertSame(MazePath.NO_PATH, MazePath.join(new ArrayList<MazePath>()));
+    }
+
+    @Test
+    public void rejectStepToNonNeighbor() {
+
+        try {
+            new MazePath(new MazePoint[] { MazePoint.with("A1"), MazePoint.with("B2") });
+            fail("A diagonal step is not a move");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("not to a neighbor"));
+        }
+
+        try {
+            new MazePath(new MazePoint[] { MazePoint.with("A1"), MazePoint.with("A1") });
+            fail("Staying on the same cell is not a move");
+        } catch (IllegalArgumentException e) {
+            assertFalse(e.getMessage().isEmpty());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package maze.handler.maze;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelMaxMazeSolverTest {
+
+    private MazeGrid randomGrid(Random random, int colMax, int rowMax, MazePoint entrance, MazePoint exit) {
+
+        MazeGrid grid;
+        double density;
+
+        grid = MazeGrid.with(colMax, rowMax);
+        density = 0.25 + random.nextDouble() * 0.25;
+
+        for (int row = 1; row <= rowMax; row++) {
+            for (int col = 1; col <= colMax; col++) {
+                if (random.nextDouble() < density) {
+                    grid.setWall(col, row);
+                }
+            }
+        }
+        grid.clearWall(entrance.col(), entrance.row());
+        grid.clearWall(exit.col(), exit.row());
+
+        return grid;
+    }
+
+    @Test
+    public void solveLikeMaxMazeSolver() {
+
+        Random random;
+        int colMax;
+        int rowMax;
+        MazePoint entrance;
+        MazePoint exit;
+        MazeGrid grid;
+        MazePath expectedPath;
+        MazePath mazePath;
+
+        random = new Random(6L);
+
+        for (int i = 0; i < 500; i++) {
+
+            colMax = 3 + random.nextInt(5);
+            rowMax = 3 + random.nextInt(5);
+            entrance = new MazePoint(1, 1 + random.nextInt(rowMax));
+            exit = new MazePoint(1 + random.nextInt(colMax), rowMax);
+            if (entrance.equals(exit)) {
+                continue;
+            }
+            grid = randomGrid(random, colMax, rowMax, entrance, exit);
+
+            // Enumerate every path as the reference, on a grid of its own since the solver marks its cells
+            expectedPath = new MaxMazeSolver(entrance, exit, grid.copy()).solve();
+            mazePath = new ParallelMaxMazeSolver(entrance, exit, grid, new SolverContext()).solve();
+
+            if (expectedPath.isNoPath() || expectedPath.isMultiplePaths()) {
+                assertSame("Grid " + i, expectedPath, mazePath);
+                continue;
+            }
+            assertEquals("Grid " + i, expectedPath.toText(), mazePath.toText());
+        }
+    }
+
+    @Test
+    public void solveWithMultiplePathsAtTheBound() {
+
+        MazeGrid grid;
+
+        // Both ways around the wall in B2 visit every other cell and end next to the exit
+        grid = MazeGrid.with(3, 3);
+        grid.setWall(2, 2);
+
+        assertSame(MazePath.MULTIPLE_PATHS,
+                   new ParallelMaxMazeSolver(new MazePoint(2, 1),
+                                             new MazePoint(2, 3),
+                                             grid,
+                                             new SolverContext()).solve());
+    }
+}
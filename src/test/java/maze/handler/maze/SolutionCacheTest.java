@@ -0,0 +1,362 @@
+package maze.handler.maze;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class SolutionCacheTest {
+
+    // Callers waiting on each other need threads of their own
+    private final ExecutorService _executorService = Executors.newCachedThreadPool();
+
+    @AfterEach
+    private void terminate() {
+
+        _executorService.shutdownNow();
+    }
+
+    private MazeKey mazeKey() {
+
+        MazeGrid grid;
+
+        grid = MazeGrid.with(3, 3);
+        grid.setWall(2, 2);
+
+        return new MazeKey(new MazePoint(2, 1), grid);
+    }
+
+    private MazePath mazePath(boolean proven) {
+
+        return new MazePath(new MazePoint[] { new MazePoint(2, 1), new MazePoint(1, 1) }, proven);
+    }
+
+    private void awaitHitCount(SolutionCache solutionCache, long hitCount) throws InterruptedException {
+
+        // The joiners are waiting on the shared solve once counted as hits
+        for (int i = 0; (i < 500) && (solutionCache.hitCount() < hitCount); i++) {
+            Thread.sleep(10L);
+        }
+        assertEquals(hitCount, solutionCache.hitCount());
+    }
+
+    @Test
+    public void solveOnceThenHit() {
+
+        SolutionCache solutionCache;
+        AtomicInteger solveCount;
+        MazePath mazePath;
+
+        solutionCache = new SolutionCache("test", 10);
+        solveCount = new AtomicInteger(0);
+        mazePath = mazePath(true);
+
+        assertSame(mazePath, solutionCache.solve(mazeKey(), () -> {
+            solveCount.incrementAndGet();
+            return mazePath;
+        }));
+
+        // An identical maze shares the proven path
+        assertSame(mazePath, solutionCache.solve(mazeKey(), () -> {
+            solveCount.incrementAndGet();
+            return mazePath(true);
+        }));
+        assertSame(mazePath, solutionCache.cached(mazeKey()));
+
+        assertEquals(1, solveCount.get());
+        assertEquals(1L, solutionCache.missCount());
+        assertEquals(2L, solutionCache.hitCount());
+    }
+
+    @Test
+    public void solveAgainOnceUnproven() {
+
+        SolutionCache solutionCache;
+        AtomicInteger solveCount;
+
+        solutionCache = new SolutionCache("test", 10);
+        solveCount = new AtomicInteger(0);
+
+        solutionCache.solve(mazeKey(), () -> {
+            solveCount.incrementAndGet();
+            return mazePath(false);
+        });
+
+        // An unproven path is not kept for the next request
+        assertNull(solutionCache.cached(mazeKey()));
+        solutionCache.solve(mazeKey(), () -> {
+            solveCount.incrementAndGet();
+            return mazePath(true);
+        });
+
+        assertEquals(2, solveCount.get());
+        assertEquals(2L, solutionCache.missCount());
+    }
+
+    @Test
+    public void solveAgainWhenSharedPathUnproven() throws Exception {
+
+        SolutionCache solutionCache;
+        CountDownLatch startLatch;
+        CountDownLatch releaseLatch;
+        AtomicInteger solveCount;
+        MazePath unprovenPath;
+        MazePath provenPath;
+        CompletableFuture<MazePath> solverFuture;
+        List<CompletableFuture<MazePath>> joinerFutureList;
+
+        solutionCache = new SolutionCache("test", 10);
+        startLatch = new CountDownLatch(1);
+        releaseLatch = new CountDownLatch(1);
+        solveCount = new AtomicInteger(0);
+        unprovenPath = mazePath(false);
+        provenPath = mazePath(true);
+
+        solverFuture = CompletableFuture.supplyAsync(() -> solutionCache.solve(mazeKey(), () -> {
+            startLatch.countDown();
+            try {
+                releaseLatch.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            // Budget ran out before the search completed
+            return unprovenPath;
+        }), _executorService);
+        assertTrue(startLatch.await(5, TimeUnit.SECONDS));
+
+        joinerFutureList = new ArrayList<CompletableFuture<MazePath>>();
+        for (int i = 0; i < 4; i++) {
+            joinerFutureList.add(CompletableFuture.supplyAsync(() -> solutionCache.solve(mazeKey(), () -> {
+                solveCount.incrementAndGet();
+                return provenPath;
+            }), _executorService));
+        }
+        awaitHitCount(solutionCache, 4L);
+
+        releaseLatch.countDown();
+
+        // Every joiner solves within its own budget rather than take the best path of a smaller one
+        assertSame(unprovenPath, solverFuture.get(5, TimeUnit.SECONDS));
+        for (CompletableFuture<MazePath> joinerFuture : joinerFutureList) {
+            assertSame(provenPath, joinerFuture.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(4, solveCount.get());
+        assertSame(provenPath, solutionCache.cached(mazeKey()));
+    }
+
+    @Test
+    public void solveOnceWhenSharedSolveFails() throws Exception {
+
+        SolutionCache solutionCache;
+        CountDownLatch startLatch;
+        CountDownLatch releaseLatch;
+        AtomicInteger solveCount;
+        MazePath mazePath;
+        CompletableFuture<MazePath> solverFuture;
+        CompletableFuture<MazePath> joinerFuture;
+
+        solutionCache = new SolutionCache("test", 10);
+        startLatch = new CountDownLatch(1);
+        releaseLatch = new CountDownLatch(1);
+        solveCount = new AtomicInteger(0);
+        mazePath = mazePath(true);
+
+        solverFuture = CompletableFuture.supplyAsync(() -> solutionCache.solve(mazeKey(), () -> {
+            startLatch.countDown();
+            try {
+                releaseLatch.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            throw new IllegalStateException("Solver failure");
+        }), _executorService);
+        assertTrue(startLatch.await(5, TimeUnit.SECONDS));
+
+        joinerFuture = CompletableFuture.supplyAsync(() -> solutionCache.solve(mazeKey(), () -> {
+            solveCount.incrementAndGet();
+            return mazePath;
+        }), _executorService);
+        awaitHitCount(solutionCache, 1L);
+
+        releaseLatch.countDown();
+
+        // The joiner solves on its own, exactly once
+        assertSame(mazePath, joinerFuture.get(5, TimeUnit.SECONDS));
+        assertTrue(solverFuture.handle((path, throwable) -> throwable != null).get(5, TimeUnit.SECONDS));
+        assertEquals(1, solveCount.get());
+    }
+
+    @Test
+    public void solveAsyncAgainWhenSharedPathUnproven() throws Exception {
+
+        SolutionCache solutionCache;
+        CountDownLatch releaseLatch;
+        AtomicInteger solveCount;
+        MazePath unprovenPath;
+        MazePath provenPath;
+        CompletableFuture<MazePath> solverFuture;
+        CompletableFuture<MazePath> joinerFuture;
+
+        solutionCache = new SolutionCache("test", 10);
+        releaseLatch = new CountDownLatch(1);
+        solveCount = new AtomicInteger(0);
+        unprovenPath = mazePath(false);
+        provenPath = mazePath(true);
+
+        solverFuture = solutionCache.solveAsync(mazeKey(), () -> {
+            try {
+                releaseLatch.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return unprovenPath;
+        }, _executorService);
+
+        joinerFuture = solutionCache.solveAsync(mazeKey(), () -> {
+            solveCount.incrementAndGet();
+            return provenPath;
+        }, _executorService);
+
+        releaseLatch.countDown();
+
+        assertSame(unprovenPath, solverFuture.get(5, TimeUnit.SECONDS));
+        assertSame(provenPath, joinerFuture.get(5, TimeUnit.SECONDS));
+        assertEquals(1, solveCount.get());
+        assertEquals(1L, solutionCache.hitCount());
+    }
+
+    @Test
+    public void tinyBudgetSolveLeavesDefaultBudgetSolveOptimal() throws Exception {
+
+        SolutionCache solutionCache;
+        MazeKey mazeKey;
+        MazePath minPath;
+        CountDownLatch startLatch;
+        CountDownLatch releaseLatch;
+        CompletableFuture<MazePath> tinyFuture;
+        CompletableFuture<MazePath> defaultFuture;
+
+        solutionCache = new SolutionCache("test", 10);
+        mazeKey = mazeKey();
+        startLatch = new CountDownLatch(1);
+        releaseLatch = new CountDownLatch(1);
+
+        // Single iteration, then the best path found so far
+        tinyFuture = solutionCache.solveAsync(mazeKey, () -> {
+            startLatch.countDown();
+            try {
+                releaseLatch.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return new MazePath(new MazePoint[] { new MazePoint(2, 1), new MazePoint(3, 1), new MazePoint(3, 2),
+                                                  new MazePoint(3, 3), new MazePoint(2, 3), new MazePoint(1, 3),
+                                                  new MazePoint(1, 2), new MazePoint(1, 1) },
+                                false);
+        }, _executorService);
+        assertTrue(startLatch.await(5, TimeUnit.SECONDS));
+
+        // Default budget, solved to the end while the tiny one is still in flight
+        defaultFuture = solutionCache.solveAsync(mazeKey, () -> mazePath(true), _executorService);
+
+        releaseLatch.countDown();
+
+        assertFalse(tinyFuture.get(5, TimeUnit.SECONDS).isProven());
+        minPath = defaultFuture.get(5, TimeUnit.SECONDS);
+        assertTrue(minPath.isProven());
+        assertEquals(2, minPath.length());
+        assertSame(minPath, solutionCache.cached(mazeKey));
+    }
+
+    @Test
+    public void solveAsyncOnceMoreWhenSharedSolveFails() throws Exception {
+
+        SolutionCache solutionCache;
+        CountDownLatch releaseLatch;
+        AtomicInteger solveCount;
+        MazePath mazePath;
+        CompletableFuture<MazePath> solverFuture;
+        CompletableFuture<MazePath> joinerFuture;
+
+        solutionCache = new SolutionCache("test", 10);
+        releaseLatch = new CountDownLatch(1);
+        solveCount = new AtomicInteger(0);
+        mazePath = mazePath(true);
+
+        solverFuture = solutionCache.solveAsync(mazeKey(), () -> {
+            try {
+                releaseLatch.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            throw new IllegalStateException("Solver failure");
+        }, _executorService);
+
+        joinerFuture = solutionCache.solveAsync(mazeKey(), () -> {
+            solveCount.incrementAndGet();
+            return mazePath;
+        }, _executorService);
+
+        releaseLatch.countDown();
+
+        assertSame(mazePath, joinerFuture.get(5, TimeUnit.SECONDS));
+        assertTrue(solverFuture.handle((path, throwable) -> throwable != null).get(5, TimeUnit.SECONDS));
+        assertEquals(1, solveCount.get());
+    }
+
+    @Test
+    public void cancelCallerLeavesSharedSolveRunning() throws Exception {
+
+        SolutionCache solutionCache;
+        CountDownLatch releaseLatch;
+        CountDownLatch doneLatch;
+        MazePath mazePath;
+        CompletableFuture<MazePath> solverFuture;
+        CompletableFuture<MazePath> joinerFuture;
+        CompletableFuture<MazePath> otherFuture;
+
+        solutionCache = new SolutionCache("test", 10);
+        releaseLatch = new CountDownLatch(1);
+        doneLatch = new CountDownLatch(1);
+        mazePath = mazePath(true);
+
+        solverFuture = solutionCache.solveAsync(mazeKey(), () -> {
+            try {
+                releaseLatch.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            doneLatch.countDown();
+            return mazePath;
+        }, _executorService);
+
+        joinerFuture = solutionCache.solveAsync(mazeKey(), () -> mazePath(true), _executorService);
+        otherFuture = solutionCache.solveAsync(mazeKey(), () -> mazePath(true), _executorService);
+
+        // Both callers time out and go away
+        assertTrue(solverFuture.cancel(true));
+        assertTrue(joinerFuture.cancel(true));
+
+        releaseLatch.countDown();
+        assertTrue(doneLatch.await(5, TimeUnit.SECONDS));
+
+        // The shared solve completes for the caller still waiting and is kept for the next ones
+        assertSame(mazePath, otherFuture.get(5, TimeUnit.SECONDS));
+        assertSame(mazePath, solutionCache.cached(mazeKey()));
+        assertFalse(otherFuture.isCancelled());
+        assertTrue(solverFuture.isCancelled());
+    }
+}
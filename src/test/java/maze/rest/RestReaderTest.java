@@ -0,0 +1,117 @@
+package maze.rest;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import maze.base.RestOutput;
+import maze.model.Maze;
+
+public class RestReaderTest {
+
+    private static final String MAZE_A1 = "{\"entrance\":\"A1\",\"gridSize\":\"3x3\",\"walls\":[\"B1\",\"A3\",\"C3\"]}";
+    private static final String MAZE_C1 = "{\"entrance\":\"C1\",\"gridSize\":\"3x3\",\"wallBitmap\":\"QIA=\"}";
+
+    private RestReader<Maze> reader(String payload) {
+
+        return RestReader.with(new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8)), Maze.class)
+                         .output();
+    }
+
+    private List<RestOutput<Maze>> readAll(RestReader<Maze> mazeReader) {
+
+        List<RestOutput<Maze>> mazeOutputList;
+
+        mazeOutputList = new ArrayList<RestOutput<Maze>>();
+        while (mazeReader.hasNext()) {
+            mazeOutputList.add(mazeReader.next());
+        }
+        return mazeOutputList;
+    }
+
+    private void assertMazes(List<RestOutput<Maze>> mazeOutputList) {
+
+        assertEquals(2, mazeOutputList.size());
+        assertTrue(RestOutput.isOK(mazeOutputList.get(0)));
+        assertEquals("A1", mazeOutputList.get(0).output().getEntrance());
+        assertArrayEquals(new String[] { "B1", "A3", "C3" }, mazeOutputList.get(0).output().getWalls());
+        assertTrue(RestOutput.isOK(mazeOutputList.get(1)));
+        assertEquals("C1", mazeOutputList.get(1).output().getEntrance());
+        assertEquals("QIA=", mazeOutputList.get(1).output().getWallBitmap());
+    }
+
+    @Test
+    public void readNdjson() {
+
+        RestReader<Maze> mazeReader;
+
+        mazeReader = reader(MAZE_A1 + "\n" + MAZE_C1 + "\n");
+
+        assertMazes(readAll(mazeReader));
+        assertFalse(mazeReader.isFailed());
+    }
+
+    @Test
+    public void readJsonArray() {
+
+        RestReader<Maze> mazeReader;
+
+        mazeReader = reader("[ " + MAZE_A1 + ",\n " + MAZE_C1 + " ]");
+
+        assertMazes(readAll(mazeReader));
+        assertFalse(mazeReader.isFailed());
+
+        // Nothing to import is not a failure
+        mazeReader = reader("[]");
+        assertTrue(readAll(mazeReader).isEmpty());
+        assertFalse(mazeReader.isFailed());
+
+        mazeReader = reader("");
+        assertTrue(readAll(mazeReader).isEmpty());
+        assertFalse(mazeReader.isFailed());
+    }
+
+    @Test
+    public void rejectItemOnly() {
+
+        RestReader<Maze> mazeReader;
+        List<RestOutput<Maze>> mazeOutputList;
+
+        // An item which is not a maze is rejected, the items around it are still read
+        mazeReader = reader("[ " + MAZE_A1 + ", 42, {\"entrance\":[1]}, [\"A1\"], " + MAZE_C1 + " ]");
+        mazeOutputList = readAll(mazeReader);
+
+        assertEquals(5, mazeOutputList.size());
+        assertTrue(RestOutput.isOK(mazeOutputList.get(0)));
+        assertTrue(RestOutput.isBadRequest(mazeOutputList.get(1)));
+        assertTrue(RestOutput.isBadRequest(mazeOutputList.get(2)));
+        assertTrue(RestOutput.isBadRequest(mazeOutputList.get(3)));
+        assertTrue(RestOutput.isOK(mazeOutputList.get(4)));
+        assertEquals("C1", mazeOutputList.get(4).output().getEntrance());
+        assertFalse(mazeReader.isFailed());
+    }
+
+    @Test
+    public void stopAtMalformedPayload() {
+
+        RestReader<Maze> mazeReader;
+        List<RestOutput<Maze>> mazeOutputList;
+
+        // The mazes read before the payload breaks are kept
+        mazeReader = reader(MAZE_A1 + "\n{\"entrance\":\"C1\",\"gridSize\":\n" + MAZE_C1 + "\n");
+        mazeOutputList = readAll(mazeReader);
+
+        assertEquals(2, mazeOutputList.size());
+        assertTrue(RestOutput.isOK(mazeOutputList.get(0)));
+        assertTrue(RestOutput.isBadRequest(mazeOutputList.get(1)));
+        assertTrue(mazeReader.isFailed());
+    }
+}